@@ -0,0 +1,95 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MpscChunkedArrayQueue}와 JDK 큐의 다수 생산자/단일 소비자 처리량을 비교하는 벤치마크입니다.
+ * <p>
+ * 생산자 3개가 {@code offer}, 소비자 1개가 {@code poll}을 반복하며(이벤트 루프 작업 큐와 같은 구조),
+ * 그룹 단위 처리량(ops/us)을 측정합니다. {@code gradle jmh}로 실행합니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MpscQueueBenchmark {
+
+    private static final Runnable TASK = () -> {
+    };
+
+    /** 소비자가 따라가지 못할 때 큐가 무한히 커지지 않도록 하는 상한 */
+    private static final int MAX_PENDING = 1 << 16;
+
+    @Param({ "MpscChunkedArrayQueue", "ConcurrentLinkedQueue", "LinkedBlockingQueue" })
+    public String queueType;
+
+    private Queue<Runnable> queue;
+
+    @Setup
+    public void setup() {
+        switch (queueType) {
+            case "MpscChunkedArrayQueue":
+                queue = new MpscChunkedArrayQueue<>(1024, MAX_PENDING);
+                break;
+            case "ConcurrentLinkedQueue":
+                queue = new ConcurrentLinkedQueue<>();
+                break;
+            case "LinkedBlockingQueue":
+                queue = new LinkedBlockingQueue<>(MAX_PENDING);
+                break;
+            default:
+                throw new IllegalArgumentException("queueType: " + queueType);
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public boolean offer(ProducerState producer) {
+        if (queue instanceof ConcurrentLinkedQueue && (++producer.offers & 0xFFF) == 0) {
+            // ConcurrentLinkedQueue는 상한이 없고 size()가 O(n)이므로 가끔만 확인하여 소비자를 기다림
+            while (queue.size() > MAX_PENDING) {
+                Thread.onSpinWait();
+            }
+        }
+        return queue.offer(TASK);
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public Runnable poll() {
+        return queue.poll();
+    }
+
+    /**
+     * 생산자 스레드별 상태.
+     */
+    @State(Scope.Thread)
+    public static class ProducerState {
+        int offers;
+    }
+}
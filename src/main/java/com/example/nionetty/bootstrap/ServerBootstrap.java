@@ -3,6 +3,7 @@ package com.example.nionetty.bootstrap;
 import com.example.nionetty.channel.Channel;
 import com.example.nionetty.channel.ChannelFuture;
 import com.example.nionetty.channel.ChannelInitializer;
+import com.example.nionetty.channel.ChannelOption;
 import com.example.nionetty.channel.DefaultChannelConfig;
 import com.example.nionetty.channel.DefaultChannelId;
 import com.example.nionetty.channel.nio.NioServerSocketChannel;
@@ -10,6 +11,8 @@ import com.example.nionetty.eventloop.EventLoopGroup;
 
 import java.lang.reflect.Constructor;
 import java.net.InetSocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * {@code ServerBootstrap} 클래스는 Netty 스타일 서버를 초기화하는
@@ -33,6 +36,12 @@ public class ServerBootstrap {
     /** 신규 채널 초기화를 위한 핸들러 */
     private ChannelInitializer<?> channelInitializer;
 
+    /** 서버 채널에 적용할 옵션 */
+    private final Map<ChannelOption<?>, Object> options = new LinkedHashMap<>();
+
+    /** 수락된 자식 채널에 적용할 옵션 */
+    private final Map<ChannelOption<?>, Object> childOptions = new LinkedHashMap<>();
+
     /**
      * 기본 생성자.
      */
@@ -79,12 +88,55 @@ public class ServerBootstrap {
         return this;
     }
 
+    /**
+     * 서버 채널에 적용할 옵션을 설정합니다. 값이 null이면 해당 옵션을 제거합니다.
+     *
+     * @param option 옵션
+     * @param value  옵션 값
+     * @param <T>    옵션 값의 타입
+     * @return 현재 {@code ServerBootstrap} 인스턴스
+     */
+    public <T> ServerBootstrap option(ChannelOption<T> option, T value) {
+        if (option == null) {
+            throw new NullPointerException("option");
+        }
+        if (value == null) {
+            options.remove(option);
+        } else {
+            options.put(option, value);
+        }
+        return this;
+    }
+
+    /**
+     * 수락된 각 자식 채널에 적용할 옵션을 설정합니다. 값이 null이면 해당 옵션을 제거합니다.
+     * <p>
+     * 예: {@code childOption(ChannelOption.WRITE_SPIN_COUNT, 8)}
+     * </p>
+     *
+     * @param option 옵션
+     * @param value  옵션 값
+     * @param <T>    옵션 값의 타입
+     * @return 현재 {@code ServerBootstrap} 인스턴스
+     */
+    public <T> ServerBootstrap childOption(ChannelOption<T> option, T value) {
+        if (option == null) {
+            throw new NullPointerException("option");
+        }
+        if (value == null) {
+            childOptions.remove(option);
+        } else {
+            childOptions.put(option, value);
+        }
+        return this;
+    }
+
     /**
      * 지정한 포트로 서버를 바인딩하여 실행합니다.
      * <p>
-     * 실제 구현에서는 bossGroup을 이용하여 서버 소켓 채널을 생성하고, 채널 초기화 핸들러
-     * 를 이용해 새로 생성된 채널에 초기 설정을 적용한 후 workerGroup에 분배해야 합니다.
-     * 여기는 최소 구현 예제로 채널 생성과 초기화, 그리고 바인딩만 처리합니다.
+     * 서버 채널을 생성한 뒤 boss/worker 그룹과 자식 채널 초기화 핸들러를 전달하고 바인딩합니다.
+     * 서버 채널은 바인딩 후 bossGroup의 이벤트 루프에 등록되어 연결을 수락하며,
+     * 수락된 각 채널은 채널 초기화 핸들러로 파이프라인을 구성한 뒤 workerGroup에 분배됩니다.
      * </p>
      *
      * @param port 서버가 바인딩할 포트 번호
@@ -102,15 +154,17 @@ public class ServerBootstrap {
             // DefaultChannelId, DefaultChannelConfig를 이용해 채널 생성
             Channel channel = constructor.newInstance(new com.example.nionetty.channel.DefaultChannelId(),
                     new DefaultChannelConfig());
-
-
-            // 만약 채널이 NioServerSocketChannel이면 workerGroup 설정
-            if (channel instanceof NioServerSocketChannel && workerGroup != null) {
-                ((NioServerSocketChannel) channel).setWorkerGroup(workerGroup);
-            }
-
-            // 채널 초기화 핸들러가 있다면 파이프라인에 추가 및 초기화
-            if (channelInitializer != null) {
+            channel.config().setOptions(options);
+
+            if (channel instanceof NioServerSocketChannel) {
+                // 서버 채널: 연결 수락은 bossGroup, 자식 채널 I/O는 workerGroup이 담당
+                NioServerSocketChannel serverChannel = (NioServerSocketChannel) channel;
+                serverChannel.setBossGroup(bossGroup);
+                serverChannel.setWorkerGroup(workerGroup);
+                // 채널 초기화 핸들러는 수락된 자식 채널마다 파이프라인에 추가됨
+                serverChannel.setChildHandler(channelInitializer);
+                serverChannel.setChildOptions(new LinkedHashMap<>(childOptions));
+            } else if (channelInitializer != null) {
                 channel.pipeline().addLast(channelInitializer);
                 // ChannelInitializer 내부에서는 initChannel() 호출 후 자신을 제거하도록 구현되어 있음.
             }
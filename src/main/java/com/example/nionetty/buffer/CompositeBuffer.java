@@ -0,0 +1,524 @@
+package com.example.nionetty.buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * {@code CompositeBuffer} 클래스는 여러 {@link CustomBuffer}를 복사 없이 하나의 연속된 읽기 영역으로 보여 주는 버퍼입니다.
+ * <p>
+ * 여러 번의 읽기에 걸쳐 도착한 프레임 조각을 모을 때 조각을 커지는 버퍼 하나에 복사하는 대신 구성 요소로 추가하고,
+ * {@link #getByte(int)}/{@link #getInt(int)}로 헤더를 확인한 뒤 {@link #readRetainedSlice(int)}로 프레임을 잘라
+ * 전달합니다. 헤더와 본문처럼 따로 만든 버퍼를 함께 보낼 때도 하나로 합치지 않고 구성 요소로 묶어 쓰면, 송신 큐가
+ * {@link #nioBuffers()}로 각 영역을 gathering write 한 번에 전송합니다.
+ * </p>
+ * <p>
+ * 구성 요소는 추가될 때의 읽기 가능 영역만 참조하며, 컴포지트가 소유권을 넘겨받아 해제될 때 함께 해제합니다.
+ * 구성 요소가 {@code maxNumComponents}개를 넘으면 {@link #consolidate()}로 하나의 버퍼에 합쳐 조회 비용을
+ * 제한합니다. 컴포지트에는 쓰기 여유 공간이 없으며, {@link #write(byte[])} 등의 쓰기는 새 구성 요소를 추가합니다.
+ * {@link PooledBufferAllocator#compositeBuffer()}로 생성합니다.
+ * </p>
+ *
+ * <pre>
+ * // 길이 필드(4바이트) 기반 프레임 모으기
+ * cumulation.addComponent((CustomBuffer) msg);
+ * while (cumulation.readableBytes() &gt;= 4 &amp;&amp; cumulation.readableBytes() &gt;= 4 + cumulation.getInt(0)) {
+ *     int length = cumulation.getInt(0);
+ *     cumulation.skipBytes(4);
+ *     ctx.fireChannelRead(cumulation.readRetainedSlice(length));
+ * }
+ * cumulation.discardReadComponents();
+ * </pre>
+ *
+ * @see PooledBufferAllocator#compositeBuffer(int)
+ *
+ * @author
+ * @version 1.0
+ */
+public final class CompositeBuffer extends CustomBuffer {
+
+    /** 기본 최대 구성 요소 수 */
+    static final int DEFAULT_MAX_COMPONENTS = 16;
+
+    private static final ByteBuffer[] EMPTY_NIO_BUFFERS = new ByteBuffer[0];
+    private static final ByteBuffer EMPTY_NIO_BUFFER = ByteBuffer.allocate(0);
+
+    private final int maxNumComponents;
+
+    /** 구성 요소 배열 (앞의 {@code componentCount}개만 유효) */
+    private Component[] components = new Component[4];
+    private int componentCount;
+
+    /** 마지막으로 조회한 구성 요소 (순차 접근 시 탐색 생략) */
+    private Component lastAccessed;
+
+    CompositeBuffer(PooledBufferAllocator allocator, int maxNumComponents) {
+        super(allocator);
+        if (maxNumComponents < 1) {
+            throw new IllegalArgumentException("maxNumComponents must be positive: " + maxNumComponents);
+        }
+        this.maxNumComponents = maxNumComponents;
+    }
+
+    /**
+     * 버퍼의 읽기 가능 영역을 마지막 구성 요소로 추가합니다.
+     * <p>
+     * 컴포지트가 버퍼의 소유권을 넘겨받으므로 호출한 쪽은 버퍼를 해제하거나 수정해서는 안 됩니다.
+     * 읽을 데이터가 없는 버퍼는 추가하지 않고 바로 해제합니다.
+     * </p>
+     *
+     * @param buf 추가할 버퍼
+     * @return 현재 버퍼
+     */
+    public CompositeBuffer addComponent(CustomBuffer buf) {
+        if (buf == null) {
+            throw new NullPointerException("buf");
+        }
+        try {
+            ensureAccessible();
+        } catch (RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+        int length = buf.readableBytes();
+        if (length == 0) {
+            buf.release();
+            return this;
+        }
+        if (buf instanceof CompositeBuffer) {
+            // 중첩하지 않고 구성 요소를 그대로 옮김
+            CompositeBuffer composite = (CompositeBuffer) buf;
+            try {
+                int start = composite.readIndex;
+                for (int i = composite.componentIndex(start); start < composite.writeIndex; i++) {
+                    Component c = composite.components[i];
+                    int len = c.endOffset - start;
+                    addComponent0(c.buf.retain(), c.srcIndex + start - c.offset, len);
+                    start += len;
+                }
+            } finally {
+                composite.release();
+            }
+            return this;
+        }
+        addComponent0(buf, buf.readIndex, length);
+        return this;
+    }
+
+    /**
+     * 여러 버퍼를 순서대로 구성 요소로 추가합니다.
+     *
+     * @param bufs 추가할 버퍼들
+     * @return 현재 버퍼
+     * @see #addComponent(CustomBuffer)
+     */
+    public CompositeBuffer addComponents(CustomBuffer... bufs) {
+        for (CustomBuffer buf : bufs) {
+            addComponent(buf);
+        }
+        return this;
+    }
+
+    private void addComponent0(CustomBuffer buf, int srcIndex, int length) {
+        if (componentCount == maxNumComponents) {
+            consolidate();
+        }
+        if (componentCount == components.length) {
+            components = Arrays.copyOf(components, componentCount << 1);
+        }
+        components[componentCount++] = new Component(buf, srcIndex, writeIndex, writeIndex + length);
+        writeIndex += length;
+        capacity = writeIndex;
+    }
+
+    /**
+     * 현재 구성 요소 수를 반환합니다.
+     *
+     * @return 구성 요소 수
+     */
+    public int numComponents() {
+        return componentCount;
+    }
+
+    /**
+     * 읽기 위치로부터 {@code index}번째 바이트를 반환합니다. 읽기 인덱스는 변경되지 않습니다.
+     *
+     * @param index 읽기 위치 기준 오프셋 ({@code 0 <= index < readableBytes()})
+     * @return 바이트 값
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public byte getByte(int index) {
+        ensureAccessible();
+        checkIndex(index, 1);
+        return byteAt(readIndex + index);
+    }
+
+    /**
+     * 읽기 위치로부터 {@code index}번째 바이트부터 4바이트를 big-endian 정수로 읽습니다.
+     * 읽기 인덱스는 변경되지 않습니다. 길이 필드가 구성 요소 경계에 걸쳐 있어도 됩니다.
+     *
+     * @param index 읽기 위치 기준 오프셋 ({@code 0 <= index <= readableBytes() - 4})
+     * @return 정수 값
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public int getInt(int index) {
+        ensureAccessible();
+        checkIndex(index, 4);
+        return (getByte(index) & 0xff) << 24
+                | (getByte(index + 1) & 0xff) << 16
+                | (getByte(index + 2) & 0xff) << 8
+                | getByte(index + 3) & 0xff;
+    }
+
+    /**
+     * 읽기 위치에서 {@code length} 바이트를 복사 없이 잘라 새 {@code CompositeBuffer}로 반환하고,
+     * 그만큼 읽기 인덱스를 옮깁니다.
+     * <p>
+     * 반환된 버퍼는 이 버퍼와 메모리를 공유하며 해당 구성 요소의 참조 카운트를 늘리므로, 이 버퍼와 별도로
+     * {@link #release()}해야 합니다.
+     * </p>
+     *
+     * @param length 잘라낼 바이트 수
+     * @return 잘라낸 영역을 담은 새 버퍼
+     * @throws IndexOutOfBoundsException 읽기 가능한 바이트 수보다 많이 자르려는 경우
+     */
+    public CompositeBuffer readRetainedSlice(int length) {
+        ensureAccessible();
+        checkIndex(0, length);
+        CompositeBuffer slice = allocator.compositeBuffer(maxNumComponents);
+        int start = readIndex;
+        int end = start + length;
+        for (int i = length == 0 ? componentCount : componentIndex(start); start < end; i++) {
+            Component c = components[i];
+            int len = Math.min(end, c.endOffset) - start;
+            slice.addComponent0(c.buf.retain(), c.srcIndex + start - c.offset, len);
+            start += len;
+        }
+        readIndex = end;
+        return slice;
+    }
+
+    /**
+     * 이미 모두 읽은 구성 요소를 해제하고 배열에서 제거합니다.
+     * 프레임을 모으는 동안 주기적으로 호출해 처리가 끝난 조각의 메모리를 반환합니다.
+     *
+     * @return 현재 버퍼
+     */
+    public CompositeBuffer discardReadComponents() {
+        ensureAccessible();
+        int n = 0;
+        while (n < componentCount && components[n].endOffset <= readIndex) {
+            components[n].buf.release();
+            n++;
+        }
+        if (n == 0) {
+            return this;
+        }
+        int shift = n < componentCount ? components[n].offset : readIndex;
+        System.arraycopy(components, n, components, 0, componentCount - n);
+        Arrays.fill(components, componentCount - n, componentCount, null);
+        componentCount -= n;
+        for (int i = 0; i < componentCount; i++) {
+            components[i].shift(shift);
+        }
+        readIndex -= shift;
+        writeIndex -= shift;
+        capacity = writeIndex;
+        lastAccessed = null;
+        return this;
+    }
+
+    /**
+     * 읽기 가능한 영역을 direct 버퍼 하나에 복사해 유일한 구성 요소로 만듭니다.
+     * <p>
+     * 구성 요소가 많아 조회가 느려졌거나 연속된 메모리가 필요한 API({@link #nioBuffer()})에 넘길 때 사용합니다.
+     * 이미 읽은 영역과 기존 구성 요소는 해제됩니다.
+     * </p>
+     *
+     * @return 현재 버퍼
+     */
+    public CompositeBuffer consolidate() {
+        ensureAccessible();
+        int length = readableBytes();
+        if (componentCount <= 1 && readIndex == 0) {
+            return this;
+        }
+        Component[] old = Arrays.copyOf(components, componentCount);
+        int oldCount = componentCount;
+        Arrays.fill(components, 0, componentCount, null);
+        componentCount = 0;
+        lastAccessed = null;
+        if (length > 0) {
+            CustomBuffer merged = allocator.directBuffer(length);
+            int start = readIndex;
+            for (int i = 0; i < oldCount; i++) {
+                Component c = old[i];
+                if (c.endOffset <= start) {
+                    continue;
+                }
+                int len = c.endOffset - start;
+                ByteBuffer src = c.buf.internalNioBuffer(c.srcIndex + start - c.offset, len);
+                merged.internalNioBuffer(start - readIndex, len).put(src);
+                start += len;
+            }
+            merged.writeIndex = length;
+            components[componentCount++] = new Component(merged, 0, 0, length);
+        }
+        for (int i = 0; i < oldCount; i++) {
+            old[i].buf.release();
+        }
+        readIndex = 0;
+        writeIndex = length;
+        capacity = length;
+        return this;
+    }
+
+    /**
+     * 읽기 가능한 영역을 구성 요소별 {@link ByteBuffer} 뷰 배열로 반환합니다.
+     * <p>
+     * 뷰는 구성 요소의 메모리를 공유하므로(복사 없음) {@link GatheringByteChannel#write(ByteBuffer[])}로
+     * 한 번에 전송할 수 있습니다. 뷰의 위치를 옮겨도 이 버퍼의 인덱스는 바뀌지 않으므로 전송한 만큼
+     * {@link #skipBytes(int)}로 맞춥니다. 버퍼가 해제된 후에는 뷰를 사용해서는 안 됩니다.
+     * </p>
+     *
+     * @return 읽기 가능한 영역의 뷰 배열 (읽을 데이터가 없으면 빈 배열)
+     */
+    public ByteBuffer[] nioBuffers() {
+        ensureAccessible();
+        if (readableBytes() == 0) {
+            return EMPTY_NIO_BUFFERS;
+        }
+        return nioBuffers(readIndex, writeIndex);
+    }
+
+    /**
+     * {@code [start, end)} 절대 인덱스 범위를 구성 요소별 뷰 배열로 반환합니다.
+     */
+    private ByteBuffer[] nioBuffers(int start, int end) {
+        int first = componentIndex(start);
+        ByteBuffer[] nioBuffers = new ByteBuffer[componentIndex(end - 1) - first + 1];
+        for (int i = 0; start < end; i++) {
+            Component c = components[first + i];
+            int len = Math.min(end, c.endOffset) - start;
+            nioBuffers[i] = c.buf.internalNioBuffer(c.srcIndex + start - c.offset, len).slice();
+            start += len;
+        }
+        return nioBuffers;
+    }
+
+    /**
+     * 읽기 가능한 영역을 가리키는 {@link ByteBuffer} 뷰 하나를 반환합니다.
+     * 구성 요소가 여러 개이면 먼저 {@link #consolidate()}로 합치므로 한 번 복사가 일어납니다.
+     * 복사 없이 전송하려면 {@link #nioBuffers()}를 사용합니다.
+     */
+    @Override
+    public ByteBuffer nioBuffer() {
+        ensureAccessible();
+        if (componentCount > 1) {
+            consolidate();
+        }
+        if (componentCount == 0) {
+            return EMPTY_NIO_BUFFER.duplicate();
+        }
+        Component c = components[0];
+        int from = readIndex - c.offset;
+        return c.buf.internalNioBuffer(c.srcIndex + from, readableBytes()).slice();
+    }
+
+    /**
+     * 읽기 가능한 데이터 중 최대 {@code length} 바이트를 gathering write로 채널에 씁니다.
+     * 실제로 쓴 만큼 읽기 인덱스가 증가합니다.
+     */
+    @Override
+    public int readBytes(GatheringByteChannel out, int length) throws IOException {
+        ensureAccessible();
+        length = Math.min(length, readableBytes());
+        if (length == 0) {
+            return 0;
+        }
+        int written = (int) out.write(nioBuffers(readIndex, readIndex + length));
+        readIndex += written;
+        return written;
+    }
+
+    /**
+     * 데이터를 새 구성 요소(direct 버퍼)에 복사해 끝에 추가합니다.
+     */
+    @Override
+    public int write(byte[] data) {
+        ensureAccessible();
+        if (data.length == 0) {
+            return 0;
+        }
+        CustomBuffer buf = allocator.directBuffer(data.length);
+        buf.write(data);
+        addComponent(buf);
+        return data.length;
+    }
+
+    /**
+     * 채널에서 최대 {@code length} 바이트를 새 구성 요소로 읽어 끝에 추가합니다.
+     */
+    @Override
+    public int writeBytes(ScatteringByteChannel in, int length) throws IOException {
+        ensureAccessible();
+        CustomBuffer buf = allocator.directBuffer(Math.max(length, 1));
+        int bytesRead;
+        try {
+            bytesRead = buf.writeBytes(in, length);
+        } catch (IOException | RuntimeException e) {
+            buf.release();
+            throw e;
+        }
+        if (bytesRead > 0) {
+            addComponent(buf);
+        } else {
+            buf.release();
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public String toString(Charset charset) {
+        ensureAccessible();
+        int length = readableBytes();
+        byte[] bytes = new byte[length];
+        getBytes(readIndex, bytes, 0, length);
+        return new String(bytes, charset);
+    }
+
+    /**
+     * 모든 구성 요소를 해제하고 빈 버퍼로 되돌립니다.
+     */
+    @Override
+    public void reset() {
+        ensureAccessible();
+        releaseComponents();
+        readIndex = 0;
+        writeIndex = 0;
+        capacity = 0;
+    }
+
+    /**
+     * 모든 구성 요소가 direct 버퍼이면 {@code true}를 반환합니다.
+     */
+    @Override
+    public boolean isDirect() {
+        for (int i = 0; i < componentCount; i++) {
+            if (!components[i].buf.isDirect()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    void getBytes(int index, byte[] dst, int dstIndex, int length) {
+        int end = index + length;
+        for (int i = length == 0 ? componentCount : componentIndex(index); index < end; i++) {
+            Component c = components[i];
+            int len = Math.min(end, c.endOffset) - index;
+            c.buf.getBytes(c.srcIndex + index - c.offset, dst, dstIndex, len);
+            index += len;
+            dstIndex += len;
+        }
+    }
+
+    @Override
+    byte byteAt(int index) {
+        Component c = findComponent(index);
+        return c.buf.byteAt(c.srcIndex + index - c.offset);
+    }
+
+    // 컴포지트는 연속된 메모리가 없으므로 단일 영역 접근은 지원하지 않음 (공개 메서드가 모두 재정의함)
+    @Override
+    void setBytes(int index, byte[] src, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    ByteBuffer internalNioBuffer(int index, int length) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    void deallocate() {
+        super.deallocate();
+        releaseComponents();
+    }
+
+    private void releaseComponents() {
+        for (int i = 0; i < componentCount; i++) {
+            components[i].buf.release();
+            components[i] = null;
+        }
+        componentCount = 0;
+        lastAccessed = null;
+    }
+
+    private void checkIndex(int index, int length) {
+        if (index < 0 || length < 0 || index + length > readableBytes()) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length
+                    + " (expected: range(0, " + readableBytes() + "))");
+        }
+    }
+
+    /**
+     * 절대 인덱스 위치의 바이트를 담은 구성 요소를 찾습니다.
+     */
+    private Component findComponent(int index) {
+        Component la = lastAccessed;
+        if (la != null && index >= la.offset && index < la.endOffset) {
+            return la;
+        }
+        Component c = components[componentIndex(index)];
+        lastAccessed = c;
+        return c;
+    }
+
+    /**
+     * 절대 인덱스 위치의 바이트를 담은 구성 요소의 배열 인덱스를 이진 탐색으로 찾습니다.
+     */
+    private int componentIndex(int index) {
+        int low = 0;
+        int high = componentCount - 1;
+        while (low <= high) {
+            int mid = low + high >>> 1;
+            Component c = components[mid];
+            if (index >= c.endOffset) {
+                low = mid + 1;
+            } else if (index < c.offset) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        throw new IndexOutOfBoundsException("index: " + index + " (expected: range(0, " + writeIndex + "))");
+    }
+
+    /**
+     * 구성 요소 하나. 버퍼의 {@code [srcIndex, srcIndex + (endOffset - offset))} 영역이 컴포지트의
+     * {@code [offset, endOffset)} 절대 인덱스 범위에 대응합니다.
+     */
+    private static final class Component {
+        final CustomBuffer buf;
+        final int srcIndex;
+        int offset;
+        int endOffset;
+
+        Component(CustomBuffer buf, int srcIndex, int offset, int endOffset) {
+            this.buf = buf;
+            this.srcIndex = srcIndex;
+            this.offset = offset;
+            this.endOffset = endOffset;
+        }
+
+        void shift(int delta) {
+            offset -= delta;
+            endOffset -= delta;
+        }
+    }
+}
@@ -1,5 +1,16 @@
 package com.example.nionetty.buffer;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import com.example.nionetty.util.IllegalReferenceCountException;
+import com.example.nionetty.util.ReferenceCounted;
+import com.example.nionetty.util.ResourceLeakDetector;
+
 /**
  * {@code CustomBuffer} 클래스는 효율적인 네트워크 I/O 처리를 위해
  * 사용자 정의 버퍼를 구현한 클래스입니다.
@@ -7,25 +18,63 @@ package com.example.nionetty.buffer;
  * 내부적으로 바이트 배열을 사용하여 데이터를 저장하며, 필요 시 자동으로
  * 버퍼 용량을 확장합니다. 또한 읽기/쓰기 인덱스를 관리하여 데이터의 흐름을 제어합니다.
  * </p>
+ * <p>
+ * 생성자로 만든 버퍼는 전용 배열을 가지며, {@link PooledBufferAllocator}에서 대여한 버퍼는
+ * 풀 청크의 일부 영역({@code offset}부터 {@code capacity}바이트)을 사용합니다.
+ * 대여한 버퍼는 사용 후 {@link #release()}로 할당기에 반환해야 합니다.
+ * 소켓 I/O에는 같은 인덱스 API를 갖는 direct 메모리 구현({@link DirectCustomBuffer})을 사용할 수 있습니다.
+ * </p>
+ * <p>
+ * 버퍼는 {@link ReferenceCounted}이며 참조 카운트 1로 생성됩니다. 여러 곳에서 공유할 때는
+ * {@link #retain()}으로 카운트를 늘리고, 각 사용처가 {@link #release()}를 호출합니다.
+ * 카운트가 0이 되면 풀 메모리가 반환되고, 이후 읽기/쓰기는
+ * {@link IllegalReferenceCountException}으로 실패합니다. 대여한 버퍼 중 일부는
+ * {@link ResourceLeakDetector}가 샘플링하여 해제 없이 GC되는 경우를 보고합니다.
+ * </p>
  *
  * 주요 기능:
  * <ul>
  * <li>데이터 쓰기 및 읽기</li>
  * <li>쓰기 가능 공간 확보를 위한 자동 버퍼 확장</li>
  * <li>읽기/쓰기 인덱스 리셋 기능</li>
+ * <li>소켓 채널로부터 버퍼로 직접 읽기</li>
  * </ul>
  *
  * @author
  * @version 1.0
  */
-public class CustomBuffer {
+public class CustomBuffer implements ReferenceCounted {
+
+    private static final AtomicIntegerFieldUpdater<CustomBuffer> REFCNT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(CustomBuffer.class, "refCnt");
 
-    /** 내부 바이트 배열 버퍼 */
-    private byte[] buffer;
+    /** 내부 바이트 배열 버퍼 (풀링된 경우 청크 전체 배열, direct 버퍼는 null) */
+    byte[] buffer;
+    /** 배열 내에서 이 버퍼 영역의 시작 위치 */
+    int offset;
+    /** 현재 용량 */
+    int capacity;
+    /** 재할당 없이 늘릴 수 있는 최대 용량 (풀링된 경우 정규화된 영역 크기) */
+    int maxLength;
     /** 읽기 인덱스 */
-    private int readIndex;
+    int readIndex;
     /** 쓰기 인덱스 */
-    private int writeIndex;
+    int writeIndex;
+
+    /** 버퍼를 대여해 준 할당기 (풀링되지 않은 경우 null) */
+    final PooledBufferAllocator allocator;
+    /** 메모리가 속한 풀 청크 (반환 후 또는 풀링되지 않은 경우 null) */
+    PoolChunk<?> chunk;
+    /** 청크 내 할당 핸들 */
+    long handle;
+
+    /** 소켓 I/O에 사용할 캐시된 {@link ByteBuffer} 래퍼 */
+    private ByteBuffer tmpNioBuf;
+
+    /** 참조 카운트 */
+    private volatile int refCnt = 1;
+    /** 누수 추적기 (샘플링되지 않은 경우 null) */
+    ResourceLeakDetector.Tracker<CustomBuffer> leak;
 
     /**
      * 기본 생성자.
@@ -45,11 +94,60 @@ public class CustomBuffer {
         if (capacity <= 0) {
             throw new IllegalArgumentException("Buffer capacity must be positive");
         }
+        this.allocator = null;
         this.buffer = new byte[capacity];
+        this.offset = 0;
+        this.capacity = capacity;
+        this.maxLength = capacity;
+        this.readIndex = 0;
+        this.writeIndex = 0;
+    }
+
+    /**
+     * 할당기 전용 생성자. 메모리는 {@link #init}으로 연결됩니다.
+     *
+     * @param allocator 이 버퍼를 대여하는 할당기
+     */
+    CustomBuffer(PooledBufferAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * 풀 청크의 영역을 이 버퍼에 연결하고 인덱스를 초기화합니다.
+     */
+    void init(PoolChunk<?> chunk, long handle, int offset, int length, int maxLength) {
+        this.chunk = chunk;
+        this.handle = handle;
+        initMemory(chunk.memory);
+        this.offset = offset;
+        this.capacity = length;
+        this.maxLength = maxLength;
         this.readIndex = 0;
         this.writeIndex = 0;
     }
 
+    /**
+     * 청크 메모리를 이 버퍼에 연결합니다.
+     */
+    void initMemory(Object memory) {
+        this.buffer = (byte[]) memory;
+    }
+
+    /**
+     * 메모리가 반환된 후 청크 메모리에 대한 참조를 끊습니다.
+     */
+    void clearMemory() {
+        this.buffer = null;
+    }
+
+    /**
+     * 재사용된 버퍼 객체의 참조 카운트를 1로 되돌리고 누수 추적기를 연결합니다.
+     */
+    void reuse(ResourceLeakDetector.Tracker<CustomBuffer> leak) {
+        REFCNT_UPDATER.set(this, 1);
+        this.leak = leak;
+    }
+
     /**
      * 주어진 데이터를 버퍼에 기록합니다.
      *
@@ -57,13 +155,86 @@ public class CustomBuffer {
      * @return 실제로 기록된 바이트 수
      */
     public int write(byte[] data) {
+        ensureAccessible();
         int length = data.length;
         ensureWritable(length);
-        System.arraycopy(data, 0, buffer, writeIndex, length);
+        setBytes(writeIndex, data, length);
         writeIndex += length;
         return length;
     }
 
+    /**
+     * 채널에서 최대 {@code length} 바이트를 읽어 버퍼에 기록합니다.
+     * <p>
+     * 중간 바이트 배열 없이 버퍼의 내부 메모리로 바로 읽어들입니다.
+     * </p>
+     *
+     * @param in     데이터를 읽을 채널 (예: {@link java.nio.channels.SocketChannel})
+     * @param length 읽을 최대 바이트 수
+     * @return 실제로 읽은 바이트 수, 스트림이 끝났다면 -1
+     * @throws IOException 채널 읽기 중 발생할 수 있는 예외
+     */
+    public int writeBytes(ScatteringByteChannel in, int length) throws IOException {
+        ensureAccessible();
+        ensureWritable(length);
+        int bytesRead = in.read(internalNioBuffer(writeIndex, length));
+        if (bytesRead > 0) {
+            writeIndex += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    /**
+     * 읽기 가능한 데이터 중 최대 {@code length} 바이트를 채널에 씁니다.
+     * <p>
+     * 중간 바이트 배열 없이 버퍼의 내부 메모리에서 바로 씁니다. 실제로 쓴 만큼 읽기 인덱스가 증가합니다.
+     * </p>
+     *
+     * @param out    데이터를 쓸 채널 (예: {@link java.nio.channels.SocketChannel})
+     * @param length 쓸 최대 바이트 수
+     * @return 실제로 쓴 바이트 수
+     * @throws IOException 채널 쓰기 중 발생할 수 있는 예외
+     */
+    public int readBytes(GatheringByteChannel out, int length) throws IOException {
+        ensureAccessible();
+        length = Math.min(length, readableBytes());
+        int written = out.write(internalNioBuffer(readIndex, length));
+        readIndex += written;
+        return written;
+    }
+
+    /**
+     * 읽기 가능한 영역을 가리키는 새 {@link ByteBuffer} 뷰를 반환합니다.
+     * <p>
+     * 뷰는 버퍼의 메모리를 공유하며(복사 없음), 뷰의 위치를 옮겨도 이 버퍼의 인덱스는 바뀌지 않습니다.
+     * gathering write처럼 여러 버퍼의 영역을 한 번에 채널에 넘길 때 사용하며, 전송한 만큼
+     * {@link #skipBytes(int)}로 읽기 인덱스를 맞춥니다. 버퍼가 해제된 후에는 뷰를 사용해서는 안 됩니다.
+     * </p>
+     *
+     * @return 읽기 가능한 영역의 {@link ByteBuffer} 뷰
+     */
+    public ByteBuffer nioBuffer() {
+        ensureAccessible();
+        return internalNioBuffer(readIndex, readableBytes()).slice();
+    }
+
+    /**
+     * 읽기 인덱스를 지정한 바이트 수만큼 앞으로 옮깁니다.
+     *
+     * @param length 건너뛸 바이트 수
+     * @return 현재 버퍼
+     * @throws IndexOutOfBoundsException 읽기 가능한 바이트 수보다 많이 건너뛰려는 경우
+     */
+    public CustomBuffer skipBytes(int length) {
+        ensureAccessible();
+        if (length < 0 || length > readableBytes()) {
+            throw new IndexOutOfBoundsException(
+                    "length: " + length + " (expected: 0 <= length <= readableBytes(" + readableBytes() + "))");
+        }
+        readIndex += length;
+        return this;
+    }
+
     /**
      * 버퍼에서 지정된 길이의 데이터를 읽어옵니다.
      *
@@ -71,29 +242,88 @@ public class CustomBuffer {
      * @return 읽어온 데이터가 담긴 바이트 배열
      */
     public byte[] read(int length) {
+        ensureAccessible();
         int available = writeIndex - readIndex;
         if (length > available) {
             length = available;
         }
         byte[] output = new byte[length];
-        System.arraycopy(buffer, readIndex, output, 0, length);
+        getBytes(readIndex, output, 0, length);
         readIndex += length;
         return output;
     }
 
+    /**
+     * 읽기 가능한 영역을 지정한 문자셋으로 디코딩합니다. 읽기 인덱스는 변경되지 않습니다.
+     *
+     * @param charset 디코딩에 사용할 문자셋
+     * @return 디코딩된 문자열
+     */
+    public String toString(Charset charset) {
+        ensureAccessible();
+        return new String(buffer, offset + readIndex, readableBytes(), charset);
+    }
+
+    /**
+     * 배열의 앞 {@code length} 바이트를 {@code index} 위치에 복사합니다.
+     */
+    void setBytes(int index, byte[] src, int length) {
+        System.arraycopy(src, 0, buffer, offset + index, length);
+    }
+
+    /**
+     * {@code index} 위치부터 {@code length} 바이트를 배열의 {@code dstIndex} 위치로 복사합니다.
+     */
+    void getBytes(int index, byte[] dst, int dstIndex, int length) {
+        System.arraycopy(buffer, offset + index, dst, dstIndex, length);
+    }
+
+    /**
+     * {@code index} 위치의 바이트를 반환합니다.
+     */
+    byte byteAt(int index) {
+        return buffer[offset + index];
+    }
+
     /**
      * 버퍼에 추가 데이터를 기록할 공간이 부족할 경우, 내부 버퍼 용량을 확장합니다.
      *
      * @param minWritableBytes 필요한 추가 공간 (바이트 단위)
      */
     private void ensureWritable(int minWritableBytes) {
-        if (writeIndex + minWritableBytes > buffer.length) {
+        if (writeIndex + minWritableBytes > capacity) {
             // 현재 용량 부족: 기존 용량의 2배 또는 최소 필요한 크기 중 큰 값으로 확장
-            int newCapacity = Math.max(buffer.length * 2, writeIndex + minWritableBytes);
+            int newCapacity = Math.max(capacity * 2, writeIndex + minWritableBytes);
+            if (chunk != null) {
+                if (newCapacity <= maxLength) {
+                    // 정규화로 인해 이미 확보된 영역 안에서는 복사 없이 용량만 늘림
+                    capacity = newCapacity;
+                } else {
+                    chunk.arena.reallocate(this, newCapacity);
+                }
+                return;
+            }
             byte[] newBuffer = new byte[newCapacity];
-            System.arraycopy(buffer, 0, newBuffer, 0, writeIndex);
+            System.arraycopy(buffer, offset, newBuffer, 0, writeIndex);
             buffer = newBuffer;
+            offset = 0;
+            capacity = newCapacity;
+            maxLength = newCapacity;
+        }
+    }
+
+    /**
+     * 지정한 영역을 가리키는 {@link ByteBuffer}를 반환합니다. 반환된 객체는 재사용되므로
+     * 다음 호출 전까지만 유효합니다.
+     */
+    ByteBuffer internalNioBuffer(int index, int length) {
+        ByteBuffer nioBuf = tmpNioBuf;
+        if (nioBuf == null || nioBuf.array() != buffer) {
+            nioBuf = ByteBuffer.wrap(buffer);
+            tmpNioBuf = nioBuf;
         }
+        nioBuf.clear().position(offset + index).limit(offset + index + length);
+        return nioBuf;
     }
 
     /**
@@ -117,12 +347,153 @@ public class CustomBuffer {
         return writeIndex - readIndex;
     }
 
+    /**
+     * 확장 없이 기록할 수 있는 바이트 수를 반환합니다.
+     *
+     * @return 기록 가능한 바이트 수
+     */
+    public int writableBytes() {
+        return capacity - writeIndex;
+    }
+
+    /**
+     * 이 버퍼가 direct(off-heap) 메모리를 사용하는지 여부를 반환합니다.
+     *
+     * @return direct 버퍼이면 {@code true}
+     */
+    public boolean isDirect() {
+        return false;
+    }
+
     /**
      * 버퍼의 전체 용량(현재 할당된 크기)을 반환합니다.
      *
      * @return 버퍼의 전체 용량 (바이트 단위)
      */
     public int capacity() {
-        return buffer.length;
+        return capacity;
+    }
+
+    @Override
+    public int refCnt() {
+        return refCnt;
+    }
+
+    @Override
+    public CustomBuffer retain() {
+        return retain0(1);
+    }
+
+    @Override
+    public CustomBuffer retain(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("increment must be positive: " + increment);
+        }
+        return retain0(increment);
+    }
+
+    private CustomBuffer retain0(int increment) {
+        for (;;) {
+            int cnt = refCnt;
+            int next = cnt + increment;
+            // 이미 해제되었거나 오버플로우
+            if (cnt <= 0 || next <= 0) {
+                throw new IllegalReferenceCountException(cnt, increment);
+            }
+            if (REFCNT_UPDATER.compareAndSet(this, cnt, next)) {
+                break;
+            }
+        }
+        recordAccess(null);
+        return this;
+    }
+
+    @Override
+    public CustomBuffer touch() {
+        return touch(null);
+    }
+
+    @Override
+    public CustomBuffer touch(Object hint) {
+        recordAccess(hint);
+        return this;
+    }
+
+    /**
+     * 참조 카운트를 1 감소시키고, 0이 되면 버퍼의 메모리를 할당기에 반환합니다.
+     * <p>
+     * {@link PooledBufferAllocator}에서 대여한 버퍼는 메모리가 반환된 후 다른 요청에 재사용되므로
+     * 더 이상 접근해서는 안 됩니다.
+     * </p>
+     *
+     * @return 이 호출로 메모리가 반환되었으면 {@code true}
+     * @throws IllegalReferenceCountException 이미 해제된 버퍼인 경우
+     */
+    @Override
+    public boolean release() {
+        return release0(1);
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        if (decrement <= 0) {
+            throw new IllegalArgumentException("decrement must be positive: " + decrement);
+        }
+        return release0(decrement);
+    }
+
+    private boolean release0(int decrement) {
+        for (;;) {
+            int cnt = refCnt;
+            if (cnt < decrement) {
+                throw new IllegalReferenceCountException(cnt, -decrement);
+            }
+            if (REFCNT_UPDATER.compareAndSet(this, cnt, cnt - decrement)) {
+                if (cnt == decrement) {
+                    deallocate();
+                    return true;
+                }
+                recordAccess(null);
+                return false;
+            }
+        }
+    }
+
+    private void recordAccess(Object hint) {
+        ResourceLeakDetector.Tracker<CustomBuffer> leak = this.leak;
+        if (leak != null) {
+            leak.record(hint);
+        }
+    }
+
+    void ensureAccessible() {
+        if (refCnt == 0) {
+            throw new IllegalReferenceCountException(0);
+        }
+    }
+
+    /**
+     * 참조 카운트가 0이 되었을 때 메모리를 할당기에 반환합니다.
+     * 생성자로 만든 버퍼는 반환할 메모리가 없습니다.
+     */
+    void deallocate() {
+        ResourceLeakDetector.Tracker<CustomBuffer> leak = this.leak;
+        if (leak != null) {
+            this.leak = null;
+            leak.close(this);
+        }
+        PoolChunk<?> chunk = this.chunk;
+        if (chunk == null) {
+            return;
+        }
+        this.chunk = null;
+        // tmpNioBuf는 다음 대여 시 같은 청크 메모리이면 재사용되도록 유지
+        clearMemory();
+        free(chunk, handle);
+        allocator.recycle(this);
+    }
+
+    private static <T> void free(PoolChunk<T> chunk, long handle) {
+        chunk.arena.free(chunk, handle);
     }
 }
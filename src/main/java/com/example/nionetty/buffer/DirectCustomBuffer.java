@@ -0,0 +1,84 @@
+package com.example.nionetty.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * {@code DirectCustomBuffer} 클래스는 direct(off-heap) 메모리를 사용하는 {@link CustomBuffer} 구현입니다.
+ * <p>
+ * heap 버퍼를 {@link java.nio.channels.SocketChannel}에 넘기면 JDK가 내부 임시 direct 버퍼로 한 번 더
+ * 복사하지만, 이 버퍼는 청크의 direct {@link ByteBuffer} 영역을 그대로 넘기므로 I/O마다 복사가 한 번 줄어듭니다.
+ * 읽기/쓰기 인덱스 API는 {@link CustomBuffer}와 동일하며,
+ * {@link PooledBufferAllocator#directBuffer(int)}로만 생성됩니다.
+ * </p>
+ *
+ * @see PooledBufferAllocator#directBuffer(int)
+ *
+ * @author
+ * @version 1.0
+ */
+final class DirectCustomBuffer extends CustomBuffer {
+
+    /** 청크 전체 direct 메모리 */
+    private ByteBuffer memory;
+    /** 소켓 I/O에 사용할 캐시된 {@code memory}의 복제본 */
+    private ByteBuffer tmpNioBuf;
+    /** {@code tmpNioBuf}가 복제한 원본 메모리 */
+    private ByteBuffer tmpNioBufMemory;
+
+    DirectCustomBuffer(PooledBufferAllocator allocator) {
+        super(allocator);
+    }
+
+    @Override
+    void initMemory(Object memory) {
+        this.memory = (ByteBuffer) memory;
+    }
+
+    @Override
+    void clearMemory() {
+        this.memory = null;
+    }
+
+    @Override
+    void setBytes(int index, byte[] src, int length) {
+        memory.put(offset + index, src, 0, length);
+    }
+
+    @Override
+    void getBytes(int index, byte[] dst, int dstIndex, int length) {
+        memory.get(offset + index, dst, dstIndex, length);
+    }
+
+    @Override
+    byte byteAt(int index) {
+        return memory.get(offset + index);
+    }
+
+    @Override
+    ByteBuffer internalNioBuffer(int index, int length) {
+        ByteBuffer nioBuf = tmpNioBuf;
+        if (nioBuf == null || tmpNioBufMemory != memory) {
+            // 위치/한계를 독립적으로 조정할 수 있도록 청크 메모리를 복제 (메모리 자체는 공유)
+            nioBuf = memory.duplicate();
+            tmpNioBuf = nioBuf;
+            tmpNioBufMemory = memory;
+        }
+        nioBuf.clear().position(offset + index).limit(offset + index + length);
+        return nioBuf;
+    }
+
+    @Override
+    public String toString(Charset charset) {
+        ensureAccessible();
+        int length = readableBytes();
+        byte[] bytes = new byte[length];
+        getBytes(readIndex, bytes, 0, length);
+        return new String(bytes, charset);
+    }
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.nionetty.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code PoolArena} 클래스는 여러 {@link PoolChunk}를 묶어 크기별(size class) 할당을 수행하는 메모리 아레나입니다.
+ * <p>
+ * 요청 크기는 다음과 같이 정규화됩니다.
+ * </p>
+ * <ul>
+ * <li>small: 페이지 크기 미만 &rarr; 16바이트 이상의 2의 거듭제곱, {@link PoolSubpage}에서 원소 단위로 할당</li>
+ * <li>normal: 페이지 크기 이상, 청크 크기 이하 &rarr; 2의 거듭제곱, 청크의 버디 트리에서 페이지 런으로 할당</li>
+ * <li>huge: 청크 크기 초과 &rarr; 풀링하지 않고 요청 크기 그대로 할당</li>
+ * </ul>
+ * <p>
+ * 여러 스레드가 하나의 아레나를 공유할 수 있으므로 풀 상태 변경은 아레나 락으로 보호합니다.
+ * {@link PooledBufferAllocator}는 스레드마다 아레나를 고정 배정하여 락 경합을 줄입니다.
+ * </p>
+ *
+ * @param <T> 청크 메모리 타입 (heap: {@code byte[]}, direct: {@link ByteBuffer})
+ */
+abstract class PoolArena<T> {
+
+    /** small 크기 클래스의 최소 원소 크기 */
+    static final int MIN_ELEM_SIZE = 16;
+
+    final PooledBufferAllocator parent;
+    final int pageSize;
+    final int maxOrder;
+    final int pageShifts;
+    final int chunkSize;
+
+    private final PoolSubpage<T>[] smallSubpagePools;
+    private final List<PoolChunk<T>> chunks = new ArrayList<>();
+
+    /** 이 아레나에 배정된 스레드 수 (스레드 배정 시 가장 한가한 아레나를 고르는 데 사용) */
+    final AtomicInteger numThreadCaches = new AtomicInteger();
+
+    // 아레나 락으로 보호되는 통계
+    private long allocationsSmall;
+    private long allocationsNormal;
+    private long deallocationsSmall;
+    private long deallocationsNormal;
+    private long chunkAllocations;
+
+    // huge 할당은 락 없이 수행되므로 별도 카운터 사용
+    private final LongAdder allocationsHuge = new LongAdder();
+    private final LongAdder deallocationsHuge = new LongAdder();
+    private final LongAdder activeBytesHuge = new LongAdder();
+
+    protected PoolArena(PooledBufferAllocator parent, int pageSize, int maxOrder) {
+        this.parent = parent;
+        this.pageSize = pageSize;
+        this.maxOrder = maxOrder;
+        this.pageShifts = PoolChunk.log2(pageSize);
+        this.chunkSize = pageSize << maxOrder;
+
+        int numSmallPools = pageShifts - PoolChunk.log2(MIN_ELEM_SIZE);
+        this.smallSubpagePools = PoolSubpage.newSubpageArray(numSmallPools);
+        for (int i = 0; i < numSmallPools; i++) {
+            smallSubpagePools[i] = new PoolSubpage<>(pageSize);
+        }
+    }
+
+    /**
+     * 새 청크 메모리를 생성합니다.
+     */
+    protected abstract PoolChunk<T> newChunk(int pageSize, int maxOrder, int pageShifts, int chunkSize);
+
+    /**
+     * huge 요청을 위한 비풀링 청크를 생성합니다.
+     */
+    protected abstract PoolChunk<T> newUnpooledChunk(int capacity);
+
+    /**
+     * 두 메모리 영역 사이에서 데이터를 복사합니다 (재할당 시 사용).
+     */
+    protected abstract void memoryCopy(T src, int srcOffset, T dst, int dstOffset, int length);
+
+    /**
+     * 요청 크기 이상의 메모리를 할당하여 버퍼에 연결합니다.
+     *
+     * @param buf         메모리를 연결할 버퍼
+     * @param reqCapacity 요청 크기
+     */
+    void allocate(CustomBuffer buf, int reqCapacity) {
+        int normCapacity = normalizeCapacity(reqCapacity);
+        if (normCapacity > chunkSize) {
+            allocateHuge(buf, reqCapacity);
+            return;
+        }
+        synchronized (this) {
+            if (normCapacity < pageSize) {
+                allocationsSmall++;
+                PoolSubpage<T> head = findSubpagePoolHead(normCapacity);
+                PoolSubpage<T> s = head.next;
+                if (s != head) {
+                    // 같은 크기 클래스의 서브페이지에 빈 원소가 있으면 바로 사용
+                    long handle = s.allocate();
+                    initBuf(buf, s.chunk, handle, reqCapacity);
+                    return;
+                }
+            } else {
+                allocationsNormal++;
+            }
+            allocateNormal(buf, reqCapacity, normCapacity);
+        }
+    }
+
+    private void allocateNormal(CustomBuffer buf, int reqCapacity, int normCapacity) {
+        for (PoolChunk<T> chunk : chunks) {
+            if (chunk.freeBytes < normCapacity) {
+                continue;
+            }
+            long handle = chunk.allocate(normCapacity);
+            if (handle > 0) {
+                initBuf(buf, chunk, handle, reqCapacity);
+                return;
+            }
+        }
+        PoolChunk<T> chunk = newChunk(pageSize, maxOrder, pageShifts, chunkSize);
+        chunks.add(chunk);
+        chunkAllocations++;
+        long handle = chunk.allocate(normCapacity);
+        initBuf(buf, chunk, handle, reqCapacity);
+    }
+
+    private void allocateHuge(CustomBuffer buf, int reqCapacity) {
+        PoolChunk<T> chunk = newUnpooledChunk(reqCapacity);
+        allocationsHuge.increment();
+        activeBytesHuge.add(reqCapacity);
+        buf.init(chunk, 0, 0, reqCapacity, reqCapacity);
+    }
+
+    private void initBuf(CustomBuffer buf, PoolChunk<T> chunk, long handle, int reqCapacity) {
+        buf.init(chunk, handle, chunk.offsetOf(handle), reqCapacity, chunk.lengthOf(handle));
+    }
+
+    /**
+     * 할당했던 메모리를 아레나에 반환합니다.
+     *
+     * @param chunk  메모리가 속한 청크
+     * @param handle 할당 핸들
+     */
+    void free(PoolChunk<T> chunk, long handle) {
+        if (chunk.unpooled) {
+            deallocationsHuge.increment();
+            activeBytesHuge.add(-chunk.chunkSize());
+            destroyChunk(chunk);
+            return;
+        }
+        synchronized (this) {
+            if ((handle >>> 32) != 0) {
+                deallocationsSmall++;
+            } else {
+                deallocationsNormal++;
+            }
+            chunk.free(handle);
+            if (chunk.freeBytes == chunkSize && hasOtherEmptyChunk(chunk)) {
+                // 빈 청크는 하나만 예비로 남기고 나머지는 돌려줌 (경계에서 청크를 반복 생성/해제하지 않도록)
+                chunks.remove(chunk);
+                destroyChunk(chunk);
+            }
+        }
+    }
+
+    private boolean hasOtherEmptyChunk(PoolChunk<T> chunk) {
+        for (PoolChunk<T> c : chunks) {
+            if (c != chunk && c.freeBytes == chunkSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 버퍼를 더 큰 영역으로 옮깁니다. 기존 데이터({@code [0, writeIndex)})는 새 영역으로 복사됩니다.
+     *
+     * @param buf         재할당할 버퍼
+     * @param newCapacity 새 용량
+     */
+    @SuppressWarnings("unchecked")
+    void reallocate(CustomBuffer buf, int newCapacity) {
+        PoolChunk<T> oldChunk = (PoolChunk<T>) buf.chunk;
+        long oldHandle = buf.handle;
+        int oldOffset = buf.offset;
+        int readIndex = buf.readIndex;
+        int writeIndex = buf.writeIndex;
+
+        allocate(buf, newCapacity);
+        memoryCopy(oldChunk.memory, oldOffset, ((PoolChunk<T>) buf.chunk).memory, buf.offset, writeIndex);
+        // init()이 인덱스를 초기화하므로 복원
+        buf.readIndex = readIndex;
+        buf.writeIndex = writeIndex;
+        free(oldChunk, oldHandle);
+    }
+
+    /**
+     * 청크 메모리를 해제합니다. heap 메모리와 direct 메모리 모두 청크가 GC될 때 회수되므로
+     * 기본 구현은 아무 것도 하지 않습니다.
+     */
+    protected void destroyChunk(PoolChunk<T> chunk) {
+        // 기본 구현: GC에 맡김
+    }
+
+    PoolSubpage<T> findSubpagePoolHead(int elemSize) {
+        return smallSubpagePools[PoolChunk.log2(elemSize) - PoolChunk.log2(MIN_ELEM_SIZE)];
+    }
+
+    int normalizeCapacity(int reqCapacity) {
+        if (reqCapacity >= chunkSize) {
+            return reqCapacity;
+        }
+        if (reqCapacity <= MIN_ELEM_SIZE) {
+            return MIN_ELEM_SIZE;
+        }
+        // 다음 2의 거듭제곱으로 올림
+        return Integer.highestOneBit(reqCapacity - 1) << 1;
+    }
+
+    synchronized int numChunks() {
+        return chunks.size();
+    }
+
+    synchronized long numChunkAllocations() {
+        return chunkAllocations;
+    }
+
+    synchronized long numAllocations() {
+        return allocationsSmall + allocationsNormal + allocationsHuge.sum();
+    }
+
+    synchronized long numDeallocations() {
+        return deallocationsSmall + deallocationsNormal + deallocationsHuge.sum();
+    }
+
+    long numHugeAllocations() {
+        return allocationsHuge.sum();
+    }
+
+    synchronized long usedMemory() {
+        return (long) chunks.size() * chunkSize + activeBytesHuge.sum();
+    }
+
+    /**
+     * 제네릭 아레나 배열을 생성합니다.
+     *
+     * @param size 배열 크기
+     * @return 빈 아레나 배열
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> PoolArena<T>[] newArenaArray(int size) {
+        return new PoolArena[size];
+    }
+
+    /**
+     * {@code byte[]} 기반 heap 아레나.
+     */
+    static final class HeapArena extends PoolArena<byte[]> {
+
+        HeapArena(PooledBufferAllocator parent, int pageSize, int maxOrder) {
+            super(parent, pageSize, maxOrder);
+        }
+
+        @Override
+        protected PoolChunk<byte[]> newChunk(int pageSize, int maxOrder, int pageShifts, int chunkSize) {
+            return new PoolChunk<>(this, new byte[chunkSize], pageSize, maxOrder, pageShifts, chunkSize);
+        }
+
+        @Override
+        protected PoolChunk<byte[]> newUnpooledChunk(int capacity) {
+            return new PoolChunk<>(this, new byte[capacity], capacity);
+        }
+
+        @Override
+        protected void memoryCopy(byte[] src, int srcOffset, byte[] dst, int dstOffset, int length) {
+            if (length > 0) {
+                System.arraycopy(src, srcOffset, dst, dstOffset, length);
+            }
+        }
+    }
+
+    /**
+     * direct {@link ByteBuffer} 기반 아레나. 청크 메모리를 소켓 I/O에 복사 없이 넘길 수 있습니다.
+     */
+    static final class DirectArena extends PoolArena<ByteBuffer> {
+
+        DirectArena(PooledBufferAllocator parent, int pageSize, int maxOrder) {
+            super(parent, pageSize, maxOrder);
+        }
+
+        @Override
+        protected PoolChunk<ByteBuffer> newChunk(int pageSize, int maxOrder, int pageShifts, int chunkSize) {
+            return new PoolChunk<>(this, ByteBuffer.allocateDirect(chunkSize), pageSize, maxOrder, pageShifts,
+                    chunkSize);
+        }
+
+        @Override
+        protected PoolChunk<ByteBuffer> newUnpooledChunk(int capacity) {
+            return new PoolChunk<>(this, ByteBuffer.allocateDirect(capacity), capacity);
+        }
+
+        @Override
+        protected void memoryCopy(ByteBuffer src, int srcOffset, ByteBuffer dst, int dstOffset, int length) {
+            if (length > 0) {
+                dst.put(dstOffset, src, srcOffset, length);
+            }
+        }
+    }
+}
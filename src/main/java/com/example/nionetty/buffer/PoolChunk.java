@@ -0,0 +1,257 @@
+package com.example.nionetty.buffer;
+
+/**
+ * {@code PoolChunk} 클래스는 아레나가 한 번에 확보하는 큰 메모리 블록(청크)과 그 내부 할당 상태를 관리합니다.
+ * <p>
+ * 청크는 {@code pageSize} 단위 페이지로 나뉘며, 페이지 런(run)의 할당은 완전 이진 트리
+ * 기반 버디 할당(buddy allocation)으로 처리합니다. 트리의 각 노드는 "이 서브트리에서
+ * 할당 가능한 가장 얕은 깊이"를 {@code memoryMap}에 기록하므로, 원하는 크기의 빈 런을
+ * O(트리 높이)에 찾을 수 있습니다. 페이지보다 작은 요청은 리프 페이지를 {@link PoolSubpage}로
+ * 잘게 나누어 처리합니다.
+ * </p>
+ * <p>
+ * 청크 크기를 넘는 요청(huge)은 트리 없이 요청 크기 그대로의 비풀링 청크로 표현됩니다.
+ * 모든 메서드는 소속 아레나의 락을 잡은 상태에서 호출됩니다.
+ * </p>
+ *
+ * @param <T> 청크 메모리 타입 (heap: {@code byte[]}, direct: {@link java.nio.ByteBuffer})
+ */
+final class PoolChunk<T> {
+
+    final PoolArena<T> arena;
+    final T memory;
+    final boolean unpooled;
+
+    private final byte[] memoryMap;
+    private final byte[] depthMap;
+    private final PoolSubpage<T>[] subpages;
+    private final int subpageOverflowMask;
+    private final int pageSize;
+    private final int pageShifts;
+    private final int maxOrder;
+    private final int chunkSize;
+    private final int log2ChunkSize;
+    private final int maxSubpageAllocs;
+    /** 할당 불가를 나타내는 깊이 값 */
+    private final byte unusable;
+
+    int freeBytes;
+
+    PoolChunk(PoolArena<T> arena, T memory, int pageSize, int maxOrder, int pageShifts, int chunkSize) {
+        this.arena = arena;
+        this.memory = memory;
+        this.unpooled = false;
+        this.pageSize = pageSize;
+        this.pageShifts = pageShifts;
+        this.maxOrder = maxOrder;
+        this.chunkSize = chunkSize;
+        this.unusable = (byte) (maxOrder + 1);
+        this.log2ChunkSize = log2(chunkSize);
+        this.subpageOverflowMask = ~(pageSize - 1);
+        this.freeBytes = chunkSize;
+        this.maxSubpageAllocs = 1 << maxOrder;
+
+        // 인덱스 1이 루트인 완전 이진 트리 (인덱스 0은 사용하지 않음)
+        this.memoryMap = new byte[maxSubpageAllocs << 1];
+        this.depthMap = new byte[memoryMap.length];
+        int memoryMapIndex = 1;
+        for (int d = 0; d <= maxOrder; d++) {
+            int depth = 1 << d;
+            for (int p = 0; p < depth; p++) {
+                memoryMap[memoryMapIndex] = (byte) d;
+                depthMap[memoryMapIndex] = (byte) d;
+                memoryMapIndex++;
+            }
+        }
+        this.subpages = PoolSubpage.newSubpageArray(maxSubpageAllocs);
+    }
+
+    /**
+     * 청크 크기를 넘는 요청을 위한 비풀링 청크를 생성합니다.
+     */
+    PoolChunk(PoolArena<T> arena, T memory, int size) {
+        this.arena = arena;
+        this.memory = memory;
+        this.unpooled = true;
+        this.memoryMap = null;
+        this.depthMap = null;
+        this.subpages = null;
+        this.subpageOverflowMask = 0;
+        this.pageSize = 0;
+        this.pageShifts = 0;
+        this.maxOrder = 0;
+        this.chunkSize = size;
+        this.log2ChunkSize = 0;
+        this.maxSubpageAllocs = 0;
+        this.unusable = 0;
+        this.freeBytes = 0;
+    }
+
+    /**
+     * 정규화된 크기만큼 메모리를 할당합니다.
+     *
+     * @param normCapacity 정규화된 요청 크기
+     * @return 할당 핸들, 여유 공간이 없으면 -1
+     */
+    long allocate(int normCapacity) {
+        if ((normCapacity & subpageOverflowMask) != 0) {
+            return allocateRun(normCapacity);
+        }
+        return allocateSubpage(normCapacity);
+    }
+
+    private long allocateRun(int normCapacity) {
+        int d = maxOrder - (log2(normCapacity) - pageShifts);
+        int id = allocateNode(d);
+        if (id < 0) {
+            return id;
+        }
+        freeBytes -= runLength(id);
+        return id;
+    }
+
+    private long allocateSubpage(int normCapacity) {
+        PoolSubpage<T> head = arena.findSubpagePoolHead(normCapacity);
+        int id = allocateNode(maxOrder);
+        if (id < 0) {
+            return id;
+        }
+        freeBytes -= pageSize;
+
+        int subpageIdx = subpageIdx(id);
+        PoolSubpage<T> subpage = subpages[subpageIdx];
+        if (subpage == null) {
+            subpage = new PoolSubpage<>(head, this, id, runOffset(id), pageSize, normCapacity);
+            subpages[subpageIdx] = subpage;
+        } else {
+            subpage.init(head, normCapacity);
+        }
+        return subpage.allocate();
+    }
+
+    /**
+     * 핸들이 가리키는 메모리를 반환합니다.
+     *
+     * @param handle {@link #allocate(int)}가 반환한 핸들
+     */
+    void free(long handle) {
+        int memoryMapIdx = (int) handle;
+        int bitmapIdx = (int) (handle >>> 32);
+
+        if (bitmapIdx != 0) {
+            PoolSubpage<T> subpage = subpages[subpageIdx(memoryMapIdx)];
+            PoolSubpage<T> head = arena.findSubpagePoolHead(subpage.elemSize);
+            if (subpage.free(head, bitmapIdx & 0x3FFFFFFF)) {
+                return;
+            }
+        }
+        freeBytes += runLength(memoryMapIdx);
+        setValue(memoryMapIdx, depth(memoryMapIdx));
+        updateParentsFree(memoryMapIdx);
+    }
+
+    /**
+     * 핸들이 가리키는 영역의 청크 내 시작 오프셋을 반환합니다.
+     */
+    int offsetOf(long handle) {
+        int memoryMapIdx = (int) handle;
+        int bitmapIdx = (int) (handle >>> 32);
+        if (bitmapIdx == 0) {
+            return runOffset(memoryMapIdx);
+        }
+        return subpages[subpageIdx(memoryMapIdx)].offsetOf(bitmapIdx & 0x3FFFFFFF);
+    }
+
+    /**
+     * 핸들이 가리키는 영역의 실제 크기(정규화된 크기)를 반환합니다.
+     */
+    int lengthOf(long handle) {
+        int memoryMapIdx = (int) handle;
+        int bitmapIdx = (int) (handle >>> 32);
+        if (bitmapIdx == 0) {
+            return runLength(memoryMapIdx);
+        }
+        return subpages[subpageIdx(memoryMapIdx)].elemSize;
+    }
+
+    int chunkSize() {
+        return chunkSize;
+    }
+
+    private int allocateNode(int d) {
+        int id = 1;
+        int initial = -(1 << d);
+        byte val = value(id);
+        if (val > d) {
+            return -1;
+        }
+        // 깊이 d에 도달할 때까지 할당 가능한 자식을 따라 내려감
+        while (val < d || (id & initial) == 0) {
+            id <<= 1;
+            val = value(id);
+            if (val > d) {
+                id ^= 1;
+                val = value(id);
+            }
+        }
+        setValue(id, unusable);
+        updateParentsAlloc(id);
+        return id;
+    }
+
+    private void updateParentsAlloc(int id) {
+        while (id > 1) {
+            int parentId = id >>> 1;
+            byte val1 = value(id);
+            byte val2 = value(id ^ 1);
+            setValue(parentId, val1 < val2 ? val1 : val2);
+            id = parentId;
+        }
+    }
+
+    private void updateParentsFree(int id) {
+        int logChild = depth(id) + 1;
+        while (id > 1) {
+            int parentId = id >>> 1;
+            byte val1 = value(id);
+            byte val2 = value(id ^ 1);
+            logChild -= 1;
+            if (val1 == logChild && val2 == logChild) {
+                // 두 자식이 모두 비어 있으면 부모 런 전체가 다시 할당 가능
+                setValue(parentId, (byte) (logChild - 1));
+            } else {
+                setValue(parentId, val1 < val2 ? val1 : val2);
+            }
+            id = parentId;
+        }
+    }
+
+    private byte value(int id) {
+        return memoryMap[id];
+    }
+
+    private void setValue(int id, byte val) {
+        memoryMap[id] = val;
+    }
+
+    private byte depth(int id) {
+        return depthMap[id];
+    }
+
+    private int runLength(int id) {
+        return 1 << log2ChunkSize - depth(id);
+    }
+
+    private int runOffset(int id) {
+        int shift = id ^ 1 << depth(id);
+        return shift * runLength(id);
+    }
+
+    private int subpageIdx(int memoryMapIdx) {
+        return memoryMapIdx ^ maxSubpageAllocs;
+    }
+
+    static int log2(int val) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(val);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.nionetty.buffer;
+
+/**
+ * {@code PoolSubpage} 클래스는 청크의 페이지 하나를 같은 크기(size class)의 작은 원소들로 나누어 관리합니다.
+ * <p>
+ * 페이지 크기보다 작은 요청은 페이지 전체를 할당하는 대신 이 서브페이지에서 원소 하나를 잘라 제공합니다.
+ * 원소 사용 여부는 비트맵으로 추적하며, 사용 가능한 원소가 남아 있는 서브페이지는 아레나의
+ * 크기별 이중 연결 리스트(풀)에 걸려 있어 다음 요청 시 바로 재사용됩니다.
+ * 모든 메서드는 소속 아레나의 락을 잡은 상태에서 호출됩니다.
+ * </p>
+ *
+ * @param <T> 청크 메모리 타입 (heap: {@code byte[]}, direct: {@link java.nio.ByteBuffer})
+ */
+final class PoolSubpage<T> {
+
+    /** 서브페이지 핸들과 일반 런 핸들을 구분하기 위한 표식 비트 (원소 인덱스 0도 0이 아닌 값이 되도록) */
+    static final long SUBPAGE_HANDLE_MARKER = 0x4000000000000000L;
+
+    final PoolChunk<T> chunk;
+    private final int memoryMapIdx;
+    private final int runOffset;
+    private final int pageSize;
+    private final long[] bitmap;
+
+    PoolSubpage<T> prev;
+    PoolSubpage<T> next;
+
+    boolean doNotDestroy;
+    int elemSize;
+    private int maxNumElems;
+    private int bitmapLength;
+    private int nextAvail;
+    private int numAvail;
+
+    /**
+     * 아레나 풀의 헤드(sentinel) 노드를 생성합니다.
+     *
+     * @param pageSize 페이지 크기
+     */
+    PoolSubpage(int pageSize) {
+        this.chunk = null;
+        this.memoryMapIdx = -1;
+        this.runOffset = -1;
+        this.pageSize = pageSize;
+        this.bitmap = null;
+        this.prev = this;
+        this.next = this;
+    }
+
+    PoolSubpage(PoolSubpage<T> head, PoolChunk<T> chunk, int memoryMapIdx, int runOffset, int pageSize, int elemSize) {
+        this.chunk = chunk;
+        this.memoryMapIdx = memoryMapIdx;
+        this.runOffset = runOffset;
+        this.pageSize = pageSize;
+        // 최소 원소 크기 16바이트 기준으로 필요한 비트맵 길이 (pageSize / 16 / 64)
+        this.bitmap = new long[pageSize >>> 10];
+        init(head, elemSize);
+    }
+
+    /**
+     * 서브페이지를 주어진 원소 크기로 (재)초기화하고 풀에 추가합니다.
+     */
+    void init(PoolSubpage<T> head, int elemSize) {
+        this.doNotDestroy = true;
+        this.elemSize = elemSize;
+        this.maxNumElems = pageSize / elemSize;
+        this.numAvail = maxNumElems;
+        this.nextAvail = 0;
+        this.bitmapLength = maxNumElems >>> 6;
+        if ((maxNumElems & 63) != 0) {
+            bitmapLength++;
+        }
+        for (int i = 0; i < bitmapLength; i++) {
+            bitmap[i] = 0;
+        }
+        addToPool(head);
+    }
+
+    /**
+     * 원소 하나를 할당하고 그 핸들을 반환합니다.
+     *
+     * @return 서브페이지 핸들, 남은 원소가 없으면 -1
+     */
+    long allocate() {
+        if (numAvail == 0 || !doNotDestroy) {
+            return -1;
+        }
+        int bitmapIdx = getNextAvail();
+        int q = bitmapIdx >>> 6;
+        int r = bitmapIdx & 63;
+        bitmap[q] |= 1L << r;
+        if (--numAvail == 0) {
+            removeFromPool();
+        }
+        return SUBPAGE_HANDLE_MARKER | (long) bitmapIdx << 32 | memoryMapIdx;
+    }
+
+    /**
+     * 원소 하나를 반환합니다.
+     *
+     * @return 서브페이지가 아직 사용 중이면 {@code true}, 완전히 비어 청크에 페이지를 돌려줘야 하면 {@code false}
+     */
+    boolean free(PoolSubpage<T> head, int bitmapIdx) {
+        int q = bitmapIdx >>> 6;
+        int r = bitmapIdx & 63;
+        bitmap[q] ^= 1L << r;
+        nextAvail = bitmapIdx;
+
+        if (numAvail++ == 0) {
+            addToPool(head);
+            return true;
+        }
+        if (numAvail != maxNumElems) {
+            return true;
+        }
+        if (prev == next) {
+            // 풀에 남은 유일한 서브페이지라면 다음 요청을 위해 유지
+            return true;
+        }
+        doNotDestroy = false;
+        removeFromPool();
+        return false;
+    }
+
+    /**
+     * 원소 인덱스에 해당하는 청크 내 오프셋을 반환합니다.
+     */
+    int offsetOf(int bitmapIdx) {
+        return runOffset + bitmapIdx * elemSize;
+    }
+
+    /**
+     * 제네릭 서브페이지 배열을 생성합니다.
+     *
+     * @param size 배열 크기
+     * @return 빈 서브페이지 배열
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> PoolSubpage<T>[] newSubpageArray(int size) {
+        return new PoolSubpage[size];
+    }
+
+    private void addToPool(PoolSubpage<T> head) {
+        prev = head;
+        next = head.next;
+        next.prev = this;
+        head.next = this;
+    }
+
+    private void removeFromPool() {
+        prev.next = next;
+        next.prev = prev;
+        next = null;
+        prev = null;
+    }
+
+    private int getNextAvail() {
+        int val = nextAvail;
+        if (val >= 0) {
+            nextAvail = -1;
+            return val;
+        }
+        return findNextAvail();
+    }
+
+    private int findNextAvail() {
+        for (int i = 0; i < bitmapLength; i++) {
+            long bits = bitmap[i];
+            if (~bits != 0) {
+                int baseVal = i << 6;
+                for (int j = 0; j < 64; j++) {
+                    if ((bits & 1) == 0) {
+                        int val = baseVal | j;
+                        return val < maxNumElems ? val : -1;
+                    }
+                    bits >>>= 1;
+                }
+            }
+        }
+        return -1;
+    }
+}
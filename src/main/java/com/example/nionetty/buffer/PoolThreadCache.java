@@ -0,0 +1,86 @@
+package com.example.nionetty.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+/**
+ * {@code PoolThreadCache} 클래스는 스레드마다 하나씩 존재하는 할당기 상태입니다.
+ * <p>
+ * 스레드가 처음 버퍼를 요청할 때 heap/direct 각각 가장 적은 스레드가 배정된 아레나에 고정되며,
+ * 해제된 {@link CustomBuffer} 객체(껍데기)를 보관했다가 다음 할당 시 재사용하여
+ * 정상 상태의 읽기 경로에서 객체 생성이 일어나지 않도록 합니다.
+ * 스레드 로컬로만 접근되므로 동기화가 필요 없습니다.
+ * </p>
+ * <p>
+ * 캐시는 오래 사는 {@link com.example.nionetty.util.concurrent.EventExecutorThread}에만 만들어지며,
+ * 스레드가 끝나면 {@link #free()}로 아레나 배정을 되돌려 {@code leastUsedArena} 분배가 틀어지지 않게 합니다.
+ * </p>
+ */
+final class PoolThreadCache {
+
+    final PoolArena<byte[]> heapArena;
+    /** direct 아레나 (direct 아레나가 없도록 구성된 경우 null) */
+    final PoolArena<ByteBuffer> directArena;
+
+    private final ArrayDeque<CustomBuffer> heapBuffers = new ArrayDeque<>();
+    private final ArrayDeque<CustomBuffer> directBuffers = new ArrayDeque<>();
+    private final int maxCachedBuffers;
+
+    private boolean freed;
+
+    PoolThreadCache(PoolArena<byte[]> heapArena, PoolArena<ByteBuffer> directArena, int maxCachedBuffers) {
+        this.heapArena = heapArena;
+        this.directArena = directArena;
+        this.maxCachedBuffers = maxCachedBuffers;
+        heapArena.numThreadCaches.incrementAndGet();
+        if (directArena != null) {
+            directArena.numThreadCaches.incrementAndGet();
+        }
+    }
+
+    /**
+     * 재사용 가능한 heap 버퍼 객체를 꺼냅니다.
+     *
+     * @return 보관 중인 버퍼, 없으면 null
+     */
+    CustomBuffer pollHeapBuffer() {
+        return heapBuffers.pollFirst();
+    }
+
+    /**
+     * 재사용 가능한 direct 버퍼 객체를 꺼냅니다.
+     *
+     * @return 보관 중인 버퍼, 없으면 null
+     */
+    CustomBuffer pollDirectBuffer() {
+        return directBuffers.pollFirst();
+    }
+
+    /**
+     * 해제된 버퍼 객체를 보관합니다. 보관 한도를 넘으면 버리고 GC에 맡깁니다.
+     *
+     * @param buf 해제된 버퍼
+     */
+    void offer(CustomBuffer buf) {
+        ArrayDeque<CustomBuffer> buffers = buf.isDirect() ? directBuffers : heapBuffers;
+        if (buffers.size() < maxCachedBuffers) {
+            buffers.offerFirst(buf);
+        }
+    }
+
+    /**
+     * 보관 중인 버퍼 객체를 버리고 아레나의 스레드 수를 줄입니다. 스레드가 끝날 때 한 번 호출됩니다.
+     */
+    void free() {
+        if (freed) {
+            return;
+        }
+        freed = true;
+        heapBuffers.clear();
+        directBuffers.clear();
+        heapArena.numThreadCaches.decrementAndGet();
+        if (directArena != null) {
+            directArena.numThreadCaches.decrementAndGet();
+        }
+    }
+}
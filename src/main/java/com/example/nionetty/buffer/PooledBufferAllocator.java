@@ -0,0 +1,291 @@
+package com.example.nionetty.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.nionetty.util.ResourceLeakDetector;
+import com.example.nionetty.util.concurrent.EventExecutorThread;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code PooledBufferAllocator} 클래스는 풀링된 {@link CustomBuffer}를 대여하는 할당기입니다.
+ * <p>
+ * 메모리는 여러 {@link PoolArena}로 나뉘어 관리되며, 각 스레드는 처음 할당할 때 가장 한가한 아레나에
+ * 고정됩니다(스레드 로컬 아레나). heap 아레나({@link #heapBuffer(int)})와 소켓 I/O용
+ * direct 아레나({@link #directBuffer(int)})는 별도로 관리됩니다. 아레나는 큰 청크를 페이지로 나누어 크기별로 잘라 주므로,
+ * 정상 상태에서는 버퍼를 빌리고 {@link CustomBuffer#release()}로 돌려주는 동안
+ * 새 메모리가 할당되지 않습니다. 해제된 버퍼 객체 자체도 스레드별로 재사용됩니다.
+ * </p>
+ * <p>
+ * 스레드별 캐시는 {@link com.example.nionetty.util.concurrent.DefaultThreadFactory}가 만든
+ * {@link EventExecutorThread}에만 둡니다. 가상 스레드처럼 작업마다 새로 만들어지는 스레드는 스레드 ID로 아레나를
+ * 고르고 버퍼 객체를 보관하지 않으므로, 이벤트마다 캐시가 만들어지거나 아레나 분배가 틀어지지 않습니다.
+ * </p>
+ * <p>
+ * 해제 누락은 {@link ResourceLeakDetector}가 샘플링하여 감지합니다. 감지 수준은
+ * {@code nionetty.leakDetection.level} 시스템 프로퍼티로 조정합니다.
+ * </p>
+ * <p>
+ * 할당 동작은 {@link #metric()}이 반환하는 {@link PooledBufferAllocatorMetric}으로 확인할 수 있습니다.
+ * 예를 들어 부하 중 {@link PooledBufferAllocatorMetric#numChunkAllocations()}가 더 이상 늘지 않으면
+ * 읽기 경로가 풀 메모리만 재사용하고 있다는 뜻입니다.
+ * </p>
+ * <p>
+ * 기본값은 다음 시스템 프로퍼티로 조정할 수 있습니다.
+ * </p>
+ * <ul>
+ * <li>{@code nionetty.allocator.numHeapArenas} (기본: CPU 코어 수 x 2)</li>
+ * <li>{@code nionetty.allocator.numDirectArenas} (기본: CPU 코어 수 x 2, 0이면 direct 요청도 heap 버퍼로 처리)</li>
+ * <li>{@code nionetty.allocator.pageSize} (기본: 8192)</li>
+ * <li>{@code nionetty.allocator.maxOrder} (기본: 9, 청크 크기 = pageSize &lt;&lt; maxOrder = 4 MiB)</li>
+ * <li>{@code nionetty.allocator.maxCachedBuffersPerThread} (기본: 256)</li>
+ * </ul>
+ *
+ * @see CustomBuffer
+ *
+ * @author
+ * @version 1.0
+ */
+public final class PooledBufferAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledBufferAllocator.class);
+
+    private static final int DEFAULT_NUM_HEAP_ARENA = Integer.getInteger("nionetty.allocator.numHeapArenas",
+            Runtime.getRuntime().availableProcessors() * 2);
+    private static final int DEFAULT_NUM_DIRECT_ARENA = Integer.getInteger("nionetty.allocator.numDirectArenas",
+            Runtime.getRuntime().availableProcessors() * 2);
+    private static final int DEFAULT_PAGE_SIZE = Integer.getInteger("nionetty.allocator.pageSize", 8192);
+    private static final int DEFAULT_MAX_ORDER = Integer.getInteger("nionetty.allocator.maxOrder", 9);
+    private static final int DEFAULT_MAX_CACHED_BUFFERS = Integer.getInteger(
+            "nionetty.allocator.maxCachedBuffersPerThread", 256);
+
+    /** 기본 초기 용량 */
+    static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    /** 대여한 버퍼 중 일부를 샘플링하여 해제 누락을 보고하는 누수 감지기 */
+    private static final ResourceLeakDetector<CustomBuffer> leakDetector =
+            new ResourceLeakDetector<>(CustomBuffer.class);
+
+    /** 공유 기본 할당기 */
+    public static final PooledBufferAllocator DEFAULT = new PooledBufferAllocator(
+            DEFAULT_NUM_HEAP_ARENA, DEFAULT_NUM_DIRECT_ARENA, DEFAULT_PAGE_SIZE, DEFAULT_MAX_ORDER, DEFAULT_MAX_CACHED_BUFFERS);
+
+    private final PoolArena<byte[]>[] heapArenas;
+    private final PoolArena<ByteBuffer>[] directArenas;
+    private final int maxCachedBuffers;
+    private final ThreadLocal<PoolThreadCache> threadCache;
+    private final LongAdder bufferInstances = new LongAdder();
+    private final PooledBufferAllocatorMetric metric;
+
+    /**
+     * 생성자.
+     *
+     * @param nHeapArena       heap 아레나 수
+     * @param nDirectArena     direct 아레나 수 (0이면 direct 버퍼를 풀링하지 않고 heap 버퍼로 대체)
+     * @param pageSize         페이지 크기 (4096 이상의 2의 거듭제곱)
+     * @param maxOrder         청크를 구성하는 버디 트리의 높이 (0 ~ 14)
+     * @param maxCachedBuffers 스레드별로 재사용을 위해 보관할 버퍼 객체 수
+     * @throws IllegalArgumentException 인자가 허용 범위를 벗어난 경우
+     */
+    public PooledBufferAllocator(int nHeapArena, int nDirectArena, int pageSize, int maxOrder,
+            int maxCachedBuffers) {
+        if (nHeapArena <= 0) {
+            throw new IllegalArgumentException("nHeapArena must be positive: " + nHeapArena);
+        }
+        if (nDirectArena < 0) {
+            throw new IllegalArgumentException("nDirectArena must be >= 0: " + nDirectArena);
+        }
+        if (pageSize < 4096 || (pageSize & pageSize - 1) != 0) {
+            throw new IllegalArgumentException("pageSize must be a power of two >= 4096: " + pageSize);
+        }
+        if (maxOrder < 0 || maxOrder > 14) {
+            throw new IllegalArgumentException("maxOrder must be in [0, 14]: " + maxOrder);
+        }
+        if (maxCachedBuffers < 0) {
+            throw new IllegalArgumentException("maxCachedBuffers must be >= 0: " + maxCachedBuffers);
+        }
+        this.maxCachedBuffers = maxCachedBuffers;
+        this.heapArenas = PoolArena.newArenaArray(nHeapArena);
+        for (int i = 0; i < nHeapArena; i++) {
+            heapArenas[i] = new PoolArena.HeapArena(this, pageSize, maxOrder);
+        }
+        this.directArenas = PoolArena.newArenaArray(nDirectArena);
+        for (int i = 0; i < nDirectArena; i++) {
+            directArenas[i] = new PoolArena.DirectArena(this, pageSize, maxOrder);
+        }
+        this.threadCache = ThreadLocal.withInitial(this::newThreadCache);
+        this.metric = new PooledBufferAllocatorMetric(this);
+        logger.debug("PooledBufferAllocator 생성: heapArenas={}, directArenas={}, pageSize={}, chunkSize={}",
+                nHeapArena, nDirectArena, pageSize, pageSize << maxOrder);
+    }
+
+    /**
+     * 기본 초기 용량의 풀링된 heap 버퍼를 대여합니다.
+     *
+     * @return 풀링된 {@link CustomBuffer}
+     */
+    public CustomBuffer heapBuffer() {
+        return heapBuffer(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * 지정한 초기 용량의 풀링된 heap 버퍼를 대여합니다.
+     * 사용이 끝나면 반드시 {@link CustomBuffer#release()}로 반환해야 합니다.
+     *
+     * @param initialCapacity 초기 용량 (바이트 단위)
+     * @return 풀링된 {@link CustomBuffer}
+     * @throws IllegalArgumentException 용량이 0 이하일 경우
+     */
+    public CustomBuffer heapBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        PoolThreadCache cache = threadCache();
+        CustomBuffer buf = cache != null ? cache.pollHeapBuffer() : null;
+        if (buf == null) {
+            buf = new CustomBuffer(this);
+            bufferInstances.increment();
+        }
+        PoolArena<byte[]> arena = cache != null ? cache.heapArena : arenaForThread(heapArenas);
+        arena.allocate(buf, initialCapacity);
+        buf.reuse(leakDetector.track(buf));
+        return buf;
+    }
+
+    /**
+     * 기본 초기 용량의 풀링된 direct 버퍼를 대여합니다.
+     *
+     * @return 풀링된 direct {@link CustomBuffer}
+     */
+    public CustomBuffer directBuffer() {
+        return directBuffer(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * 지정한 초기 용량의 풀링된 direct 버퍼를 대여합니다.
+     * <p>
+     * direct 버퍼는 {@link java.nio.channels.SocketChannel}에 복사 없이 넘겨지므로 소켓 읽기/쓰기에 적합합니다.
+     * direct 아레나가 없도록 구성된 경우 heap 버퍼를 반환합니다.
+     * 사용이 끝나면 반드시 {@link CustomBuffer#release()}로 반환해야 합니다.
+     * </p>
+     *
+     * @param initialCapacity 초기 용량 (바이트 단위)
+     * @return 풀링된 {@link CustomBuffer}
+     * @throws IllegalArgumentException 용량이 0 이하일 경우
+     */
+    public CustomBuffer directBuffer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        if (directArenas.length == 0) {
+            return heapBuffer(initialCapacity);
+        }
+        PoolThreadCache cache = threadCache();
+        CustomBuffer buf = cache != null ? cache.pollDirectBuffer() : null;
+        if (buf == null) {
+            buf = new DirectCustomBuffer(this);
+            bufferInstances.increment();
+        }
+        PoolArena<ByteBuffer> arena = cache != null ? cache.directArena : arenaForThread(directArenas);
+        arena.allocate(buf, initialCapacity);
+        buf.reuse(leakDetector.track(buf));
+        return buf;
+    }
+
+    /**
+     * 기본 최대 구성 요소 수(16)의 빈 {@link CompositeBuffer}를 생성합니다.
+     *
+     * @return 빈 {@link CompositeBuffer}
+     */
+    public CompositeBuffer compositeBuffer() {
+        return compositeBuffer(CompositeBuffer.DEFAULT_MAX_COMPONENTS);
+    }
+
+    /**
+     * 빈 {@link CompositeBuffer}를 생성합니다. 구성 요소를 합칠 때 필요한 버퍼는 이 할당기에서 대여합니다.
+     * 사용이 끝나면 반드시 {@link CustomBuffer#release()}로 해제해 구성 요소를 반환해야 합니다.
+     *
+     * @param maxNumComponents 합치지 않고 유지할 최대 구성 요소 수
+     * @return 빈 {@link CompositeBuffer}
+     * @throws IllegalArgumentException 구성 요소 수가 0 이하일 경우
+     */
+    public CompositeBuffer compositeBuffer(int maxNumComponents) {
+        CompositeBuffer buf = new CompositeBuffer(this, maxNumComponents);
+        // 구성 요소는 각자 추적되지만, 해제되지 않은 컴포지트 자체도 보고되도록 추적
+        buf.reuse(leakDetector.track(buf));
+        return buf;
+    }
+
+    /**
+     * 할당 통계를 반환합니다.
+     *
+     * @return {@link PooledBufferAllocatorMetric}
+     */
+    public PooledBufferAllocatorMetric metric() {
+        return metric;
+    }
+
+    /**
+     * 메모리를 반환한 버퍼 객체를 현재 스레드의 캐시에 보관합니다.
+     */
+    void recycle(CustomBuffer buf) {
+        if (maxCachedBuffers > 0) {
+            PoolThreadCache cache = threadCache();
+            if (cache != null) {
+                cache.offer(buf);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 캐시를 반환합니다. 캐시를 두지 않는 스레드면 {@code null}입니다.
+     */
+    private PoolThreadCache threadCache() {
+        return Thread.currentThread() instanceof EventExecutorThread ? threadCache.get() : null;
+    }
+
+    /**
+     * 현재 {@link EventExecutorThread}의 캐시를 만들고, 스레드가 끝나면 해제되도록 등록합니다.
+     */
+    private PoolThreadCache newThreadCache() {
+        PoolThreadCache cache = new PoolThreadCache(leastUsedArena(heapArenas),
+                directArenas.length > 0 ? leastUsedArena(directArenas) : null, maxCachedBuffers);
+        ((EventExecutorThread) Thread.currentThread()).onExit(() -> {
+            cache.free();
+            threadCache.remove();
+        });
+        return cache;
+    }
+
+    /**
+     * 캐시가 없는 스레드가 사용할 아레나를 스레드 ID로 고릅니다.
+     */
+    private static <T> PoolArena<T> arenaForThread(PoolArena<T>[] arenas) {
+        return arenas[(int) Math.floorMod(Thread.currentThread().getId(), (long) arenas.length)];
+    }
+
+    PoolArena<byte[]>[] heapArenas() {
+        return heapArenas;
+    }
+
+    PoolArena<ByteBuffer>[] directArenas() {
+        return directArenas;
+    }
+
+    long bufferInstances() {
+        return bufferInstances.sum();
+    }
+
+    private static <T> PoolArena<T> leastUsedArena(PoolArena<T>[] arenas) {
+        PoolArena<T> minArena = arenas[0];
+        for (int i = 1; i < arenas.length; i++) {
+            PoolArena<T> arena = arenas[i];
+            if (arena.numThreadCaches.get() < minArena.numThreadCaches.get()) {
+                minArena = arena;
+            }
+        }
+        return minArena;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.nionetty.buffer;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * {@code PooledBufferAllocatorMetric} 클래스는 {@link PooledBufferAllocator}의 할당 통계를 제공합니다.
+ * <p>
+ * 각 값은 호출 시점에 아레나들로부터 집계되며, 서로 다른 메서드 호출 사이에 할당이 진행될 수 있으므로
+ * 엄밀한 스냅샷은 아닙니다. 모니터링과 회귀 확인 용도로 사용합니다.
+ * </p>
+ *
+ * @see PooledBufferAllocator#metric()
+ *
+ * @author
+ * @version 1.0
+ */
+public final class PooledBufferAllocatorMetric {
+
+    private final PooledBufferAllocator allocator;
+
+    PooledBufferAllocatorMetric(PooledBufferAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    /**
+     * heap 아레나 수를 반환합니다.
+     *
+     * @return heap 아레나 수
+     */
+    public int numHeapArenas() {
+        return allocator.heapArenas().length;
+    }
+
+    /**
+     * direct 아레나 수를 반환합니다.
+     *
+     * @return direct 아레나 수
+     */
+    public int numDirectArenas() {
+        return allocator.directArenas().length;
+    }
+
+    /**
+     * 모든 아레나가 현재 보유한 풀링 청크 수를 반환합니다.
+     *
+     * @return 청크 수
+     */
+    public int numChunks() {
+        return (int) sumAll(PoolArena::numChunks);
+    }
+
+    /**
+     * 아레나가 새 청크 메모리를 확보한 누적 횟수를 반환합니다.
+     * 이 값이 증가했다면 풀에 여유가 없어 새 메모리를 할당했다는 뜻이므로,
+     * 정상 상태의 읽기 경로에서는 증가하지 않아야 합니다.
+     *
+     * @return 청크 할당 횟수
+     */
+    public long numChunkAllocations() {
+        return sumAll(PoolArena::numChunkAllocations);
+    }
+
+    /**
+     * 누적 할당 횟수를 반환합니다.
+     *
+     * @return 할당 횟수
+     */
+    public long numAllocations() {
+        return sumAll(PoolArena::numAllocations);
+    }
+
+    /**
+     * 누적 해제 횟수를 반환합니다.
+     *
+     * @return 해제 횟수
+     */
+    public long numDeallocations() {
+        return sumAll(PoolArena::numDeallocations);
+    }
+
+    /**
+     * 현재 반환되지 않은 할당 수를 반환합니다.
+     *
+     * @return 활성 할당 수
+     */
+    public long numActiveAllocations() {
+        return numAllocations() - numDeallocations();
+    }
+
+    /**
+     * 청크 크기를 넘어 풀링 없이 처리된 할당 횟수를 반환합니다.
+     *
+     * @return huge 할당 횟수
+     */
+    public long numHugeAllocations() {
+        return sumAll(PoolArena::numHugeAllocations);
+    }
+
+    /**
+     * 할당기가 보유한 heap 메모리 크기를 반환합니다 (청크 + 활성 huge 할당).
+     *
+     * @return 바이트 단위 메모리 크기
+     */
+    public long usedHeapMemory() {
+        return sum(allocator.heapArenas(), PoolArena::usedMemory);
+    }
+
+    /**
+     * 할당기가 보유한 direct 메모리 크기를 반환합니다 (청크 + 활성 huge 할당).
+     *
+     * @return 바이트 단위 메모리 크기
+     */
+    public long usedDirectMemory() {
+        return sum(allocator.directArenas(), PoolArena::usedMemory);
+    }
+
+    /**
+     * 할당기가 새로 생성한 {@link CustomBuffer} 객체 수를 반환합니다.
+     * 재사용된 객체는 포함되지 않으므로, 정상 상태에서는 증가하지 않아야 합니다.
+     *
+     * @return 생성된 버퍼 객체 수
+     */
+    public long numBufferInstances() {
+        return allocator.bufferInstances();
+    }
+
+    private long sumAll(ToLongFunction<PoolArena<?>> metric) {
+        return sum(allocator.heapArenas(), metric) + sum(allocator.directArenas(), metric);
+    }
+
+    private static long sum(PoolArena<?>[] arenas, ToLongFunction<PoolArena<?>> metric) {
+        long sum = 0;
+        for (PoolArena<?> arena : arenas) {
+            sum += metric.applyAsLong(arena);
+        }
+        return sum;
+    }
+
+    @Override
+    public String toString() {
+        return "PooledBufferAllocatorMetric{"
+                + "heapArenas=" + numHeapArenas()
+                + ", chunks=" + numChunks()
+                + ", chunkAllocations=" + numChunkAllocations()
+                + ", directArenas=" + numDirectArenas()
+                + ", usedHeapMemory=" + usedHeapMemory()
+                + ", usedDirectMemory=" + usedDirectMemory()
+                + ", allocations=" + numAllocations()
+                + ", activeAllocations=" + numActiveAllocations()
+                + ", hugeAllocations=" + numHugeAllocations()
+                + ", bufferInstances=" + numBufferInstances()
+                + '}';
+    }
+}
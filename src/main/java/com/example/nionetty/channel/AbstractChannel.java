@@ -2,6 +2,9 @@ package com.example.nionetty.channel;
 
 import java.net.SocketAddress;
 
+import com.example.nionetty.eventloop.EventLoop;
+import com.example.nionetty.util.ReferenceCountUtil;
+
 /**
  * {@code AbstractChannel} 클래스는 {@link Channel} 인터페이스의 기본 구현을 제공하며,
  * 서버 및 클라이언트 채널의 공통 동작을 캡슐화합니다.
@@ -20,6 +23,9 @@ public abstract class AbstractChannel implements Channel {
     /** 채널이 닫힐 때까지 대기하는 Future 객체 */
     protected final ChannelFuture closeFuture = new ChannelFuture();
 
+    /** 채널이 등록된 이벤트 루프 (등록 전에는 null) */
+    protected volatile EventLoop eventLoop;
+
     /**
      * 생성자.
      * 하위 클래스는 이 생성자를 통해 기본 채널 ID와 채널 설정 및 파이프라인을 초기화합니다.
@@ -30,6 +36,9 @@ public abstract class AbstractChannel implements Channel {
     public AbstractChannel(ChannelId id, ChannelConfig config) {
         this.id = id;
         this.config = config;
+        if (config instanceof DefaultChannelConfig) {
+            ((DefaultChannelConfig) config).channel(this);
+        }
         // 기본 파이프라인 초기화 (구체적인 구현체에서 세부 설정 필요)
         this.pipeline = new DefaultChannelPipeline(this);
     }
@@ -64,11 +73,98 @@ public abstract class AbstractChannel implements Channel {
         return this.pipeline;
     }
 
+    @Override
+    public EventLoop eventLoop() {
+        return eventLoop;
+    }
+
     @Override
     public ChannelFuture closeFuture() {
         return closeFuture;
     }
 
+    /**
+     * 메시지를 파이프라인의 마지막 outbound 핸들러부터 전달합니다.
+     * 요청은 outbound 핸들러들을 거쳐 head에 도달한 뒤 {@link #write0(Object)}로 송신 큐에 추가됩니다.
+     *
+     * @param msg 전송할 메시지 객체
+     * @return 기록 결과를 나타내는 {@link ChannelFuture} 객체
+     */
+    @Override
+    public ChannelFuture write(Object msg) {
+        return pipeline.write(msg);
+    }
+
+    /**
+     * 플러시 요청을 파이프라인의 마지막 outbound 핸들러부터 전달합니다.
+     * 요청은 head에 도달한 뒤 {@link #flush0()}로 처리됩니다.
+     *
+     * @return 현재 채널
+     */
+    @Override
+    public Channel flush() {
+        pipeline.flush();
+        return this;
+    }
+
+    /**
+     * 읽기 요청을 파이프라인의 마지막 outbound 핸들러부터 전달합니다.
+     * 요청은 head에 도달한 뒤 {@link #read0()}로 처리됩니다.
+     *
+     * @return 현재 채널
+     */
+    @Override
+    public Channel read() {
+        pipeline.read();
+        return this;
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 메시지를 채널의 송신 큐에 추가합니다.
+     * 송신 큐가 없는 채널을 위한 기본 구현은 메시지를 해제하고 실패한 Future를 반환합니다.
+     *
+     * @param msg 전송할 메시지 객체
+     * @return 기록 결과를 나타내는 {@link ChannelFuture} 객체
+     */
+    protected ChannelFuture write0(Object msg) {
+        ReferenceCountUtil.safeRelease(msg);
+        return new ChannelFuture().setChannel(this)
+                .setFailure(new UnsupportedOperationException("write: " + getClass().getName()));
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 송신 큐에 쌓인 메시지를 전송합니다.
+     * 송신 큐가 없는 채널을 위한 기본 구현은 아무 것도 하지 않습니다.
+     */
+    protected void flush0() {
+        // 기본 구현은 아무 것도 하지 않음.
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 채널이 다음 데이터를 읽도록 합니다.
+     * 읽기 관심을 조절하지 않는 채널을 위한 기본 구현은 아무 것도 하지 않습니다.
+     */
+    protected void read0() {
+        // 기본 구현은 아무 것도 하지 않음.
+    }
+
+    /**
+     * 송신 큐가 없는 채널을 위한 기본 구현은 항상 {@code true}를 반환합니다.
+     *
+     * @return 쓰기 가능하면 {@code true}
+     */
+    @Override
+    public boolean isWritable() {
+        return true;
+    }
+
+    @Override
+    public ChannelFuture writeAndFlush(Object msg) {
+        ChannelFuture future = write(msg);
+        flush();
+        return future;
+    }
+
     /**
      * 지정한 로컬 주소에 채널을 바인딩합니다.
      * 구체적인 바인딩 로직은 하위 클래스에서 구현해야 합니다.
@@ -0,0 +1,157 @@
+package com.example.nionetty.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code AdaptiveRecvByteBufAllocator} 클래스는 최근 읽은 크기에 맞춰 수신 버퍼 크기를 늘리거나 줄이는
+ * {@link RecvByteBufAllocator}입니다.
+ * <p>
+ * 버퍼 크기는 미리 계산한 크기 표(512 미만은 16바이트 단위, 이후 2배씩)에서 고릅니다. 읽기가 버퍼를 가득 채우면
+ * 표에서 네 칸 위로 바로 늘려 대량 전송이 적은 시스템 콜로 끝나게 하고, 한 칸 아래 크기로도 충분한 읽기가 연속 두 번
+ * 나오면 한 칸씩 줄여 유휴 연결이 작은 버퍼만 쓰도록 합니다. 늘릴 때는 빠르게, 줄일 때는 천천히 움직여 일시적인
+ * 작은 읽기로 크기가 흔들리지 않습니다.
+ * </p>
+ *
+ * @see ChannelOption#RCVBUF_ALLOCATOR
+ *
+ * @author
+ * @version 1.0
+ */
+public final class AdaptiveRecvByteBufAllocator implements RecvByteBufAllocator {
+
+    static final int DEFAULT_MINIMUM = 64;
+    static final int DEFAULT_INITIAL = 2048;
+    static final int DEFAULT_MAXIMUM = 65536;
+
+    /** 늘릴 때 건너뛰는 표의 칸 수 */
+    private static final int INDEX_INCREMENT = 4;
+    /** 줄일 때 내려가는 표의 칸 수 */
+    private static final int INDEX_DECREMENT = 1;
+
+    /** 오름차순 버퍼 크기 표 */
+    private static final int[] SIZE_TABLE;
+
+    static {
+        List<Integer> sizeTable = new ArrayList<>();
+        for (int i = 16; i < 512; i += 16) {
+            sizeTable.add(i);
+        }
+        // 2배씩 늘리다 int 범위를 넘으면 중단
+        for (int i = 512; i > 0; i <<= 1) {
+            sizeTable.add(i);
+        }
+        SIZE_TABLE = new int[sizeTable.size()];
+        for (int i = 0; i < SIZE_TABLE.length; i++) {
+            SIZE_TABLE[i] = sizeTable.get(i);
+        }
+    }
+
+    /** 기본 설정(최소 64, 초기 2048, 최대 65536 바이트)의 공유 인스턴스 */
+    public static final AdaptiveRecvByteBufAllocator DEFAULT = new AdaptiveRecvByteBufAllocator();
+
+    private final int minIndex;
+    private final int maxIndex;
+    private final int initial;
+
+    /**
+     * 기본 설정(최소 64, 초기 2048, 최대 65536 바이트)으로 생성합니다.
+     */
+    public AdaptiveRecvByteBufAllocator() {
+        this(DEFAULT_MINIMUM, DEFAULT_INITIAL, DEFAULT_MAXIMUM);
+    }
+
+    /**
+     * 생성자.
+     *
+     * @param minimum 버퍼 크기의 하한 (바이트 단위)
+     * @param initial 처음 사용할 버퍼 크기
+     * @param maximum 버퍼 크기의 상한
+     * @throws IllegalArgumentException {@code 0 < minimum <= initial <= maximum}이 아닐 경우
+     */
+    public AdaptiveRecvByteBufAllocator(int minimum, int initial, int maximum) {
+        if (minimum <= 0) {
+            throw new IllegalArgumentException("minimum must be positive: " + minimum);
+        }
+        if (initial < minimum) {
+            throw new IllegalArgumentException("initial (" + initial + ") must be >= minimum (" + minimum + ")");
+        }
+        if (maximum < initial) {
+            throw new IllegalArgumentException("maximum (" + maximum + ") must be >= initial (" + initial + ")");
+        }
+        // 상한이 표의 값 사이에 있으면 범위 안쪽 칸을 사용
+        this.minIndex = sizeTableIndex(minimum);
+        int maxIndex = sizeTableIndex(maximum);
+        // 상한이 표의 가장 작은 값보다 작으면 하한 칸을 사용
+        this.maxIndex = Math.max(this.minIndex, SIZE_TABLE[maxIndex] > maximum ? maxIndex - 1 : maxIndex);
+        this.initial = initial;
+    }
+
+    /**
+     * 크기 표에서 주어진 크기 이상인 가장 작은 칸의 인덱스를 이진 탐색으로 찾습니다.
+     * 표의 가장 큰 값보다 크면 마지막 칸을 반환합니다.
+     */
+    private static int sizeTableIndex(int size) {
+        int low = 0;
+        int high = SIZE_TABLE.length - 1;
+        while (low < high) {
+            int mid = low + high >>> 1;
+            if (SIZE_TABLE[mid] < size) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public Handle newHandle() {
+        return new AdaptiveHandle(minIndex, maxIndex, initial);
+    }
+
+    /**
+     * 채널 하나의 최근 읽기 크기를 기록해 다음 버퍼 크기를 정하는 핸들.
+     */
+    private static final class AdaptiveHandle implements Handle {
+
+        private final int minIndex;
+        private final int maxIndex;
+        private int index;
+        private int nextReceiveBufferSize;
+        /** 직전 읽기도 줄일 만큼 작았는지 여부 */
+        private boolean decreaseNow;
+
+        AdaptiveHandle(int minIndex, int maxIndex, int initial) {
+            this.minIndex = minIndex;
+            this.maxIndex = maxIndex;
+            this.index = Math.max(minIndex, Math.min(maxIndex, sizeTableIndex(initial)));
+            this.nextReceiveBufferSize = SIZE_TABLE[index];
+        }
+
+        @Override
+        public int guess() {
+            return nextReceiveBufferSize;
+        }
+
+        @Override
+        public void lastBytesRead(int bytes) {
+            if (bytes <= 0) {
+                return;
+            }
+            if (bytes <= SIZE_TABLE[Math.max(0, index - INDEX_DECREMENT)]) {
+                if (decreaseNow) {
+                    index = Math.max(index - INDEX_DECREMENT, minIndex);
+                    nextReceiveBufferSize = SIZE_TABLE[index];
+                    decreaseNow = false;
+                } else {
+                    decreaseNow = true;
+                }
+            } else if (bytes >= nextReceiveBufferSize) {
+                index = Math.min(index + INDEX_INCREMENT, maxIndex);
+                nextReceiveBufferSize = SIZE_TABLE[index];
+                decreaseNow = false;
+            }
+        }
+    }
+}
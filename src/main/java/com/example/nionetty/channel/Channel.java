@@ -2,6 +2,8 @@ package com.example.nionetty.channel;
 
 import java.net.SocketAddress;
 
+import com.example.nionetty.eventloop.EventLoop;
+
 /**
  * {@code Channel} 인터페이스는 네트워크 I/O를 위한 기본 추상화를 제공하며,
  * 채널이 수행해야 하는 필수 기능들을 정의합니다.
@@ -32,6 +34,14 @@ public interface Channel {
      */
     ChannelPipeline pipeline();
 
+    /**
+     * 채널이 등록된 이벤트 루프를 반환합니다.
+     * 채널의 I/O와 다른 스레드에서 요청된 쓰기는 이 루프의 스레드에서 실행됩니다.
+     *
+     * @return 등록된 {@link EventLoop}, 아직 등록되지 않았으면 null
+     */
+    EventLoop eventLoop();
+
     /**
      * 지정한 로컬 주소에 채널을 바인딩합니다.
      *
@@ -47,14 +57,58 @@ public interface Channel {
      */
     ChannelFuture close();
 
+    /**
+     * 채널에서 데이터를 한 번 더 읽도록 요청합니다.
+     * <p>
+     * 요청은 outbound 핸들러들을 거쳐 채널의 {@code OP_READ} 관심을 다시 등록합니다.
+     * {@link ChannelOption#AUTO_READ}가 {@code false}인 채널은 이 요청이 있을 때만 다음 데이터를 읽습니다.
+     * </p>
+     *
+     * @return 현재 채널
+     */
+    Channel read();
+
     /**
      * 채널에 데이터를 기록(write)하는 메서드.
+     * <p>
+     * 메시지는 채널의 송신 큐에 보관될 뿐 바로 전송되지 않으며, {@link #flush()}가 호출되어야 소켓으로 전송됩니다.
+     * 반환된 Future는 메시지가 실제로 소켓에 모두 기록되었을 때 완료됩니다.
+     * </p>
      *
      * @param msg 전송할 메시지 객체
      * @return 기록 결과를 나타내는 {@link ChannelFuture} 객체
      */
     ChannelFuture write(Object msg);
 
+    /**
+     * 지금까지 {@link #write(Object)}로 기록된 메시지들을 소켓으로 전송합니다.
+     * 소켓 송신 버퍼가 가득 차면 남은 데이터는 채널이 다시 쓰기 가능해질 때 이어서 전송됩니다.
+     *
+     * @return 현재 채널
+     */
+    Channel flush();
+
+    /**
+     * {@link #write(Object)} 후 {@link #flush()}를 호출하는 편의 메서드입니다.
+     *
+     * @param msg 전송할 메시지 객체
+     * @return 기록 결과를 나타내는 {@link ChannelFuture} 객체
+     */
+    ChannelFuture writeAndFlush(Object msg);
+
+    /**
+     * 채널이 열려 있고 송신 큐가 high 워터마크를 넘지 않아, 지금 쓰기를 해도 되는지 확인합니다.
+     * <p>
+     * {@code false}인 동안 기록한 메시지도 큐에 보관되어 전송되지만, 핸들러는 생산을 멈추고
+     * {@link ChannelInboundHandler#channelWritabilityChanged(ChannelHandlerContext)}를 기다려야
+     * 연결당 메모리 사용량이 제한됩니다.
+     * </p>
+     *
+     * @return 쓰기 가능하면 {@code true}
+     * @see ChannelOption#WRITE_BUFFER_WATER_MARK
+     */
+    boolean isWritable();
+
     /**
      * 채널 종료 후의 Future를 반환합니다.
      * 채널이 닫힐 때까지 대기할 수 있습니다.
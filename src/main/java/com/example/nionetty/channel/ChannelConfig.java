@@ -1,5 +1,7 @@
 package com.example.nionetty.channel;
 
+import java.util.Map;
+
 /**
  * {@code ChannelConfig} 인터페이스는 채널의 동작을 구성하기 위한 옵션들을 정의합니다.
  * <p>
@@ -31,4 +33,11 @@ public interface ChannelConfig {
      * @return 해당 옵션의 현재 값
      */
     <T> T getOption(ChannelOption<T> option);
+
+    /**
+     * 여러 옵션을 한 번에 설정합니다.
+     *
+     * @param options 설정할 옵션과 값
+     */
+    void setOptions(Map<ChannelOption<?>, ?> options);
 }
@@ -1,12 +1,20 @@
 package com.example.nionetty.channel;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.example.nionetty.util.Future;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * {@code ChannelFuture} 클래스는 채널의 비동기 작업 결과를 나타내는 객체입니다.
  */
 public class ChannelFuture implements Future {
 
+    private static final Logger logger = LoggerFactory.getLogger(ChannelFuture.class);
+
     // 하위 클래스에서 접근할 수 있도록 protected로 변경
     protected volatile boolean success;
     protected volatile Throwable cause;
@@ -15,6 +23,9 @@ public class ChannelFuture implements Future {
     // 채널과 연결된 ChannelFuture로서 채널 정보를 보관
     private Channel channel;
 
+    /** 완료 시 호출할 리스너 ({@code lock}으로 보호, 완료 후에는 null) */
+    private List<ChannelFutureListener> listeners;
+
     /**
      * 생성자. 초기 상태는 미완료입니다.
      */
@@ -53,6 +64,7 @@ public class ChannelFuture implements Future {
             this.success = true;
             lock.notifyAll();
         }
+        notifyListeners();
         return this;
     }
 
@@ -67,9 +79,58 @@ public class ChannelFuture implements Future {
             this.cause = cause;
             lock.notifyAll();
         }
+        notifyListeners();
+        return this;
+    }
+
+    /**
+     * 작업이 완료되면 호출될 리스너를 등록합니다. 이미 완료된 경우 호출한 스레드에서 즉시 호출됩니다.
+     * 그렇지 않으면 작업을 완료시킨 스레드(보통 채널의 이벤트 루프)에서 호출됩니다.
+     *
+     * @param listener 등록할 리스너
+     * @return 현재 {@code ChannelFuture} 인스턴스
+     */
+    public ChannelFuture addListener(ChannelFutureListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener");
+        }
+        synchronized (lock) {
+            if (!isDone()) {
+                if (listeners == null) {
+                    listeners = new ArrayList<>(1);
+                }
+                listeners.add(listener);
+                return this;
+            }
+        }
+        notifyListener(listener);
         return this;
     }
 
+    /**
+     * 등록된 리스너를 모두 호출하고 목록을 비웁니다. 작업을 완료 상태로 바꾼 뒤 호출해야 합니다.
+     */
+    protected final void notifyListeners() {
+        List<ChannelFutureListener> toNotify;
+        synchronized (lock) {
+            toNotify = listeners;
+            listeners = null;
+        }
+        if (toNotify != null) {
+            for (ChannelFutureListener listener : toNotify) {
+                notifyListener(listener);
+            }
+        }
+    }
+
+    private void notifyListener(ChannelFutureListener listener) {
+        try {
+            listener.operationComplete(this);
+        } catch (Throwable t) {
+            logger.warn("{}.operationComplete() 실행 중 예외 발생", listener.getClass().getName(), t);
+        }
+    }
+
     @Override
     public ChannelFuture sync() throws InterruptedException {
         synchronized (lock) {
@@ -0,0 +1,21 @@
+package com.example.nionetty.channel;
+
+/**
+ * {@code ChannelFutureListener} 인터페이스는 {@link ChannelFuture}가 완료되었을 때 호출되는 콜백을 정의합니다.
+ *
+ * @see ChannelFuture#addListener(ChannelFutureListener)
+ *
+ * @author
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ChannelFutureListener {
+
+    /**
+     * 작업이 성공 또는 실패로 완료되었을 때 호출됩니다.
+     *
+     * @param future 완료된 {@link ChannelFuture}
+     * @throws Exception 리스너 처리 중 발생할 수 있는 예외 (로그로 남고 전파되지 않음)
+     */
+    void operationComplete(ChannelFuture future) throws Exception;
+}
@@ -1,10 +1,40 @@
 package com.example.nionetty.channel;
 
+import com.example.nionetty.util.concurrent.EventExecutor;
+
 /**
  * {@code ChannelHandlerContext} 인터페이스는 채널 핸들러와 채널 파이프라인 사이의 중개자 역할을 수행합니다.
  */
 public interface ChannelHandlerContext {
 
+    /**
+     * 이 컨텍스트에 연결된 핸들러를 반환합니다.
+     *
+     * @return {@link ChannelHandler} 객체
+     */
+    ChannelHandler handler();
+
+    /**
+     * 이 컨텍스트의 핸들러 이벤트를 실행하는 실행기를 반환합니다.
+     * <p>
+     * {@link com.example.nionetty.util.concurrent.EventExecutorGroup}과 함께 추가된 핸들러는 그 그룹의 실행기를,
+     * 그 외에는 채널의 이벤트 루프를 반환합니다. 채널이 아직 등록되지 않았으면 {@code null}일 수 있습니다.
+     * </p>
+     *
+     * @return {@link EventExecutor}
+     */
+    EventExecutor executor();
+
+    /**
+     * 채널 활성화 이벤트를 다음 inbound 핸들러로 전달합니다.
+     */
+    void fireChannelActive();
+
+    /**
+     * 채널 비활성화 이벤트를 다음 inbound 핸들러로 전달합니다.
+     */
+    void fireChannelInactive();
+
     /**
      * 현재 채널 파이프라인에서 다음 핸들러에게 읽기 이벤트를 전달합니다.
      *
@@ -13,13 +43,36 @@ public interface ChannelHandlerContext {
     void fireChannelRead(Object msg);
 
     /**
-     * 현재 채널을 통해 데이터를 기록하고 전송합니다.
+     * 이 핸들러보다 앞(head 쪽)에 있는 outbound 핸들러부터 쓰기 요청을 전달합니다.
      *
      * @param msg 전송할 메시지 객체
      * @return 전송 결과를 나타내는 {@link ChannelFuture} 객체
      */
     ChannelFuture write(Object msg);
 
+    /**
+     * 이 핸들러보다 앞(head 쪽)에 있는 outbound 핸들러부터 플러시 요청을 전달합니다.
+     *
+     * @return 현재 컨텍스트
+     */
+    ChannelHandlerContext flush();
+
+    /**
+     * 이 핸들러보다 앞(head 쪽)에 있는 outbound 핸들러부터 읽기 요청을 전달합니다.
+     *
+     * @return 현재 컨텍스트
+     * @see ChannelOption#AUTO_READ
+     */
+    ChannelHandlerContext read();
+
+    /**
+     * 데이터를 기록한 뒤 바로 플러시합니다.
+     *
+     * @param msg 전송할 메시지 객체
+     * @return 전송 결과를 나타내는 {@link ChannelFuture} 객체
+     */
+    ChannelFuture writeAndFlush(Object msg);
+
     /**
      * 현재 채널 파이프라인의 다음 핸들러에게 예외 이벤트를 전달합니다.
      *
@@ -45,4 +98,16 @@ public interface ChannelHandlerContext {
      * 읽기 완료 이벤트를 다음 핸들러로 전달합니다.
      */
     void fireChannelReadComplete();
+
+    /**
+     * 쓰기 가능 상태 변경 이벤트를 다음 핸들러로 전달합니다.
+     */
+    void fireChannelWritabilityChanged();
+
+    /**
+     * 사용자 정의 이벤트를 다음 핸들러로 전달합니다.
+     *
+     * @param evt 전달할 이벤트 객체
+     */
+    void fireUserEventTriggered(Object evt);
 }
@@ -0,0 +1,120 @@
+package com.example.nionetty.channel;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code ChannelHandlerMask} 클래스는 핸들러가 실제로 처리하는 이벤트를 비트마스크로 계산합니다.
+ * <p>
+ * {@link ChannelInboundHandlerAdapter}나 {@link ChannelOutboundHandlerAdapter}의 메서드를 재정의하지 않고
+ * 그대로 상속한 경우 그 메서드는 이벤트를 다음 핸들러로 넘기기만 하므로, 해당 이벤트 비트를 마스크에서 뺍니다.
+ * {@link DefaultChannelHandlerContext}는 이벤트를 전달할 때 비트가 없는 컨텍스트를 호출 없이 건너뜁니다.
+ * </p>
+ * <p>
+ * 마스크는 핸들러 클래스마다 한 번 리플렉션으로 계산되어 {@link ClassValue}에 캐시됩니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+final class ChannelHandlerMask {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChannelHandlerMask.class);
+
+    static final int MASK_EXCEPTION_CAUGHT = 1;
+    static final int MASK_CHANNEL_ACTIVE = 1 << 1;
+    static final int MASK_CHANNEL_INACTIVE = 1 << 2;
+    static final int MASK_CHANNEL_READ = 1 << 3;
+    static final int MASK_CHANNEL_READ_COMPLETE = 1 << 4;
+    static final int MASK_CHANNEL_WRITABILITY_CHANGED = 1 << 5;
+    static final int MASK_WRITE = 1 << 6;
+    static final int MASK_FLUSH = 1 << 7;
+    static final int MASK_USER_EVENT_TRIGGERED = 1 << 8;
+    static final int MASK_READ = 1 << 9;
+
+    /** 모든 inbound 이벤트 */
+    static final int MASK_ALL_INBOUND = MASK_EXCEPTION_CAUGHT | MASK_CHANNEL_ACTIVE | MASK_CHANNEL_INACTIVE
+            | MASK_CHANNEL_READ | MASK_CHANNEL_READ_COMPLETE | MASK_CHANNEL_WRITABILITY_CHANGED
+            | MASK_USER_EVENT_TRIGGERED;
+    /** 모든 outbound 요청 */
+    static final int MASK_ALL_OUTBOUND = MASK_WRITE | MASK_FLUSH | MASK_READ;
+
+    private static final Class<?>[] CTX = { ChannelHandlerContext.class };
+    private static final Class<?>[] CTX_OBJECT = { ChannelHandlerContext.class, Object.class };
+    private static final Class<?>[] CTX_THROWABLE = { ChannelHandlerContext.class, Throwable.class };
+
+    private static final ClassValue<Integer> MASKS = new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return mask0(type);
+        }
+    };
+
+    private ChannelHandlerMask() {
+    }
+
+    /**
+     * 핸들러 클래스의 실행 마스크를 반환합니다 (캐시됨).
+     *
+     * @param handlerType 핸들러 클래스
+     * @return 처리하는 이벤트의 비트마스크
+     */
+    static int mask(Class<? extends ChannelHandler> handlerType) {
+        return MASKS.get(handlerType);
+    }
+
+    private static int mask0(Class<?> handlerType) {
+        int mask = 0;
+        if (ChannelInboundHandler.class.isAssignableFrom(handlerType)) {
+            mask |= MASK_ALL_INBOUND;
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "exceptionCaught", CTX_THROWABLE)) {
+                mask &= ~MASK_EXCEPTION_CAUGHT;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "channelActive", CTX)) {
+                mask &= ~MASK_CHANNEL_ACTIVE;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "channelInactive", CTX)) {
+                mask &= ~MASK_CHANNEL_INACTIVE;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "channelRead", CTX_OBJECT)) {
+                mask &= ~MASK_CHANNEL_READ;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "channelReadComplete", CTX)) {
+                mask &= ~MASK_CHANNEL_READ_COMPLETE;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "channelWritabilityChanged", CTX)) {
+                mask &= ~MASK_CHANNEL_WRITABILITY_CHANGED;
+            }
+            if (isSkippable(handlerType, ChannelInboundHandlerAdapter.class, "userEventTriggered", CTX_OBJECT)) {
+                mask &= ~MASK_USER_EVENT_TRIGGERED;
+            }
+        }
+        if (ChannelOutboundHandler.class.isAssignableFrom(handlerType)) {
+            mask |= MASK_ALL_OUTBOUND;
+            if (isSkippable(handlerType, ChannelOutboundHandlerAdapter.class, "write", CTX_OBJECT)) {
+                mask &= ~MASK_WRITE;
+            }
+            if (isSkippable(handlerType, ChannelOutboundHandlerAdapter.class, "flush", CTX)) {
+                mask &= ~MASK_FLUSH;
+            }
+            if (isSkippable(handlerType, ChannelOutboundHandlerAdapter.class, "read", CTX)) {
+                mask &= ~MASK_READ;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 메서드가 어댑터의 전달 전용 구현을 그대로 상속했는지 확인합니다.
+     * 확인할 수 없으면 건너뛰지 않도록 {@code false}를 반환합니다.
+     */
+    private static boolean isSkippable(Class<?> handlerType, Class<?> adapterType, String methodName,
+            Class<?>[] paramTypes) {
+        try {
+            return handlerType.getMethod(methodName, paramTypes).getDeclaringClass() == adapterType;
+        } catch (NoSuchMethodException | SecurityException e) {
+            logger.debug("{}.{}() 조회 실패, 건너뛰지 않습니다", handlerType.getName(), methodName, e);
+            return false;
+        }
+    }
+}
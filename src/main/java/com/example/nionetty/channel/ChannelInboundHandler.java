@@ -47,6 +47,31 @@ public interface ChannelInboundHandler extends ChannelHandler {
      */
     void channelReadComplete(ChannelHandlerContext ctx) throws Exception;
 
+    /**
+     * 채널의 쓰기 가능 상태({@link Channel#isWritable()})가 바뀌었을 때 호출됩니다.
+     * <p>
+     * 송신 큐가 high 워터마크를 넘으면 쓰기 불가로, low 워터마크 아래로 내려가면 다시 쓰기 가능으로 바뀝니다.
+     * 느린 피어를 상대로 데이터를 계속 생산하지 않도록 이 이벤트에서 생산을 멈추거나 재개합니다.
+     * </p>
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @throws Exception 이벤트 처리 중 발생할 수 있는 예외
+     */
+    void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception;
+
+    /**
+     * 사용자 정의 이벤트가 발생했을 때 호출됩니다.
+     * <p>
+     * I/O 이외의 상태 변화(예: {@link com.example.nionetty.handler.IdleStateEvent 유휴 상태})를 파이프라인의
+     * 다른 핸들러에 알리는 데 사용합니다. 처리하지 않는 이벤트는 다음 핸들러로 전달해야 합니다.
+     * </p>
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @param evt 발생한 이벤트 객체
+     * @throws Exception 이벤트 처리 중 발생할 수 있는 예외
+     */
+    void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception;
+
     /**
      * 예외가 발생했을 때 호출됩니다.
      *
@@ -16,7 +16,7 @@ package com.example.nionetty.channel;
 public class ChannelInboundHandlerAdapter implements ChannelInboundHandler {
 
     /**
-     * 채널 활성화 이벤트에 대한 기본 구현.
+     * 채널 활성화 이벤트에 대한 기본 구현: 다음 핸들러로 전달합니다.
      * 하위 클래스에서 오버라이드하여 필요 시 추가 동작을 구현할 수 있습니다.
      *
      * @param ctx 채널 핸들러 컨텍스트
@@ -24,18 +24,18 @@ public class ChannelInboundHandlerAdapter implements ChannelInboundHandler {
      */
     @Override
     public void channelActive(ChannelHandlerContext ctx) throws Exception {
-        // 기본 구현: 아무런 동작도 수행하지 않음.
+        ctx.fireChannelActive();
     }
 
     /**
-     * 채널 비활성화 이벤트에 대한 기본 구현.
+     * 채널 비활성화 이벤트에 대한 기본 구현: 다음 핸들러로 전달합니다.
      *
      * @param ctx 채널 핸들러 컨텍스트
      * @throws Exception 처리 중 발생 가능한 예외
      */
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-        // 기본 구현: 아무런 동작도 수행하지 않음.
+        ctx.fireChannelInactive();
     }
 
     /**
@@ -52,14 +52,39 @@ public class ChannelInboundHandlerAdapter implements ChannelInboundHandler {
     }
 
     /**
-     * 읽기 완료 이벤트에 대한 기본 구현.
+     * 읽기 완료 이벤트에 대한 기본 구현: 다음 핸들러로 전달합니다.
      *
      * @param ctx 채널 핸들러 컨텍스트
      * @throws Exception 처리 중 발생 가능한 예외
      */
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
-        // 기본 구현: 아무런 동작도 수행하지 않음.
+        ctx.fireChannelReadComplete();
+    }
+
+    /**
+     * 쓰기 가능 상태 변경 이벤트에 대한 기본 구현.
+     * 기본적으로 이벤트를 다음 핸들러로 전달합니다.
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @throws Exception 처리 중 발생 가능한 예외
+     */
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    /**
+     * 사용자 정의 이벤트에 대한 기본 구현.
+     * 기본적으로 이벤트를 다음 핸들러로 전달합니다.
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @param evt 발생한 이벤트 객체
+     * @throws Exception 처리 중 발생 가능한 예외
+     */
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        ctx.fireUserEventTriggered(evt);
     }
 
     /**
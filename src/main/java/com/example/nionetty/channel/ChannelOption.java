@@ -15,6 +15,56 @@ import java.util.Objects;
  */
 public final class ChannelOption<T> {
 
+    /**
+     * 한 번의 flush에서 소켓 쓰기를 시도하는 최대 횟수 (기본: 16).
+     * 값이 작을수록 대량 송신 채널이 루프를 오래 점유하지 않고, 남은 데이터는 {@code OP_WRITE}로 이어서 전송됩니다.
+     */
+    public static final ChannelOption<Integer> WRITE_SPIN_COUNT = valueOf("WRITE_SPIN_COUNT");
+
+    /**
+     * 한 번의 gathering write({@code SocketChannel.write(ByteBuffer[])})에 담을 최대 버퍼 수 (기본: 1024).
+     */
+    public static final ChannelOption<Integer> MAX_MESSAGES_PER_WRITE = valueOf("MAX_MESSAGES_PER_WRITE");
+
+    /**
+     * 한 번의 gathering write에 담을 최대 바이트 수 (기본: 1 MiB).
+     * 첫 버퍼는 이 값을 넘더라도 항상 포함됩니다.
+     */
+    public static final ChannelOption<Integer> MAX_BYTES_PER_GATHERING_WRITE =
+            valueOf("MAX_BYTES_PER_GATHERING_WRITE");
+
+    /**
+     * 소켓 채널이 데이터를 자동으로 계속 읽을지 여부 (기본: {@code true}).
+     * <p>
+     * {@code false}이면 채널은 등록 후에도, 한 번의 읽기가 끝난 뒤에도 {@code OP_READ}를 해제하고
+     * {@link Channel#read()}나 {@link ChannelHandlerContext#read()}가 호출될 때만 다음 데이터를 읽습니다.
+     * 읽지 않는 동안 데이터는 커널 수신 버퍼에 남고 TCP 흐름 제어가 송신측을 늦추므로, 프록시나 느린 소비자가
+     * 힙에 쌓아 두지 않고 역압을 전달할 수 있습니다. 실행 중에 다시 {@code true}로 바꾸면 {@code read()}를
+     * 한 번 호출해 읽기를 재개해야 합니다.
+     * </p>
+     */
+    public static final ChannelOption<Boolean> AUTO_READ = valueOf("AUTO_READ");
+
+    /**
+     * 읽기 가능한 채널 하나에서 한 번의 깨어남 동안 반복해 읽을 최대 횟수 (기본: 16).
+     * 스트리밍 연결은 {@code select()} 한 번에 수신 버퍼를 비우고, 값이 작을수록 바쁜 채널이 루프를 오래
+     * 점유하지 않습니다.
+     */
+    public static final ChannelOption<Integer> MAX_MESSAGES_PER_READ = valueOf("MAX_MESSAGES_PER_READ");
+
+    /**
+     * 송신 큐의 high/low 워터마크 (기본: {@link WriteBufferWaterMark#DEFAULT}).
+     * 송신 큐가 high를 넘으면 채널이 쓰기 불가 상태가 되어 핸들러가 생산을 멈출 수 있습니다.
+     */
+    public static final ChannelOption<WriteBufferWaterMark> WRITE_BUFFER_WATER_MARK =
+            valueOf("WRITE_BUFFER_WATER_MARK");
+
+    /**
+     * 소켓 읽기에 사용할 수신 버퍼의 크기를 정하는 할당기 (기본: {@link AdaptiveRecvByteBufAllocator#DEFAULT}).
+     * 기본 할당기는 최근 읽은 크기에 맞춰 64 B ~ 64 KiB 사이에서 버퍼 크기를 조정합니다.
+     */
+    public static final ChannelOption<RecvByteBufAllocator> RCVBUF_ALLOCATOR = valueOf("RCVBUF_ALLOCATOR");
+
     /** 옵션의 이름 */
     private final String name;
 
@@ -0,0 +1,372 @@
+package com.example.nionetty.channel;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.example.nionetty.buffer.CompositeBuffer;
+import com.example.nionetty.buffer.CustomBuffer;
+
+/**
+ * {@code ChannelOutboundBuffer} 클래스는 채널에 기록(write)되었지만 아직 소켓으로 전송되지 않은
+ * 메시지들을 보관하는 채널별 송신 큐입니다.
+ * <p>
+ * {@link Channel#write(Object)}는 메시지를 큐의 "미플러시" 구간에 추가만 하고,
+ * {@link Channel#flush()}가 호출되면 그때까지 추가된 메시지가 "플러시" 구간으로 옮겨져 전송 대상이 됩니다.
+ * 전송은 항상 큐의 앞({@link #current()})부터 이루어지며, 메시지가 모두 전송되면 {@link #remove()}로
+ * 버퍼를 해제하고 해당 write의 {@link ChannelFuture}를 성공 처리합니다.
+ * </p>
+ * <p>
+ * 작은 메시지가 많이 쌓인 경우 {@link #nioBuffers(int, long)}로 여러 메시지를 하나의 {@link ByteBuffer} 배열로
+ * 모아 gathering write 한 번으로 전송하고, {@link #removeBytes(long)}로 전송된 만큼 큐를 정리합니다.
+ * {@link CompositeBuffer} 메시지는 구성 요소마다 하나씩 배열에 담겨 복사 없이 함께 전송됩니다.
+ * 배열은 큐마다 하나를 재사용하므로 flush마다 배열을 새로 만들지 않습니다.
+ * </p>
+ * <p>
+ * 큐에 쌓인 바이트 수는 {@link ChannelOption#WRITE_BUFFER_WATER_MARK}와 비교되어, high 워터마크를 넘으면
+ * 채널을 쓰기 불가로, low 워터마크 아래로 내려가면 다시 쓰기 가능으로 바꾸고
+ * {@link ChannelPipeline#fireChannelWritabilityChanged()}를 호출합니다.
+ * </p>
+ *
+ * <pre>
+ * flushedEntry --&gt; ... --&gt; unflushedEntry --&gt; ... --&gt; tailEntry
+ * [ 전송 대상 (flushed)  ][ flush 대기 (unflushed)             ]
+ * </pre>
+ *
+ * <p>
+ * 채널의 이벤트 루프 스레드에서만 접근해야 하며, 별도의 동기화는 하지 않습니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class ChannelOutboundBuffer {
+
+    /** 이 큐를 소유한 채널 */
+    private final Channel channel;
+
+    /** 플러시되어 전송 대상이 된 첫 엔트리 (없으면 null) */
+    private Entry flushedEntry;
+    /** 아직 플러시되지 않은 첫 엔트리 (없으면 null) */
+    private Entry unflushedEntry;
+    /** 마지막 엔트리 */
+    private Entry tailEntry;
+    /** 플러시된 엔트리 수 */
+    private int flushed;
+    /** 큐에 남은 전체 바이트 수 */
+    private long totalPendingSize;
+
+    /** gathering write에 재사용하는 배열 */
+    private ByteBuffer[] nioBufferArray = new ByteBuffer[16];
+    /** 마지막 {@link #nioBuffers(int, long)} 호출로 채운 버퍼 수 */
+    private int nioBufferCount;
+    /** 마지막 {@link #nioBuffers(int, long)} 호출로 채운 바이트 수 */
+    private long nioBufferSize;
+
+    /** 쓰기 가능 상태 (다른 스레드에서 {@link Channel#isWritable()}로 조회될 수 있음) */
+    private volatile boolean writable = true;
+
+    /**
+     * 생성자.
+     *
+     * @param channel 이 큐를 소유한 채널 (워터마크 설정 조회와 이벤트 전달에 사용)
+     */
+    public ChannelOutboundBuffer(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 메시지를 큐의 미플러시 구간 끝에 추가합니다.
+     * 큐는 버퍼의 소유권을 넘겨받으며, 전송 완료나 실패 시 해제합니다.
+     *
+     * @param msg    전송할 버퍼
+     * @param future 전송 완료 시 성공 처리할 Future
+     */
+    public void addMessage(CustomBuffer msg, ChannelFuture future) {
+        Entry entry = new Entry(msg, future);
+        if (tailEntry == null) {
+            flushedEntry = null;
+        } else {
+            tailEntry.next = entry;
+        }
+        tailEntry = entry;
+        if (unflushedEntry == null) {
+            unflushedEntry = entry;
+        }
+        incrementPendingOutboundBytes(entry.pendingSize);
+    }
+
+    /**
+     * 지금까지 추가된 미플러시 메시지를 모두 전송 대상으로 표시합니다.
+     */
+    public void addFlush() {
+        Entry entry = unflushedEntry;
+        if (entry == null) {
+            return;
+        }
+        if (flushedEntry == null) {
+            flushedEntry = entry;
+        }
+        do {
+            flushed++;
+            entry = entry.next;
+        } while (entry != null);
+        unflushedEntry = null;
+    }
+
+    /**
+     * 다음에 전송할 메시지를 반환합니다.
+     *
+     * @return 플러시된 첫 메시지, 없으면 null
+     */
+    public CustomBuffer current() {
+        Entry entry = flushedEntry;
+        return entry == null ? null : entry.msg;
+    }
+
+    /**
+     * 전송이 끝난 현재 메시지를 큐에서 제거하고, 버퍼를 해제한 뒤 Future를 성공 처리합니다.
+     *
+     * @return 제거할 메시지가 있었으면 {@code true}
+     */
+    public boolean remove() {
+        Entry entry = flushedEntry;
+        if (entry == null) {
+            return false;
+        }
+        removeEntry(entry);
+        entry.msg.release();
+        entry.future.setSuccess();
+        return true;
+    }
+
+    /**
+     * 현재 메시지를 실패로 제거합니다. 버퍼는 해제되고 Future는 실패 처리됩니다.
+     *
+     * @param cause 실패 원인
+     * @return 제거할 메시지가 있었으면 {@code true}
+     */
+    public boolean remove(Throwable cause) {
+        Entry entry = flushedEntry;
+        if (entry == null) {
+            return false;
+        }
+        removeEntry(entry);
+        entry.msg.release();
+        entry.future.setFailure(cause);
+        return true;
+    }
+
+    /**
+     * 플러시된 메시지들의 읽기 가능 영역을 gathering write용 배열에 채워 반환합니다.
+     * <p>
+     * 큐의 앞에서부터 최대 {@code maxCount}개, 합계 {@code maxBytes}바이트까지 담으며
+     * (첫 메시지는 크기와 무관하게 항상 포함), 읽을 데이터가 없는 메시지는 건너뜁니다.
+     * {@link CompositeBuffer}는 구성 요소 수만큼 배열을 차지하며, 나눠 담지 않으므로 {@code maxCount}를 넘을 수 있습니다.
+     * 채운 개수와 바이트 수는 {@link #nioBufferCount()}, {@link #nioBufferSize()}로 확인합니다.
+     * 반환된 배열은 다음 호출 시 재사용됩니다.
+     * </p>
+     *
+     * @param maxCount 담을 최대 버퍼 수
+     * @param maxBytes 담을 최대 바이트 수
+     * @return 재사용되는 {@link ByteBuffer} 배열 (앞의 {@link #nioBufferCount()}개만 유효)
+     */
+    public ByteBuffer[] nioBuffers(int maxCount, long maxBytes) {
+        ByteBuffer[] nioBuffers = nioBufferArray;
+        int count = 0;
+        long size = 0;
+        Entry entry = flushedEntry;
+        // flushed 구간만 순회 (unflushedEntry부터는 아직 전송 대상이 아님)
+        for (int i = 0; i < flushed && count < maxCount; i++, entry = entry.next) {
+            int readable = entry.msg.readableBytes();
+            if (readable == 0) {
+                continue;
+            }
+            if (count > 0 && size + readable > maxBytes) {
+                break;
+            }
+            if (entry.msg instanceof CompositeBuffer) {
+                // 부분 전송은 skipBytes()로 읽기 인덱스에 반영되므로 뷰를 캐시하지 않고 매번 만듦
+                ByteBuffer[] componentBufs = ((CompositeBuffer) entry.msg).nioBuffers();
+                if (count + componentBufs.length > nioBuffers.length) {
+                    nioBuffers = Arrays.copyOf(nioBuffers,
+                            Math.max(nioBuffers.length << 1, count + componentBufs.length));
+                    nioBufferArray = nioBuffers;
+                }
+                System.arraycopy(componentBufs, 0, nioBuffers, count, componentBufs.length);
+                count += componentBufs.length;
+                size += readable;
+                continue;
+            }
+            if (count == nioBuffers.length) {
+                nioBuffers = Arrays.copyOf(nioBuffers, Math.min(count << 1, Math.max(maxCount, count + 1)));
+                nioBufferArray = nioBuffers;
+            }
+            ByteBuffer nioBuf = entry.nioBuf;
+            if (nioBuf == null) {
+                // 부분 전송 시 위치가 보존되도록 엔트리에 뷰를 캐시
+                nioBuf = entry.msg.nioBuffer();
+                entry.nioBuf = nioBuf;
+            }
+            nioBuffers[count++] = nioBuf;
+            size += readable;
+        }
+        nioBufferCount = count;
+        nioBufferSize = size;
+        return nioBuffers;
+    }
+
+    /**
+     * 마지막 {@link #nioBuffers(int, long)} 호출로 채운 버퍼 수를 반환합니다.
+     *
+     * @return 버퍼 수
+     */
+    public int nioBufferCount() {
+        return nioBufferCount;
+    }
+
+    /**
+     * 마지막 {@link #nioBuffers(int, long)} 호출로 채운 바이트 수를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public long nioBufferSize() {
+        return nioBufferSize;
+    }
+
+    /**
+     * 소켓에 기록된 바이트 수만큼 큐를 정리합니다.
+     * 완전히 전송된 메시지(및 읽을 데이터가 없는 메시지)는 제거되어 Future가 성공 처리되고,
+     * 일부만 전송된 메시지는 그만큼 읽기 인덱스를 옮깁니다.
+     *
+     * @param writtenBytes 기록된 바이트 수
+     */
+    public void removeBytes(long writtenBytes) {
+        for (;;) {
+            Entry entry = flushedEntry;
+            if (entry == null) {
+                break;
+            }
+            int readable = entry.msg.readableBytes();
+            if (readable <= writtenBytes) {
+                writtenBytes -= readable;
+                remove();
+            } else {
+                if (writtenBytes > 0) {
+                    entry.msg.skipBytes((int) writtenBytes);
+                }
+                break;
+            }
+        }
+        // 해제된 버퍼의 뷰를 배열에 남겨두지 않음
+        Arrays.fill(nioBufferArray, 0, nioBufferCount, null);
+        nioBufferCount = 0;
+        nioBufferSize = 0;
+    }
+
+    private void removeEntry(Entry entry) {
+        if (--flushed == 0) {
+            flushedEntry = null;
+            if (entry == tailEntry) {
+                tailEntry = null;
+                unflushedEntry = null;
+            }
+        } else {
+            flushedEntry = entry.next;
+        }
+        decrementPendingOutboundBytes(entry.pendingSize);
+    }
+
+    private void incrementPendingOutboundBytes(long size) {
+        if (size == 0) {
+            return;
+        }
+        totalPendingSize += size;
+        if (writable && totalPendingSize > waterMark().high()) {
+            writable = false;
+            channel.pipeline().fireChannelWritabilityChanged();
+        }
+    }
+
+    private void decrementPendingOutboundBytes(long size) {
+        if (size == 0) {
+            return;
+        }
+        totalPendingSize -= size;
+        if (!writable && totalPendingSize < waterMark().low()) {
+            writable = true;
+            channel.pipeline().fireChannelWritabilityChanged();
+        }
+    }
+
+    private WriteBufferWaterMark waterMark() {
+        return channel.config().getOption(ChannelOption.WRITE_BUFFER_WATER_MARK);
+    }
+
+    /**
+     * 큐에 남은 모든 메시지(플러시 여부와 무관)를 실패 처리하고 버퍼를 해제합니다.
+     * 채널이 닫힐 때 호출됩니다.
+     *
+     * @param cause 실패 원인
+     */
+    public void failAll(Throwable cause) {
+        // 미플러시 메시지도 함께 실패시키기 위해 먼저 모두 플러시 구간으로 옮김
+        addFlush();
+        while (remove(cause)) {
+            // 계속 제거
+        }
+    }
+
+    /**
+     * 송신 큐가 high 워터마크를 넘지 않았는지 확인합니다.
+     *
+     * @return 쓰기 가능하면 {@code true}
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /**
+     * 전송 대상 메시지가 없는지 확인합니다.
+     *
+     * @return 플러시된 메시지가 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return flushed == 0;
+    }
+
+    /**
+     * 전송 대상 메시지 수를 반환합니다.
+     *
+     * @return 플러시된 메시지 수
+     */
+    public int size() {
+        return flushed;
+    }
+
+    /**
+     * 큐에 남은 전체 바이트 수를 반환합니다 (미플러시 메시지 포함).
+     *
+     * @return 대기 중인 바이트 수
+     */
+    public long totalPendingSize() {
+        return totalPendingSize;
+    }
+
+    /**
+     * 큐의 메시지 하나와 그 write의 Future.
+     */
+    private static final class Entry {
+        final CustomBuffer msg;
+        final ChannelFuture future;
+        final int pendingSize;
+        /** gathering write용으로 캐시한 읽기 영역 뷰 */
+        ByteBuffer nioBuf;
+        Entry next;
+
+        Entry(CustomBuffer msg, ChannelFuture future) {
+            this.msg = msg;
+            this.future = future;
+            this.pendingSize = msg.readableBytes();
+        }
+    }
+}
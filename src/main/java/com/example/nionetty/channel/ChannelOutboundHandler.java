@@ -38,4 +38,16 @@ public interface ChannelOutboundHandler extends ChannelHandler {
      * @throws Exception 플러시 작업 중 발생할 수 있는 예외
      */
     void flush(ChannelHandlerContext ctx) throws Exception;
+
+    /**
+     * 채널에서 데이터를 더 읽도록 요청할 때 호출됩니다.
+     * <p>
+     * 핸들러는 요청을 다음 핸들러로 넘기지 않고 보류해 읽기를 늦출 수 있습니다.
+     * </p>
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @throws Exception 요청 처리 중 발생할 수 있는 예외
+     * @see ChannelOption#AUTO_READ
+     */
+    void read(ChannelHandlerContext ctx) throws Exception;
 }
@@ -3,7 +3,8 @@ package com.example.nionetty.channel;
 /**
  * {@code ChannelOutboundHandlerAdapter} 클래스는 {@link ChannelOutboundHandler} 인터페이스의 기본 구현체를 제공합니다.
  * <p>
- * 기본 구현에서는 {@link #write(ChannelHandlerContext, Object)}와 {@link #flush(ChannelHandlerContext)} 메서드에서
+ * 기본 구현에서는 {@link #write(ChannelHandlerContext, Object)}, {@link #flush(ChannelHandlerContext)},
+ * {@link #read(ChannelHandlerContext)} 메서드에서
  * 받은 이벤트를 다음 핸들러로 전달하도록 되어 있어, 필요에 따라 오버라이드하여 커스텀 동작을 구현할 수 있습니다.
  * </p>
  *
@@ -37,7 +38,18 @@ public class ChannelOutboundHandlerAdapter implements ChannelOutboundHandler {
     @Override
     public void flush(ChannelHandlerContext ctx) throws Exception {
         // 기본 구현: 특별한 처리 없이 단순히 플러시 이벤트를 전달
-        ctx.fireChannelReadComplete();
+        ctx.flush();
+    }
+
+    /**
+     * 읽기 요청이 들어왔을 때, 기본적으로 요청을 다음 핸들러로 전달합니다.
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @throws Exception 요청 처리 중 발생할 수 있는 예외
+     */
+    @Override
+    public void read(ChannelHandlerContext ctx) throws Exception {
+        ctx.read();
     }
 
     /**
@@ -1,34 +1,67 @@
 package com.example.nionetty.channel;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.example.nionetty.util.ReferenceCountUtil;
+import com.example.nionetty.util.concurrent.EventExecutor;
+import com.example.nionetty.util.concurrent.EventExecutorGroup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@code ChannelPipeline} 클래스는 채널 핸들러들을 순차적으로 관리하며,
  * 발생하는 모든 이벤트를 핸들러 체인에 따라 전달합니다.
  * <p>
- * 핸들러들은 파이프라인에 등록된 순서대로 이벤트를 처리하며,
- * 각 핸들러는 {@link ChannelHandlerContext}를 통해 다음 핸들러로 이벤트를 전달할 수 있습니다.
+ * 파이프라인은 핸들러마다 하나씩 만들어지는 {@link DefaultChannelHandlerContext}의 이중 연결 리스트이며,
+ * 양 끝에는 head/tail 센티널 컨텍스트가 있습니다. 컨텍스트는 핸들러가 제거될 때까지 유지되므로
+ * 이벤트 전달 중에는 객체를 생성하지 않습니다.
  * </p>
  *
- * 예를 들어, 채널의 읽기, 쓰기, 예외 처리 등의 이벤트가 발생하면
- * 파이프라인 내의 각 핸들러가 순차적으로 호출되어 이벤트를 처리합니다.
+ * <pre>
+ *  inbound 이벤트 (fireChannelRead 등)      outbound 요청 (write, flush, read)
+ *  head --&gt; h1 --&gt; h2 --&gt; ... --&gt; tail       head &lt;-- h1 &lt;-- h2 &lt;-- ... &lt;-- tail
+ * </pre>
+ * <ul>
+ * <li>inbound 이벤트는 head에서 시작해 {@link ChannelInboundHandler}만 순서대로 거쳐 tail에 도달합니다.
+ * 핸들러는 {@link ChannelHandlerContext#fireChannelRead(Object)} 등으로 다음 핸들러에 이벤트를 넘깁니다.
+ * tail에 도달한 메시지는 해제되고, 처리되지 않은 예외는 로그로 남깁니다.</li>
+ * <li>outbound 요청은 tail(또는 요청한 컨텍스트)에서 시작해 {@link ChannelOutboundHandler}만 역순으로 거쳐
+ * head에 도달하며, head가 채널의 실제 전송 로직을 호출합니다.</li>
+ * </ul>
+ * <p>
+ * 핸들러는 기본적으로 채널의 이벤트 루프 스레드에서 호출되므로 블로킹 작업을 하면 안 됩니다. 블로킹이 필요한 핸들러는
+ * {@link #addLast(EventExecutorGroup, ChannelHandler)}로 {@link EventExecutorGroup}과 함께 추가하면 그 그룹의
+ * 실행기에서 호출됩니다. 한 파이프라인은 그룹마다 실행기 하나만 받아 고정하므로, 같은 그룹으로 추가된 핸들러들은
+ * 같은 스레드에서 채널의 이벤트를 순서대로 처리합니다.
+ * </p>
  *
  * @see ChannelHandler
  * @see ChannelHandlerContext
- * 
+ *
  * @author
  * @version 1.0
  */
 public class ChannelPipeline {
 
-    /** 이 파이프라인에 등록된 핸들러들의 리스트 */
-    private final List<ChannelHandler> handlers = new ArrayList<>();
+    private static final Logger logger = LoggerFactory.getLogger(ChannelPipeline.class);
 
     /** 소속된 채널 */
     private final Channel channel;
 
+    /** 첫 번째 센티널 컨텍스트: outbound 요청을 채널에 전달 */
+    final DefaultChannelHandlerContext head;
+
+    /** 마지막 센티널 컨텍스트: 처리되지 않은 inbound 이벤트를 정리 */
+    final DefaultChannelHandlerContext tail;
+
+    /** 그룹별로 이 채널에 고정된 실행기 (this로 보호, 처음 사용 시 생성) */
+    private Map<EventExecutorGroup, EventExecutor> childExecutors;
+
     /**
      * {@code ChannelPipeline} 생성자.
      *
@@ -36,60 +69,153 @@ public class ChannelPipeline {
      */
     public ChannelPipeline(Channel channel) {
         this.channel = channel;
+        this.head = new HeadContext(this);
+        this.tail = new TailContext(this);
+        head.next = tail;
+        tail.prev = head;
     }
 
     /**
-     * 파이프라인에 핸들러를 추가합니다.
+     * 파이프라인의 맨 앞(head 바로 뒤)에 핸들러를 추가합니다.
+     *
+     * @param handler 추가할 {@link ChannelHandler} 객체
+     * @return 현재 파이프라인 인스턴스
+     */
+    public ChannelPipeline addFirst(ChannelHandler handler) {
+        return addFirst(null, handler);
+    }
+
+    /**
+     * 파이프라인의 맨 앞(head 바로 뒤)에 핸들러를 추가하고, 핸들러의 이벤트를 주어진 그룹의 실행기에서 호출합니다.
+     *
+     * @param group   핸들러를 실행할 {@link EventExecutorGroup}, {@code null}이면 채널의 이벤트 루프
+     * @param handler 추가할 {@link ChannelHandler} 객체
+     * @return 현재 파이프라인 인스턴스
+     */
+    public ChannelPipeline addFirst(EventExecutorGroup group, ChannelHandler handler) {
+        DefaultChannelHandlerContext newCtx = newContext(group, handler);
+        synchronized (this) {
+            DefaultChannelHandlerContext next = head.next;
+            newCtx.prev = head;
+            newCtx.next = next;
+            next.prev = newCtx;
+            head.next = newCtx;
+        }
+        callHandlerAdded(newCtx);
+        return this;
+    }
+
+    /**
+     * 파이프라인의 맨 뒤(tail 바로 앞)에 핸들러를 추가합니다.
      *
      * @param handler 추가할 {@link ChannelHandler} 객체
      * @return 현재 파이프라인 인스턴스 (빌더 패턴 지원)
      */
     public ChannelPipeline addLast(ChannelHandler handler) {
-        handlers.add(handler);
-        // 핸들러가 추가될 때 호출
+        return addLast(null, handler);
+    }
+
+    /**
+     * 파이프라인의 맨 뒤(tail 바로 앞)에 핸들러를 추가하고, 핸들러의 이벤트를 주어진 그룹의 실행기에서 호출합니다.
+     * <p>
+     * 채널마다 그룹에서 실행기 하나를 골라 고정하므로, 블로킹이나 CPU 사용이 많은 핸들러도 이벤트 루프를 막지 않고
+     * 채널의 이벤트를 순서대로 처리합니다.
+     * </p>
+     *
+     * @param group   핸들러를 실행할 {@link EventExecutorGroup}, {@code null}이면 채널의 이벤트 루프
+     * @param handler 추가할 {@link ChannelHandler} 객체
+     * @return 현재 파이프라인 인스턴스 (빌더 패턴 지원)
+     */
+    public ChannelPipeline addLast(EventExecutorGroup group, ChannelHandler handler) {
+        DefaultChannelHandlerContext newCtx = newContext(group, handler);
+        synchronized (this) {
+            DefaultChannelHandlerContext prev = tail.prev;
+            newCtx.prev = prev;
+            newCtx.next = tail;
+            prev.next = newCtx;
+            tail.prev = newCtx;
+        }
+        callHandlerAdded(newCtx);
+        return this;
+    }
+
+    private DefaultChannelHandlerContext newContext(EventExecutorGroup group, ChannelHandler handler) {
+        if (handler == null) {
+            throw new NullPointerException("handler");
+        }
+        return new DefaultChannelHandlerContext(this, childExecutor(group), handler);
+    }
+
+    /**
+     * 그룹에서 이 채널에 고정된 실행기를 반환합니다. 처음 사용하는 그룹이면 {@link EventExecutorGroup#next()}로
+     * 하나를 받아 고정합니다.
+     */
+    private synchronized EventExecutor childExecutor(EventExecutorGroup group) {
+        if (group == null) {
+            return null;
+        }
+        if (childExecutors == null) {
+            // 그룹 수는 보통 1~2개이므로 작은 IdentityHashMap으로 충분
+            childExecutors = new IdentityHashMap<>(4);
+        }
+        return childExecutors.computeIfAbsent(group, EventExecutorGroup::next);
+    }
+
+    private void callHandlerAdded(DefaultChannelHandlerContext ctx) {
         try {
             // 새로 추가된 핸들러에 handlerAdded 이벤트 전달
-            ChannelHandlerContext ctx = new DefaultChannelHandlerContext(this, handler);
-            handler.handlerAdded(ctx);
-        } catch (Exception e) {
-            // handlerAdded 호출 중 예외 발생 시 처리 (실제 구현에서는 로깅 처리)
-            e.printStackTrace();
+            ctx.handler().handlerAdded(ctx);
+        } catch (Throwable t) {
+            logger.warn("{}.handlerAdded() 실패, 핸들러를 제거합니다", ctx.handler().getClass().getName(), t);
+            remove(ctx.handler());
         }
-        return this;
     }
 
     /**
-     * 파이프라인에서 지정된 핸들러를 제거합니다.
+     * 파이프라인에서 지정된 핸들러를 제거합니다. 제거된 핸들러에는 {@code handlerRemoved}가 호출됩니다.
+     * 해당 핸들러가 없으면 아무 것도 하지 않습니다.
      *
      * @param handler 제거할 {@link ChannelHandler} 객체
      * @return 현재 파이프라인 인스턴스
      */
     public ChannelPipeline remove(ChannelHandler handler) {
-        handlers.remove(handler);
+        DefaultChannelHandlerContext ctx;
+        synchronized (this) {
+            ctx = context0(handler);
+            if (ctx == null) {
+                return this;
+            }
+            DefaultChannelHandlerContext prev = ctx.prev;
+            DefaultChannelHandlerContext next = ctx.next;
+            prev.next = next;
+            next.prev = prev;
+            // ctx.prev/next는 그대로 두어, 제거 도중 이벤트를 전달 중인 스레드가 계속 진행할 수 있게 함
+        }
+        try {
+            handler.handlerRemoved(ctx);
+        } catch (Throwable t) {
+            logger.warn("{}.handlerRemoved() 실패", handler.getClass().getName(), t);
+        }
         return this;
     }
 
     /**
-     * 다음 핸들러에게 읽기 이벤트를 전달합니다.
-     * <p>
-     * 실제 구현에서는 현재 컨텍스트 다음의 핸들러를 찾아 {@code fireChannelRead()}를 호출해야 합니다.
-     * 이 예제에서는 단순히 모든 핸들러에 순차적으로 이벤트를 전달합니다.
-     * </p>
+     * 지정된 핸들러의 컨텍스트를 반환합니다.
      *
-     * @param msg 전달할 메시지 객체
+     * @param handler 찾을 핸들러
+     * @return 핸들러의 {@link ChannelHandlerContext}, 없으면 null
      */
-    public void fireChannelRead(Object msg) {
-        for (ChannelHandler handler : handlers) {
-            // 실제 사용 시, 각 핸들러에 대한 Context를 통한 호출 필요
-            if (handler instanceof ChannelInboundHandler) {
-                try {
-                    ChannelHandlerContext ctx = new DefaultChannelHandlerContext(this, handler);
-                    ((ChannelInboundHandler) handler).channelRead(ctx, msg);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+    public ChannelHandlerContext context(ChannelHandler handler) {
+        return context0(handler);
+    }
+
+    private DefaultChannelHandlerContext context0(ChannelHandler handler) {
+        for (DefaultChannelHandlerContext ctx = head.next; ctx != tail; ctx = ctx.next) {
+            if (ctx.handler() == handler) {
+                return ctx;
             }
         }
+        return null;
     }
 
     /**
@@ -102,28 +228,199 @@ public class ChannelPipeline {
     }
 
     /**
-     * 파이프라인에 등록된 핸들러의 반복자를 반환합니다.
+     * 파이프라인에 등록된 핸들러의 반복자를 반환합니다 (head/tail 제외, 순서대로).
+     * 호출 시점의 스냅샷이므로 반복 중 파이프라인이 바뀌어도 안전합니다.
      *
      * @return {@link Iterator} 형태의 핸들러 반복자
      */
     public Iterator<ChannelHandler> iterator() {
+        List<ChannelHandler> handlers = new ArrayList<>();
+        synchronized (this) {
+            for (DefaultChannelHandlerContext ctx = head.next; ctx != tail; ctx = ctx.next) {
+                handlers.add(ctx.handler());
+            }
+        }
         return handlers.iterator();
     }
 
     /**
-     * 모든 inbound 핸들러에 대해 읽기 완료 이벤트를 전달합니다.
+     * 채널 활성화 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     */
+    public void fireChannelActive() {
+        head.fireChannelActive();
+    }
+
+    /**
+     * 채널 비활성화 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     */
+    public void fireChannelInactive() {
+        head.fireChannelInactive();
+    }
+
+    /**
+     * 읽기 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     *
+     * @param msg 전달할 메시지 객체
+     */
+    public void fireChannelRead(Object msg) {
+        head.fireChannelRead(msg);
+    }
+
+    /**
+     * 읽기 완료 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
      */
     public void fireChannelReadComplete() {
-        for (ChannelHandler handler : handlers) {
-            if (handler instanceof ChannelInboundHandler) {
-                try {
-                    ChannelHandlerContext ctx = new DefaultChannelHandlerContext(this, handler);
-                    ((ChannelInboundHandler) handler).channelReadComplete(ctx);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+        head.fireChannelReadComplete();
+    }
+
+    /**
+     * 쓰기 가능 상태 변경 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     */
+    public void fireChannelWritabilityChanged() {
+        head.fireChannelWritabilityChanged();
+    }
+
+    /**
+     * 사용자 정의 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     *
+     * @param evt 전달할 이벤트 객체
+     */
+    public void fireUserEventTriggered(Object evt) {
+        head.fireUserEventTriggered(evt);
+    }
+
+    /**
+     * 예외 이벤트를 첫 번째 inbound 핸들러부터 전달합니다.
+     *
+     * @param cause 발생한 예외
+     */
+    public void fireExceptionCaught(Throwable cause) {
+        head.fireExceptionCaught(cause);
+    }
+
+    /**
+     * 마지막 outbound 핸들러부터 쓰기 요청을 전달합니다. 요청은 최종적으로 채널의 송신 큐에 도달합니다.
+     *
+     * @param msg 전송할 메시지 객체
+     * @return 기록 결과를 나타내는 {@link ChannelFuture} 객체
+     */
+    public ChannelFuture write(Object msg) {
+        return tail.write(msg);
+    }
+
+    /**
+     * 마지막 outbound 핸들러부터 플러시 요청을 전달합니다.
+     *
+     * @return 현재 파이프라인 인스턴스
+     */
+    public ChannelPipeline flush() {
+        tail.flush();
+        return this;
+    }
+
+    /**
+     * 마지막 outbound 핸들러부터 읽기 요청을 전달합니다.
+     *
+     * @return 현재 파이프라인 인스턴스
+     */
+    public ChannelPipeline read() {
+        tail.read();
+        return this;
+    }
+
+    /**
+     * 파이프라인의 첫 번째 센티널. outbound 요청을 채널의 전송 로직({@link AbstractChannel#write0(Object)},
+     * {@link AbstractChannel#flush0()}, {@link AbstractChannel#read0()})에 전달합니다.
+     */
+    private static final class HeadContext extends DefaultChannelHandlerContext implements ChannelOutboundHandler {
+
+        HeadContext(ChannelPipeline pipeline) {
+            super(pipeline, ChannelHandlerMask.MASK_ALL_OUTBOUND);
+        }
+
+        @Override
+        public ChannelHandler handler() {
+            return this;
+        }
+
+        @Override
+        public ChannelFuture write(ChannelHandlerContext ctx, Object msg) {
+            Channel ch = channel();
+            if (ch instanceof AbstractChannel) {
+                return ((AbstractChannel) ch).write0(msg);
+            }
+            ReferenceCountUtil.safeRelease(msg);
+            return new ChannelFuture().setChannel(ch)
+                    .setFailure(new UnsupportedOperationException("write: " + ch.getClass().getName()));
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            Channel ch = channel();
+            if (ch instanceof AbstractChannel) {
+                ((AbstractChannel) ch).flush0();
+            }
+        }
+
+        @Override
+        public void read(ChannelHandlerContext ctx) {
+            Channel ch = channel();
+            if (ch instanceof AbstractChannel) {
+                ((AbstractChannel) ch).read0();
             }
         }
     }
 
+    /**
+     * 파이프라인의 마지막 센티널. 어떤 핸들러도 소비하지 않은 메시지를 해제하고,
+     * 처리되지 않은 예외를 로그로 남깁니다.
+     */
+    private static final class TailContext extends DefaultChannelHandlerContext implements ChannelInboundHandler {
+
+        TailContext(ChannelPipeline pipeline) {
+            super(pipeline, ChannelHandlerMask.MASK_ALL_INBOUND);
+        }
+
+        @Override
+        public ChannelHandler handler() {
+            return this;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            // 마지막 단계: 처리할 것 없음
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) {
+            // 마지막 단계: 처리할 것 없음
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            logger.debug("파이프라인 끝에 도달한 메시지를 폐기합니다: {} (채널: {})", msg, ctx.channel().id());
+            ReferenceCountUtil.release(msg);
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            // 마지막 단계: 처리할 것 없음
+        }
+
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+            // 마지막 단계: 처리할 것 없음
+        }
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+            logger.debug("파이프라인 끝에 도달한 사용자 이벤트를 폐기합니다: {} (채널: {})", evt, ctx.channel().id());
+            ReferenceCountUtil.release(evt);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            logger.warn("처리되지 않은 예외가 파이프라인 끝에 도달했습니다 (채널: {})", ctx.channel().id(), cause);
+        }
+    }
 }
@@ -2,26 +2,105 @@ package com.example.nionetty.channel;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code DefaultChannelConfig} 클래스는 {@link ChannelConfig} 인터페이스의 기본 구현을 제공합니다.
  * 내부적으로 옵션들을 {@code Map}으로 관리합니다.
+ * <p>
+ * {@link ChannelOption}에 정의된 상수 옵션은 설정되지 않았을 때 기본값을 반환하며,
+ * 설정 시 값의 범위를 검사합니다.
+ * </p>
+ * <p>
+ * 핸들러 전용 실행기의 스레드가 옵션을 바꾸는 동안 이벤트 루프가 읽을 수 있으므로 옵션은 동시성 맵에 보관합니다.
+ * 채널에 연결된 설정에서 {@link ChannelOption#AUTO_READ}를 {@code false}에서 {@code true}로 바꾸면
+ * 멈춰 있던 읽기가 다시 시작되도록 {@link Channel#read()}를 요청합니다.
+ * </p>
  * 
  * @author 
  * @version 1.0
  */
 public class DefaultChannelConfig implements ChannelConfig {
 
-    private final Map<ChannelOption<?>, Object> options = new HashMap<>();
+    /** 상수 옵션의 기본값 */
+    private static final Map<ChannelOption<?>, Object> DEFAULTS = new HashMap<>();
 
+    static {
+        DEFAULTS.put(ChannelOption.WRITE_SPIN_COUNT, 16);
+        DEFAULTS.put(ChannelOption.MAX_MESSAGES_PER_WRITE, 1024);
+        DEFAULTS.put(ChannelOption.MAX_BYTES_PER_GATHERING_WRITE, 1024 * 1024);
+        DEFAULTS.put(ChannelOption.WRITE_BUFFER_WATER_MARK, WriteBufferWaterMark.DEFAULT);
+        DEFAULTS.put(ChannelOption.AUTO_READ, Boolean.TRUE);
+        DEFAULTS.put(ChannelOption.MAX_MESSAGES_PER_READ, 16);
+        DEFAULTS.put(ChannelOption.RCVBUF_ALLOCATOR, AdaptiveRecvByteBufAllocator.DEFAULT);
+    }
+
+    private final Map<ChannelOption<?>, Object> options = new ConcurrentHashMap<>();
+
+    /** 이 설정을 사용하는 채널 (채널 생성 전에는 null) */
+    private volatile Channel channel;
+
+    /**
+     * 이 설정을 사용하는 채널을 연결합니다. {@link AbstractChannel} 생성자에서 호출됩니다.
+     */
+    void channel(Channel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * 지정한 옵션의 값을 설정합니다.
+     *
+     * @throws NullPointerException     옵션 또는 값이 null인 경우
+     * @throws IllegalArgumentException 상수 옵션의 값이 허용 범위를 벗어난 경우
+     */
     @Override
     public <T> void setOption(ChannelOption<T> option, T value) {
-        options.put(option, value);
+        if (option == null) {
+            throw new NullPointerException("option");
+        }
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        validate(option, value);
+        Object old = options.put(option, value);
+        if (option.equals(ChannelOption.AUTO_READ) && (Boolean) value && Boolean.FALSE.equals(old)) {
+            // 꺼져 있던 동안 해제된 OP_READ를 다시 등록
+            Channel ch = channel;
+            if (ch != null) {
+                ch.read();
+            }
+        }
     }
 
+    /**
+     * 지정한 옵션의 현재 값을 반환합니다. 설정되지 않은 상수 옵션은 기본값을 반환합니다.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getOption(ChannelOption<T> option) {
-        return (T) options.get(option);
+        Object value = options.get(option);
+        if (value == null) {
+            value = DEFAULTS.get(option);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setOptions(Map<ChannelOption<?>, ?> options) {
+        for (Map.Entry<ChannelOption<?>, ?> e : options.entrySet()) {
+            setOption((ChannelOption<Object>) e.getKey(), e.getValue());
+        }
+    }
+
+    private static void validate(ChannelOption<?> option, Object value) {
+        if (option.equals(ChannelOption.WRITE_SPIN_COUNT)
+                || option.equals(ChannelOption.MAX_MESSAGES_PER_WRITE)
+                || option.equals(ChannelOption.MAX_BYTES_PER_GATHERING_WRITE)
+                || option.equals(ChannelOption.MAX_MESSAGES_PER_READ)) {
+            if ((Integer) value <= 0) {
+                throw new IllegalArgumentException(option.name() + " must be positive: " + value);
+            }
+        }
     }
 }
@@ -1,37 +1,356 @@
 package com.example.nionetty.channel;
 
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.example.nionetty.util.ReferenceCountUtil;
+import com.example.nionetty.util.concurrent.EventExecutor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * {@code DefaultChannelHandlerContext} 클래스는 {@link ChannelHandlerContext}의 기본
  * 구현체입니다.
+ * <p>
+ * 컨텍스트는 {@link ChannelPipeline}의 이중 연결 리스트 노드이며, 핸들러가 파이프라인에 추가될 때 한 번 생성되어
+ * 제거될 때까지 유지됩니다. {@code fire*} 메서드는 {@code next} 방향으로 다음 inbound 핸들러를,
+ * {@link #write(Object)}/{@link #flush()}는 {@code prev} 방향으로 다음 outbound 핸들러를 찾아 직접 호출합니다.
+ * 이때 해당 이벤트 메서드를 재정의하지 않은(어댑터의 전달 구현을 상속한) 핸들러는
+ * {@link ChannelHandlerMask}로 계산한 마스크를 보고 호출 없이 건너뜁니다.
+ * </p>
+ * <p>
+ * 이벤트와 요청은 항상 대상 컨텍스트의 {@link #executor() 실행기}에서 호출됩니다. 실행기는 기본적으로 채널의
+ * 이벤트 루프이며, {@link ChannelPipeline#addLast(com.example.nionetty.util.concurrent.EventExecutorGroup, ChannelHandler)}
+ * 로 추가된 핸들러는 그룹의 실행기입니다. 현재 스레드가 대상 실행기가 아니면 호출은 그 실행기의 작업으로 넘겨지므로,
+ * 블로킹 핸들러는 이벤트 루프를 막지 않고, outbound 핸들러와 송신 큐는 항상 루프 스레드에서 실행됩니다.
+ * </p>
  */
 public class DefaultChannelHandlerContext implements ChannelHandlerContext {
 
+    private static final Logger logger = LoggerFactory.getLogger(DefaultChannelHandlerContext.class);
+
+    volatile DefaultChannelHandlerContext prev;
+    volatile DefaultChannelHandlerContext next;
+
     private final ChannelPipeline pipeline;
     private final ChannelHandler handler;
     private final Channel channel;
+    /** 핸들러가 처리하는 이벤트의 비트마스크 ({@link ChannelHandlerMask}) */
+    private final int executionMask;
+    /** 핸들러 전용 실행기, {@code null}이면 채널의 이벤트 루프 */
+    private final EventExecutor executor;
 
     public DefaultChannelHandlerContext(ChannelPipeline pipeline, ChannelHandler handler) {
+        this(pipeline, null, handler);
+    }
+
+    public DefaultChannelHandlerContext(ChannelPipeline pipeline, EventExecutor executor, ChannelHandler handler) {
         this.pipeline = pipeline;
         this.handler = handler;
         this.channel = pipeline.channel();
+        this.executionMask = ChannelHandlerMask.mask(handler.getClass());
+        this.executor = executor;
+    }
+
+    /**
+     * head/tail 센티널용 생성자. 센티널은 {@link #handler()}를 재정의하여 자기 자신을 반환합니다.
+     */
+    DefaultChannelHandlerContext(ChannelPipeline pipeline, int executionMask) {
+        this.pipeline = pipeline;
+        this.handler = null;
+        this.channel = pipeline.channel();
+        this.executionMask = executionMask;
+        this.executor = null;
+    }
+
+    @Override
+    public ChannelHandler handler() {
+        return handler;
+    }
+
+    @Override
+    public EventExecutor executor() {
+        return executor != null ? executor : channel.eventLoop();
+    }
+
+    /**
+     * 현재 스레드에서 이 컨텍스트의 핸들러를 바로 호출해도 되는지 확인합니다.
+     * 채널이 아직 등록되지 않아 실행기가 없으면 바로 호출합니다.
+     */
+    private boolean inExecutor() {
+        EventExecutor e = executor();
+        return e == null || e.inEventLoop();
+    }
+
+    /**
+     * 핸들러 호출을 이 컨텍스트의 실행기에 넘깁니다.
+     * <p>
+     * 채널의 이벤트 루프가 이미 종료되어 거부되면, 채널 닫기 등 정리 이벤트가 사라지지 않도록 현재 스레드에서 호출합니다.
+     * 핸들러 전용 실행기가 거부하거나, 받아 둔 뒤 종료되면서 실행하지 못하고 취소하면 이벤트를 버리고 {@code msg}를
+     * 해제합니다.
+     * </p>
+     *
+     * @param task 핸들러 호출
+     * @param msg  거부될 때 해제할 메시지, 없으면 {@code null}
+     */
+    private void dispatch(Runnable task, Object msg) {
+        Runnable command = executor != null && msg != null ? new MessageTask(task, msg, null) : task;
+        try {
+            executor().execute(command);
+        } catch (RejectedExecutionException e) {
+            if (executor == null) {
+                task.run();
+                return;
+            }
+            logger.warn("실행기가 종료되어 이벤트를 버립니다 (핸들러: {}, 채널: {})",
+                    handler.getClass().getName(), channel.id(), e);
+            if (command instanceof MessageTask) {
+                // 실행기가 이미 취소했을 수 있으므로 취소로 해제해 두 번 해제하지 않음
+                ((MessageTask) command).cancel(false);
+            }
+        }
+    }
+
+    /**
+     * {@code next} 방향으로 지정한 이벤트를 처리하는 첫 컨텍스트를 찾습니다.
+     * tail은 모든 inbound 이벤트를 처리하므로 항상 멈춥니다.
+     */
+    private DefaultChannelHandlerContext findContextInbound(int mask) {
+        DefaultChannelHandlerContext ctx = this;
+        do {
+            ctx = ctx.next;
+        } while ((ctx.executionMask & mask) == 0);
+        return ctx;
+    }
+
+    /**
+     * {@code prev} 방향으로 지정한 요청을 처리하는 첫 컨텍스트를 찾습니다.
+     * head는 모든 outbound 요청을 처리하므로 항상 멈춥니다.
+     */
+    private DefaultChannelHandlerContext findContextOutbound(int mask) {
+        DefaultChannelHandlerContext ctx = this;
+        do {
+            ctx = ctx.prev;
+        } while ((ctx.executionMask & mask) == 0);
+        return ctx;
+    }
+
+    @Override
+    public void fireChannelActive() {
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_CHANNEL_ACTIVE);
+        if (next.inExecutor()) {
+            next.invokeChannelActive();
+        } else {
+            next.dispatch(next::invokeChannelActive, null);
+        }
+    }
+
+    private void invokeChannelActive() {
+        try {
+            ((ChannelInboundHandler) handler()).channelActive(this);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
+    }
+
+    @Override
+    public void fireChannelInactive() {
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_CHANNEL_INACTIVE);
+        if (next.inExecutor()) {
+            next.invokeChannelInactive();
+        } else {
+            next.dispatch(next::invokeChannelInactive, null);
+        }
+    }
+
+    private void invokeChannelInactive() {
+        try {
+            ((ChannelInboundHandler) handler()).channelInactive(this);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
     }
 
     @Override
     public void fireChannelRead(Object msg) {
-        // 다음 핸들러에 이벤트 전달 (단순 예제)
-        // 실제 구현에서는 순서를 관리해야 합니다.
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_CHANNEL_READ);
+        if (next.inExecutor()) {
+            next.invokeChannelRead(msg);
+        } else {
+            next.dispatch(() -> next.invokeChannelRead(msg), msg);
+        }
+    }
+
+    private void invokeChannelRead(Object msg) {
+        try {
+            ((ChannelInboundHandler) handler()).channelRead(this, msg);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
     }
 
     @Override
-    public ChannelFuture write(Object msg) {
-        // 이제 Channel 인터페이스에 write(msg)가 정의되어 있으므로 호출 가능
-        return channel.write(msg);
+    public void fireChannelReadComplete() {
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_CHANNEL_READ_COMPLETE);
+        if (next.inExecutor()) {
+            next.invokeChannelReadComplete();
+        } else {
+            next.dispatch(next::invokeChannelReadComplete, null);
+        }
+    }
+
+    private void invokeChannelReadComplete() {
+        try {
+            ((ChannelInboundHandler) handler()).channelReadComplete(this);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
+    }
+
+    @Override
+    public void fireChannelWritabilityChanged() {
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_CHANNEL_WRITABILITY_CHANGED);
+        if (next.inExecutor()) {
+            next.invokeChannelWritabilityChanged();
+        } else {
+            next.dispatch(next::invokeChannelWritabilityChanged, null);
+        }
+    }
+
+    private void invokeChannelWritabilityChanged() {
+        try {
+            ((ChannelInboundHandler) handler()).channelWritabilityChanged(this);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
+    }
+
+    @Override
+    public void fireUserEventTriggered(Object evt) {
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_USER_EVENT_TRIGGERED);
+        if (next.inExecutor()) {
+            next.invokeUserEventTriggered(evt);
+        } else {
+            next.dispatch(() -> next.invokeUserEventTriggered(evt), evt);
+        }
+    }
+
+    private void invokeUserEventTriggered(Object evt) {
+        try {
+            ((ChannelInboundHandler) handler()).userEventTriggered(this, evt);
+        } catch (Throwable t) {
+            invokeExceptionCaught(t);
+        }
     }
 
     @Override
     public void fireExceptionCaught(Throwable cause) {
-        // 다음 핸들러에 예외 전달 (단순 예제)
-        cause.printStackTrace();
+        DefaultChannelHandlerContext next = findContextInbound(ChannelHandlerMask.MASK_EXCEPTION_CAUGHT);
+        if (next.inExecutor()) {
+            next.invokeExceptionCaught(cause);
+        } else {
+            next.dispatch(() -> next.invokeExceptionCaught(cause), null);
+        }
+    }
+
+    private void invokeExceptionCaught(Throwable cause) {
+        try {
+            ((ChannelInboundHandler) handler()).exceptionCaught(this, cause);
+        } catch (Throwable t) {
+            logger.warn("exceptionCaught() 처리 중 예외 발생 (원래 예외: {})", cause.toString(), t);
+        }
+    }
+
+    @Override
+    public ChannelFuture write(Object msg) {
+        DefaultChannelHandlerContext next = findContextOutbound(ChannelHandlerMask.MASK_WRITE);
+        if (next.inExecutor()) {
+            return next.invokeWrite(msg);
+        }
+        // 다른 스레드의 쓰기: 대상 핸들러의 실행기(송신 큐는 루프 스레드)로 넘기고 결과를 이어 받음
+        ChannelFuture future = new ChannelFuture().setChannel(channel);
+        Runnable task = () -> next.invokeWrite(msg).addListener(f -> {
+            if (f.isSuccess()) {
+                future.setSuccess();
+            } else {
+                future.setFailure(f.getCause());
+            }
+        });
+        Runnable command = next.executor != null ? new MessageTask(task, msg, future) : task;
+        try {
+            next.executor().execute(command);
+        } catch (RejectedExecutionException e) {
+            if (command instanceof MessageTask) {
+                ((MessageTask) command).cancel(false);
+            } else {
+                ReferenceCountUtil.safeRelease(msg);
+                future.setFailure(e);
+            }
+        }
+        return future;
+    }
+
+    private ChannelFuture invokeWrite(Object msg) {
+        try {
+            return ((ChannelOutboundHandler) handler()).write(this, msg);
+        } catch (Throwable t) {
+            ReferenceCountUtil.safeRelease(msg);
+            return new ChannelFuture().setChannel(channel).setFailure(t);
+        }
+    }
+
+    @Override
+    public ChannelHandlerContext flush() {
+        DefaultChannelHandlerContext next = findContextOutbound(ChannelHandlerMask.MASK_FLUSH);
+        if (next.inExecutor()) {
+            next.invokeFlush();
+        } else {
+            try {
+                next.executor().execute(next::invokeFlush);
+            } catch (RejectedExecutionException e) {
+                logger.debug("이벤트 루프가 종료되어 flush를 무시합니다 (채널: {})", channel.id());
+            }
+        }
+        return this;
+    }
+
+    private void invokeFlush() {
+        try {
+            ((ChannelOutboundHandler) handler()).flush(this);
+        } catch (Throwable t) {
+            pipeline.fireExceptionCaught(t);
+        }
+    }
+
+    @Override
+    public ChannelHandlerContext read() {
+        DefaultChannelHandlerContext next = findContextOutbound(ChannelHandlerMask.MASK_READ);
+        if (next.inExecutor()) {
+            next.invokeRead();
+        } else {
+            try {
+                next.executor().execute(next::invokeRead);
+            } catch (RejectedExecutionException e) {
+                logger.debug("이벤트 루프가 종료되어 read를 무시합니다 (채널: {})", channel.id());
+            }
+        }
+        return this;
+    }
+
+    private void invokeRead() {
+        try {
+            ((ChannelOutboundHandler) handler()).read(this);
+        } catch (Throwable t) {
+            pipeline.fireExceptionCaught(t);
+        }
+    }
+
+    @Override
+    public ChannelFuture writeAndFlush(Object msg) {
+        ChannelFuture future = write(msg);
+        flush();
+        return future;
     }
 
     @Override
@@ -44,8 +363,35 @@ public class DefaultChannelHandlerContext implements ChannelHandlerContext {
         return channel;
     }
 
-    @Override
-    public void fireChannelReadComplete() {
-        // 다음 핸들러에 읽기 완료 이벤트 전달 (단순 예제)
+    /**
+     * 핸들러 전용 실행기에 넘기는 메시지 이벤트입니다.
+     * <p>
+     * 실행기는 종료되면서 실행하지 못한 {@link java.util.concurrent.Future} 작업을 취소하므로, 취소되면
+     * 메시지를 해제하고 쓰기 결과를 실패로 완료합니다. 취소는 한 번만 성공하므로 해제도 한 번만 일어납니다.
+     * </p>
+     */
+    private static final class MessageTask extends FutureTask<Void> {
+
+        private final Object msg;
+
+        /** 쓰기 결과, inbound 이벤트면 {@code null} */
+        private final ChannelFuture future;
+
+        MessageTask(Runnable task, Object msg, ChannelFuture future) {
+            super(task, null);
+            this.msg = msg;
+            this.future = future;
+        }
+
+        @Override
+        protected void done() {
+            if (!isCancelled()) {
+                return;
+            }
+            ReferenceCountUtil.safeRelease(msg);
+            if (future != null) {
+                future.setFailure(new RejectedExecutionException("executor shut down"));
+            }
+        }
     }
 }
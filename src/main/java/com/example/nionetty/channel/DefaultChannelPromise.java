@@ -13,6 +13,7 @@ public class DefaultChannelPromise extends ChannelPromise {
                 lock.notifyAll();
             }
         }
+        notifyListeners();
         return this;
     }
 
@@ -24,6 +25,7 @@ public class DefaultChannelPromise extends ChannelPromise {
                 lock.notifyAll();
             }
         }
+        notifyListeners();
         return this;
     }
 
@@ -0,0 +1,45 @@
+package com.example.nionetty.channel;
+
+/**
+ * {@code FixedRecvByteBufAllocator} 클래스는 항상 같은 크기의 수신 버퍼를 사용하는 {@link RecvByteBufAllocator}입니다.
+ * <p>
+ * 메시지 크기가 일정한 프로토콜처럼 크기 조정이 필요 없을 때 사용합니다.
+ * </p>
+ *
+ * @see AdaptiveRecvByteBufAllocator
+ *
+ * @author
+ * @version 1.0
+ */
+public final class FixedRecvByteBufAllocator implements RecvByteBufAllocator {
+
+    private final Handle handle;
+
+    /**
+     * 생성자.
+     *
+     * @param bufferSize 수신 버퍼 크기 (바이트 단위)
+     * @throws IllegalArgumentException 크기가 0 이하일 경우
+     */
+    public FixedRecvByteBufAllocator(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        // 기록할 상태가 없으므로 모든 채널이 같은 핸들을 공유
+        this.handle = new Handle() {
+            @Override
+            public int guess() {
+                return bufferSize;
+            }
+
+            @Override
+            public void lastBytesRead(int bytes) {
+            }
+        };
+    }
+
+    @Override
+    public Handle newHandle() {
+        return handle;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.nionetty.channel;
+
+import com.example.nionetty.buffer.CustomBuffer;
+import com.example.nionetty.buffer.PooledBufferAllocator;
+
+/**
+ * {@code RecvByteBufAllocator} 인터페이스는 소켓에서 데이터를 읽을 때 사용할 수신 버퍼의 크기를 정합니다.
+ * <p>
+ * 채널은 처음 읽을 때 {@link #newHandle()}로 자신만의 {@link Handle}을 만들고, 이후 읽기마다 핸들에서 버퍼를
+ * 할당받아 읽은 뒤 실제로 읽은 바이트 수를 알려 줍니다. 핸들은 이 기록을 바탕으로 다음 버퍼 크기를 정하므로
+ * 채널마다 트래픽에 맞는 크기를 사용할 수 있습니다. 할당기 자체는 상태가 없어 여러 채널이 공유할 수 있습니다.
+ * </p>
+ *
+ * @see ChannelOption#RCVBUF_ALLOCATOR
+ * @see AdaptiveRecvByteBufAllocator
+ * @see FixedRecvByteBufAllocator
+ *
+ * @author
+ * @version 1.0
+ */
+public interface RecvByteBufAllocator {
+
+    /**
+     * 채널 하나가 사용할 새 핸들을 생성합니다.
+     *
+     * @return 새 {@link Handle}
+     */
+    Handle newHandle();
+
+    /**
+     * 채널 하나의 수신 버퍼 크기를 정하는 핸들. 채널의 이벤트 루프 스레드에서만 사용됩니다.
+     */
+    interface Handle {
+
+        /**
+         * 다음 읽기에 사용할 버퍼를 할당합니다.
+         *
+         * @param allocator 버퍼를 대여할 할당기
+         * @return {@link #guess()} 크기의 direct 버퍼
+         */
+        default CustomBuffer allocate(PooledBufferAllocator allocator) {
+            return allocator.directBuffer(guess());
+        }
+
+        /**
+         * 다음 읽기에 사용할 버퍼 크기를 반환합니다.
+         *
+         * @return 버퍼 크기 (바이트 단위)
+         */
+        int guess();
+
+        /**
+         * 마지막 읽기에서 실제로 읽은 바이트 수를 기록합니다.
+         *
+         * @param bytes 읽은 바이트 수, 연결이 끝났으면 음수
+         */
+        void lastBytesRead(int bytes);
+    }
+}
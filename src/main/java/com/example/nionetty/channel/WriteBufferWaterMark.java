@@ -0,0 +1,71 @@
+package com.example.nionetty.channel;
+
+/**
+ * {@code WriteBufferWaterMark} 클래스는 채널 송신 큐의 high/low 워터마크를 나타냅니다.
+ * <p>
+ * 송신 큐에 쌓인 바이트 수가 high 워터마크를 넘으면 {@link Channel#isWritable()}이 {@code false}가 되고,
+ * 전송이 진행되어 low 워터마크 아래로 내려가면 다시 {@code true}가 됩니다. 상태가 바뀔 때마다
+ * {@link ChannelInboundHandler#channelWritabilityChanged(ChannelHandlerContext)} 이벤트가 발생합니다.
+ * 두 값을 두어 경계 근처에서 상태가 빠르게 반복 전환되지 않도록 합니다.
+ * </p>
+ *
+ * @see ChannelOption#WRITE_BUFFER_WATER_MARK
+ *
+ * @author
+ * @version 1.0
+ */
+public final class WriteBufferWaterMark {
+
+    /** 기본 low 워터마크 (32 KiB) */
+    private static final int DEFAULT_LOW_WATER_MARK = 32 * 1024;
+    /** 기본 high 워터마크 (64 KiB) */
+    private static final int DEFAULT_HIGH_WATER_MARK = 64 * 1024;
+
+    /** 기본 워터마크 */
+    public static final WriteBufferWaterMark DEFAULT =
+            new WriteBufferWaterMark(DEFAULT_LOW_WATER_MARK, DEFAULT_HIGH_WATER_MARK);
+
+    private final int low;
+    private final int high;
+
+    /**
+     * 생성자.
+     *
+     * @param low  low 워터마크 (바이트 단위)
+     * @param high high 워터마크 (바이트 단위)
+     * @throws IllegalArgumentException low가 음수이거나 high보다 큰 경우
+     */
+    public WriteBufferWaterMark(int low, int high) {
+        if (low < 0) {
+            throw new IllegalArgumentException("low must be >= 0: " + low);
+        }
+        if (high < low) {
+            throw new IllegalArgumentException("high (" + high + ") must be >= low (" + low + ")");
+        }
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * low 워터마크를 반환합니다.
+     *
+     * @return low 워터마크
+     */
+    public int low() {
+        return low;
+    }
+
+    /**
+     * high 워터마크를 반환합니다.
+     *
+     * @return high 워터마크
+     */
+    public int high() {
+        return high;
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBufferWaterMark(low: " + low + ", high: " + high + ")";
+    }
+}
@@ -1,103 +1,750 @@
 package com.example.nionetty.channel.nio;
 
+import com.example.nionetty.buffer.CustomBuffer;
+import com.example.nionetty.buffer.PooledBufferAllocator;
 import com.example.nionetty.channel.Channel;
+import com.example.nionetty.channel.ChannelFuture;
+import com.example.nionetty.channel.ChannelOption;
+import com.example.nionetty.channel.RecvByteBufAllocator;
 import com.example.nionetty.eventloop.EventLoop;
+import com.example.nionetty.util.Future;
+import com.example.nionetty.util.concurrent.AbstractScheduledEventExecutor;
+import com.example.nionetty.util.concurrent.DefaultPromise;
+import com.example.nionetty.util.concurrent.DefaultThreadFactory;
+import com.example.nionetty.util.concurrent.MpscChunkedArrayQueue;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * {@code NioEventLoop} 클래스는 NIO 기반의 이벤트 루프를 구현합니다.
+ * <p>
+ * 루프 스레드는 셀렉터의 I/O 이벤트를 처리한 뒤 작업 큐에 쌓인 작업을 실행하는 것을 반복합니다.
+ * 다른 스레드는 {@link #execute(Runnable)}로 작업 큐에 작업을 넣으며, 채널 등록도 이 방식으로 루프 스레드에서
+ * 실행되므로 셀렉터는 루프 스레드만 다룹니다. 따라서 {@code select()} 중인 셀렉터에 다른 스레드가
+ * {@code register()}를 호출해 막히는 일이 없습니다.
+ * </p>
+ * <p>
+ * 셀렉터를 깨우는 {@link Selector#wakeup()}은 시스템 콜이므로, {@code wakenUp} 플래그를 CAS로 바꾼 스레드만
+ * 호출합니다. 플래그는 루프가 {@code select()}에 들어가기 직전에만 내려가므로, 루프가 이벤트나 작업을 처리하는
+ * 동안에는 아무리 많은 작업이 들어와도 wakeup이 호출되지 않습니다.
+ * </p>
+ * <p>
+ * 한 반복에서 I/O 처리와 작업 실행에 쓰는 시간의 비율은 {@link #setIoRatio(int) ioRatio}로 조절합니다.
+ * 기본값 50이면 선택된 키를 처리하는 데 걸린 시간만큼만 작업을 실행하고 남은 작업은 다음 반복으로 미루므로,
+ * 작업이 폭주해도 소켓 읽기/쓰기가 굶지 않습니다. 100이면 시간 제한 없이 매 반복마다 작업 큐를 모두 비웁니다.
+ * </p>
+ * <p>
+ * 예약 작업은 루프 전용 힙에 마감 시각 순으로 보관되며, 가장 가까운 마감까지의 시간이 {@code select()}의
+ * 대기 시간이 됩니다. 마감된 예약 작업은 작업 큐보다 먼저 실행됩니다.
+ * </p>
+ * <p>
+ * 루프의 상태는 {@code NOT_STARTED → STARTED → SHUTTING_DOWN → SHUTDOWN → TERMINATED} 순으로만 바뀝니다.
+ * {@link #shutdownGracefully(long, long, TimeUnit)}가 호출되면 루프는 I/O와 작업 처리를 계속하면서, 조용한 기간
+ * (quiet period) 동안 새 작업이 들어오지 않거나 제한 시간이 지나면 모든 채널을 닫고 종료합니다.
+ * 종료가 끝나면 {@link #terminationFuture()}가 완료됩니다.
+ * </p>
  */
-public class NioEventLoop implements EventLoop {
+public class NioEventLoop extends AbstractScheduledEventExecutor implements EventLoop {
 
     private static final Logger logger = LoggerFactory.getLogger(NioEventLoop.class);
 
+    /** 작업이 없을 때 {@code select()}가 대기하는 최대 시간(ms), 예약 작업이 있으면 그 마감까지만 대기 */
+    private static final long SELECT_TIMEOUT_MILLIS = 1000;
+
+    /** 팩토리를 지정하지 않은 루프가 공유하는 기본 스레드 팩토리 */
+    private static final ThreadFactory DEFAULT_THREAD_FACTORY = new DefaultThreadFactory("nioEventLoop");
+
     /** NIO 셀렉터 객체 */
     private final Selector selector;
 
+    /** 읽기 버퍼를 대여할 할당기 */
+    private final PooledBufferAllocator allocator = PooledBufferAllocator.DEFAULT;
+
+    /** 이 루프에 등록된 채널 수 (다른 스레드의 선택기에서 조회되므로 원자적으로 관리) */
+    private final AtomicInteger registeredChannels = new AtomicInteger();
+
+    /** 한 번의 일괄 꺼내기로 실행할 최대 작업 수 */
+    private static final int MAX_TASKS_PER_DRAIN = 256;
+
+    /** 시간 제한이 있을 때 경과 시간을 확인하는 작업 수 간격 ({@link System#nanoTime()} 호출 비용 절감) */
+    private static final int TASKS_PER_DEADLINE_CHECK = 64;
+
+    /** 기본 I/O 비율 */
+    private static final int DEFAULT_IO_RATIO = 50;
+
+    /** 종료 중일 때 조용한 기간 경과를 다시 확인하는 최대 간격(ms) */
+    private static final long SHUTDOWN_CHECK_INTERVAL_MILLIS = 100;
+
+    private static final int ST_NOT_STARTED = 1;
+    private static final int ST_STARTED = 2;
+    private static final int ST_SHUTTING_DOWN = 3;
+    private static final int ST_SHUTDOWN = 4;
+    private static final int ST_TERMINATED = 5;
+
+    /** 다른 스레드에서 넘겨받은 작업 큐 (다수 생산자, 루프 스레드 단일 소비자) */
+    private final MpscChunkedArrayQueue<Runnable> taskQueue = new MpscChunkedArrayQueue<>();
+
     /**
-     * {@code NioEventLoop} 생성자.
+     * 이번 {@code select()}에 대해 이미 wakeup이 요청되었는지 여부.
+     * 루프는 {@code select()} 직전에 {@code false}로, 깨어난 직후 {@code true}로 바꿉니다.
+     */
+    private final AtomicBoolean wakenUp = new AtomicBoolean(true);
+
+    /** 한 반복에서 I/O 처리에 쓰는 시간의 비율(%) */
+    private volatile int ioRatio = DEFAULT_IO_RATIO;
+
+    /** 루프 스레드를 만드는 팩토리 */
+    private final ThreadFactory threadFactory;
+
+    /** 이 루프를 실행하는 스레드 (첫 작업이 들어올 때 시작) */
+    private volatile Thread thread;
+
+    /** 루프 상태 ({@code ST_*}) */
+    private final AtomicInteger state = new AtomicInteger(ST_NOT_STARTED);
+
+    /**
+     * 상태 확인을 통과했지만 아직 작업 큐에 넣지 못한 다른 스레드의 {@link #execute(Runnable)} 호출 수.
+     * {@link #cleanup()}은 이 값이 0이 될 때까지 기다린 뒤 마지막으로 큐를 비우므로, 받아들인 작업이 실행되지 않고
+     * 남는 일이 없습니다.
+     */
+    private final AtomicInteger pendingOffers = new AtomicInteger();
+
+    private volatile long gracefulShutdownQuietPeriod;
+    private volatile long gracefulShutdownTimeout;
+
+    /** 종료 절차를 시작한 시각(ns, 루프 스레드 전용), 0이면 아직 시작 전 */
+    private long gracefulShutdownStartTime;
+
+    /** 마지막으로 작업을 실행한 시각(ns, 루프 스레드 전용) */
+    private long lastExecutionTime;
+
+    /** 루프가 완전히 종료되면 완료되는 약속 */
+    private final DefaultPromise terminationFuture = new DefaultPromise();
+
+    /**
+     * {@code NioEventLoop} 생성자. 루프 스레드는 기본 스레드 팩토리로 만듭니다.
      *
      * @throws IOException 셀렉터 초기화 중 발생할 수 있는 예외
      */
     public NioEventLoop() throws IOException {
+        this(DEFAULT_THREAD_FACTORY);
+    }
+
+    /**
+     * {@code NioEventLoop} 생성자.
+     * <p>
+     * 루프 스레드는 생성 시점이 아니라 첫 작업({@link #execute(Runnable)}, {@link #register(Channel)} 등)이
+     * 들어올 때 {@code threadFactory}로 한 번만 만들어 시작하므로, 사용되지 않는 루프는 스레드를 차지하지 않습니다.
+     * </p>
+     *
+     * @param threadFactory 루프 스레드를 만들 팩토리 (이름, 데몬 여부, 우선순위 지정)
+     * @throws IOException 셀렉터 초기화 중 발생할 수 있는 예외
+     */
+    public NioEventLoop(ThreadFactory threadFactory) throws IOException {
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
+        this.threadFactory = threadFactory;
         this.selector = Selector.open();
         logger.debug("Selector 초기화 완료");
     }
 
-    // 새로 추가: 채널 등록 메서드
-    public void register(Channel channel) throws IOException {
-        if (channel instanceof NioSocketChannel) {
-            NioSocketChannel ns = (NioSocketChannel) channel;
-            ns.getJavaChannel().configureBlocking(false);
-            ns.getJavaChannel().register(selector, SelectionKey.OP_READ, ns);
-            logger.debug("채널 등록 완료: {}", ns.id());
+    /**
+     * 한 반복에서 I/O 처리에 쓰는 시간의 비율을 반환합니다.
+     *
+     * @return I/O 비율(%)
+     */
+    public int getIoRatio() {
+        return ioRatio;
+    }
+
+    /**
+     * 한 반복에서 I/O 처리(선택된 키 처리)와 작업 실행에 쓰는 시간의 비율을 설정합니다 (기본: 50).
+     * <p>
+     * 예를 들어 70이면 I/O 처리에 7ms가 걸렸을 때 작업은 약 3ms 동안만 실행합니다. 값이 작을수록 작업 처리량이,
+     * 클수록 I/O 지연 시간이 유리합니다. 100이면 작업 실행 시간을 제한하지 않고 매번 작업 큐를 모두 비웁니다.
+     * </p>
+     *
+     * @param ioRatio I/O 비율 (1-100)
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     */
+    public void setIoRatio(int ioRatio) {
+        if (ioRatio <= 0 || ioRatio > 100) {
+            throw new IllegalArgumentException("ioRatio: " + ioRatio + " (expected: 0 < ioRatio <= 100)");
+        }
+        this.ioRatio = ioRatio;
+    }
+
+    @Override
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (inEventLoop()) {
+            // 루프 스레드는 자신의 cleanup()과 경합하지 않음
+            if (isShutdown()) {
+                throw new RejectedExecutionException("event loop shut down");
+            }
+            taskQueue.offer(task);
+            return;
+        }
+        // 상태 확인보다 먼저 표시해야 cleanup()이 상태를 바꾼 뒤 이 호출을 놓치지 않음
+        pendingOffers.incrementAndGet();
+        try {
+            if (isShutdown()) {
+                throw new RejectedExecutionException("event loop shut down");
+            }
+            taskQueue.offer(task);
+        } finally {
+            pendingOffers.decrementAndGet();
+        }
+        startThreadIfNecessary();
+        wakeup();
+    }
+
+    /**
+     * 루프가 {@code select()}에서 대기 중일 수 있으면 셀렉터를 깨웁니다.
+     * 여러 스레드가 동시에 호출해도 {@link Selector#wakeup()}은 한 번만 호출됩니다.
+     */
+    private void wakeup() {
+        if (wakenUp.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 채널을 이 루프의 셀렉터에 등록합니다.
+     * <p>
+     * 등록은 루프 스레드에서 실행되며, 다른 스레드에서 호출되면 작업 큐를 통해 넘겨집니다.
+     * {@link NioServerSocketChannel}은 {@code OP_ACCEPT}로, {@link NioSocketChannel}은 {@code OP_READ}로
+     * ({@link ChannelOption#AUTO_READ}가 꺼져 있으면 관심 없이) 등록되며, 소켓 채널은 등록 후 파이프라인에 {@code channelActive} 이벤트가 전달됩니다.
+     * 등록에 실패하면 채널을 닫습니다.
+     * </p>
+     *
+     * @param channel 등록할 채널
+     * @return 등록이 끝나면 완료되는 {@link ChannelFuture}
+     * @throws RejectedExecutionException 루프가 종료된 경우
+     */
+    public ChannelFuture register(Channel channel) {
+        ChannelFuture future = new ChannelFuture().setChannel(channel);
+        if (inEventLoop()) {
+            register0(channel, future);
+        } else {
+            execute(() -> register0(channel, future));
         }
+        return future;
+    }
+
+    private void register0(Channel channel, ChannelFuture future) {
+        try {
+            if (channel instanceof NioServerSocketChannel) {
+                NioServerSocketChannel server = (NioServerSocketChannel) channel;
+                server.getJavaChannel().configureBlocking(false);
+                server.getJavaChannel().register(selector, SelectionKey.OP_ACCEPT, server);
+                server.setEventLoop(this);
+                registeredChannels.incrementAndGet();
+                logger.debug("서버 채널 등록 완료: {}", server.id());
+            } else if (channel instanceof NioSocketChannel) {
+                NioSocketChannel ns = (NioSocketChannel) channel;
+                ns.getJavaChannel().configureBlocking(false);
+                // AUTO_READ가 꺼져 있으면 read()가 요청될 때까지 읽지 않음
+                int interestOps = ns.config().getOption(ChannelOption.AUTO_READ) ? SelectionKey.OP_READ : 0;
+                SelectionKey key = ns.getJavaChannel().register(selector, interestOps, ns);
+                ns.setSelectionKey(key);
+                ns.setEventLoop(this);
+                registeredChannels.incrementAndGet();
+                logger.debug("채널 등록 완료: {}", ns.id());
+                ns.pipeline().fireChannelActive();
+            } else {
+                throw new IllegalArgumentException("unsupported channel type: " + channel.getClass().getName());
+            }
+            future.setSuccess();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("채널 등록 실패, 채널을 닫습니다: {}", channel.id(), e);
+            future.setFailure(e);
+            channel.close();
+        }
+    }
+
+    /**
+     * 루프 스레드가 아직 시작되지 않았으면 생성하여 {@link #loop()}를 실행합니다.
+     */
+    private void startThreadIfNecessary() {
+        if (state.get() == ST_NOT_STARTED && state.compareAndSet(ST_NOT_STARTED, ST_STARTED)) {
+            doStartThread();
+        }
+    }
+
+    private void doStartThread() {
+        Thread t = threadFactory.newThread(this::loop);
+        thread = t;
+        t.start();
+    }
+
+    /**
+     * 등록되어 있던 채널이 닫혔음을 알립니다.
+     * {@link NioSocketChannel#close()}와 {@link NioServerSocketChannel#close()}에서 채널당 한 번만 호출됩니다.
+     */
+    void channelDeregistered() {
+        registeredChannels.decrementAndGet();
+    }
+
+    @Override
+    public int registeredChannels() {
+        return registeredChannels.get();
     }
 
     @Override
     public void loop() {
-        while (true) {
+        for (;;) {
             try {
-                int readyChannels = selector.select(1000);
-                if (readyChannels == 0) {
-                    continue;
+                // select() 직전에만 플래그를 내려, 그 이후에 들어온 작업만 wakeup을 호출하게 함
+                wakenUp.set(false);
+                long timeoutMillis = taskQueue.isEmpty() ? selectTimeoutMillis() : 0;
+                if (timeoutMillis > 0) {
+                    selector.select(timeoutMillis);
+                } else {
+                    selector.selectNow();
                 }
-                Set<java.nio.channels.SelectionKey> selectedKeys = selector.selectedKeys();
-                Iterator<java.nio.channels.SelectionKey> keyIterator = selectedKeys.iterator();
-                while (keyIterator.hasNext()) {
-                    // java.nio.channels.SelectionKey key = keyIterator.next();
-                    // TODO: 각 SelectionKey에 대해 읽기/쓰기/연결 수락 이벤트 처리 로직 구현 필요
-                    SelectionKey key = keyIterator.next();
-                    if (key.isReadable()) {
-                        Object attachment = key.attachment();
-                        if (attachment instanceof NioSocketChannel) {
-                            NioSocketChannel ns = (NioSocketChannel) attachment;
-                            ByteBuffer buffer = ByteBuffer.allocate(1024);
-                            int bytesRead = ns.getJavaChannel().read(buffer);
-                            if (bytesRead > 0) {
-                                buffer.flip();
-                                byte[] data = new byte[buffer.remaining()];
-                                buffer.get(data);
-                                // 간단히 읽은 데이터를 문자열로 변환 후 파이프라인으로 전달
-                                String received = new String(data, StandardCharsets.UTF_8);
-                                logger.debug("데이터 읽음: {} (채널: {})", received, ns.id());
-                                ns.pipeline().fireChannelRead(received);
-                                ns.pipeline().fireChannelReadComplete();
-                            } else if (bytesRead < 0) {
-                                // 클라이언트 종료 시 채널 닫기
-                                logger.warn("채널 종료 감지 (읽기 -1): {}", ns.id());
-                                ns.close();
-                            }
-                        }
-                    }
-                    keyIterator.remove();
+                // 깨어난 뒤 작업을 처리하는 동안에는 wakeup이 필요 없음
+                wakenUp.set(true);
+                int ioRatio = this.ioRatio;
+                if (ioRatio == 100) {
+                    processSelectedKeys();
+                    runAllTasks();
+                } else {
+                    long ioStartTime = System.nanoTime();
+                    processSelectedKeys();
+                    long ioTime = System.nanoTime() - ioStartTime;
+                    runAllTasks(ioTime * (100 - ioRatio) / ioRatio);
                 }
+            } catch (ClosedSelectorException e) {
+                break;
             } catch (IOException e) {
                 logger.error("NioEventLoop 오류", e);
                 break;
             }
+            if (isShuttingDown() && confirmShutdown()) {
+                break;
+            }
+        }
+        cleanup();
+    }
+
+    /**
+     * 종료 절차를 계속할지 판단합니다. 루프 스레드에서만 호출됩니다.
+     * <p>
+     * 남은 작업을 실행하고, 조용한 기간 동안 새 작업이 없었거나 제한 시간이 지났거나 즉시 종료({@link #shutdown()})가
+     * 요청되었으면 {@code true}를 반환합니다. 그 전까지는 루프가 I/O와 작업 처리를 계속하므로, 진행 중인 응답이
+     * 송신되고 다른 스레드가 넘긴 작업도 마저 실행됩니다.
+     * </p>
+     *
+     * @return 루프를 끝내도 되면 {@code true}
+     */
+    private boolean confirmShutdown() {
+        cancelScheduledTasks();
+        if (gracefulShutdownStartTime == 0) {
+            gracefulShutdownStartTime = System.nanoTime();
+            // 조용한 기간은 종료 요청 시점부터 측정 (오래전 작업 시각을 기준으로 하면 곧바로 끝나 버림)
+            lastExecutionTime = gracefulShutdownStartTime;
+        }
+        if (runAllTasks()) {
+            if (isShutdown()) {
+                return true;
+            }
+            // 작업이 실행되었으므로 조용한 기간을 다시 기다림 (0이면 바로 종료)
+            return gracefulShutdownQuietPeriod == 0;
+        }
+        long now = System.nanoTime();
+        if (isShutdown() || now - gracefulShutdownStartTime > gracefulShutdownTimeout) {
+            return true;
+        }
+        return now - lastExecutionTime > gracefulShutdownQuietPeriod;
+    }
+
+    /**
+     * 루프가 끝난 뒤 등록된 채널을 모두 닫고, 그 사이 들어온 작업을 실행한 뒤 셀렉터를 닫습니다.
+     */
+    private void cleanup() {
+        try {
+            closeAll();
+        } finally {
+            // 이후의 작업은 거부: 닫기 중 넘겨진 작업까지 실행
+            for (;;) {
+                int oldState = state.get();
+                if (oldState >= ST_SHUTDOWN || state.compareAndSet(oldState, ST_SHUTDOWN)) {
+                    break;
+                }
+            }
+            // 상태 확인을 통과한 다른 스레드가 작업을 다 넣을 때까지 기다린 뒤 실행
+            while (pendingOffers.get() != 0) {
+                Thread.yield();
+            }
+            runAllTasks();
+            cancelScheduledTasks();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.warn("셀렉터 종료 실패", e);
+            }
+            state.set(ST_TERMINATED);
+            logger.info("NioEventLoop 종료");
+            terminationFuture.setSuccess();
+        }
+    }
+
+    /**
+     * 셀렉터에 등록된 모든 채널을 닫습니다. 송신되지 못한 메시지는 실패 처리됩니다.
+     */
+    private void closeAll() {
+        List<Channel> channels = new ArrayList<>();
+        try {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Channel) {
+                    channels.add((Channel) key.attachment());
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            return;
+        }
+        for (Channel ch : channels) {
+            ch.close();
         }
     }
 
+    /**
+     * 가장 가까운 예약 작업의 마감까지 {@code select()}가 대기할 시간을 계산합니다.
+     * 일찍 깨어나 헛돌지 않도록 밀리초 단위로 올림하며, 이미 마감된 작업이 있으면 0을 반환합니다.
+     *
+     * @return 대기 시간(ms), 0이면 대기하지 않음
+     */
+    private long selectTimeoutMillis() {
+        long maxMillis = isShuttingDown() ? SHUTDOWN_CHECK_INTERVAL_MILLIS : SELECT_TIMEOUT_MILLIS;
+        long delayNanos = nextScheduledTaskDelayNanos();
+        if (delayNanos < 0) {
+            return maxMillis;
+        }
+        return Math.min(maxMillis, TimeUnit.NANOSECONDS.toMillis(delayNanos + 999_999));
+    }
+
+    private void processSelectedKeys() throws IOException {
+        Set<SelectionKey> selectedKeys = selector.selectedKeys();
+        if (selectedKeys.isEmpty()) {
+            return;
+        }
+        Iterator<SelectionKey> keyIterator = selectedKeys.iterator();
+        while (keyIterator.hasNext()) {
+            SelectionKey key = keyIterator.next();
+            keyIterator.remove();
+            try {
+                processSelectedKey(key);
+            } catch (CancelledKeyException e) {
+                logger.debug("취소된 키 무시: {}", key.attachment());
+            }
+        }
+    }
+
+    /**
+     * 마감된 예약 작업을 실행합니다. 실행 도중 다시 예약된 주기 작업은 다음 반복에서 실행됩니다.
+     */
+    private void runScheduledTasks() {
+        if (!hasScheduledTasks()) {
+            return;
+        }
+        long now = nanoTime();
+        Runnable task;
+        while ((task = pollScheduledTask(now)) != null) {
+            safeExecute(task);
+        }
+    }
+
+    /**
+     * 마감된 예약 작업과 작업 큐에 쌓인 작업을 모두 실행합니다. 작업은 {@link #MAX_TASKS_PER_DRAIN}개씩
+     * 일괄로 꺼내며, 작업에서 발생한 예외는 로그로 남기고 다음 작업을 계속 실행합니다.
+     *
+     * @return 작업 큐의 작업을 하나라도 실행했으면 {@code true}
+     */
+    private boolean runAllTasks() {
+        runScheduledTasks();
+        boolean ran = false;
+        while (taskQueue.drain(NioEventLoop::safeExecute, MAX_TASKS_PER_DRAIN) > 0) {
+            // 큐가 빌 때까지 반복
+            ran = true;
+        }
+        if (ran) {
+            lastExecutionTime = System.nanoTime();
+        }
+        return ran;
+    }
+
+    /**
+     * 마감된 예약 작업을 실행한 뒤 작업 큐의 작업을 최대 {@code timeoutNanos} 동안 실행합니다.
+     * 경과 시간은 {@link #TASKS_PER_DEADLINE_CHECK}개마다 확인하므로 시간 제한이 0이어도 그만큼은 실행되며,
+     * 남은 작업은 다음 반복에서 {@code selectNow()} 후 이어서 실행됩니다.
+     *
+     * @param timeoutNanos 작업 실행에 쓸 최대 시간(ns)
+     */
+    private void runAllTasks(long timeoutNanos) {
+        runScheduledTasks();
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (taskQueue.drain(NioEventLoop::safeExecute, TASKS_PER_DEADLINE_CHECK) > 0) {
+            long now = System.nanoTime();
+            lastExecutionTime = now;
+            if (now - deadline >= 0) {
+                break;
+            }
+        }
+    }
+
+    private static void safeExecute(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("이벤트 루프 작업 실행 중 예외 발생", t);
+        }
+    }
+
+    /**
+     * 선택된 키 하나에 대해 연결 수락, 쓰기 가능, 읽기 이벤트를 처리합니다.
+     * 쓰기 가능 이벤트를 먼저 처리하여 대기 중인 송신 데이터를 내보내고 메모리를 빨리 반환합니다.
+     *
+     * @param key 준비된 {@link SelectionKey}
+     * @throws IOException 소켓 읽기 중 발생할 수 있는 예외
+     */
+    private void processSelectedKey(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+        Object attachment = key.attachment();
+        if (key.isAcceptable() && attachment instanceof NioServerSocketChannel) {
+            ((NioServerSocketChannel) attachment).acceptConnections();
+            return;
+        }
+        if (!(attachment instanceof NioSocketChannel)) {
+            return;
+        }
+        NioSocketChannel ns = (NioSocketChannel) attachment;
+        if (key.isWritable()) {
+            // 송신 버퍼에 여유가 생김: 남은 데이터를 전송 (모두 전송되면 OP_WRITE 해제)
+            ns.forceFlush();
+        }
+        if (key.isValid() && key.isReadable()) {
+            read(ns);
+        }
+    }
+
+    /**
+     * 읽기 가능한 채널에서 데이터를 읽어 파이프라인에 전달합니다.
+     * <p>
+     * 한 번의 깨어남에서 최대 {@link ChannelOption#MAX_MESSAGES_PER_READ}번까지 반복해 읽고 읽을 때마다
+     * 읽은 {@link CustomBuffer}로 {@code channelRead}를 발생시킨 뒤, 마지막에 {@code channelReadComplete}를 한 번 발생시킵니다. 버퍼를
+     * 가득 채우지 못한 읽기는 소켓 수신 버퍼가 비었다는 뜻이므로 0을 반환할 읽기를 시도하지 않고 멈춥니다.
+     * 횟수 제한 때문에 남은 데이터는 셀렉터가 다시 알려 주므로 다른 채널이 굶지 않습니다.
+     * {@link ChannelOption#AUTO_READ}가 꺼진 채널은 {@code read()} 요청마다 한 번만 읽습니다.
+     * </p>
+     *
+     * @param ns 읽기 가능한 채널
+     */
+    private void read(NioSocketChannel ns) {
+        RecvByteBufAllocator.Handle recvHandle = ns.recvBufAllocHandle();
+        ns.clearReadPending();
+        int maxMessagesPerRead = ns.config().getOption(ChannelOption.MAX_MESSAGES_PER_READ);
+        int messagesRead = 0;
+        boolean closed = false;
+        boolean continueReading;
+        do {
+            // 채널의 최근 읽기 크기에 맞춘 direct 버퍼로 읽어 JDK 내부의 임시 direct 버퍼 복사를 피함
+            CustomBuffer buffer = recvHandle.allocate(allocator);
+            int attemptedBytes = buffer.writableBytes();
+            int bytesRead;
+            try {
+                bytesRead = buffer.writeBytes(ns.getJavaChannel(), attemptedBytes);
+            } catch (IOException e) {
+                buffer.release();
+                // 피어가 연결을 강제로 끊은 경우 등: 해당 채널만 닫고 루프는 계속 진행
+                logger.warn("채널 읽기 실패, 채널을 닫습니다: {}", ns.id(), e);
+                if (messagesRead > 0) {
+                    ns.pipeline().fireChannelReadComplete();
+                }
+                ns.close();
+                return;
+            }
+            if (bytesRead <= 0) {
+                buffer.release();
+                closed = bytesRead < 0;
+                break;
+            }
+            recvHandle.lastBytesRead(bytesRead);
+            // 읽은 버퍼를 디코딩 없이 그대로 전달 (해제는 파이프라인의 책임, 문자열은 StringDecoder가 변환)
+            ns.pipeline().fireChannelRead(buffer);
+            messagesRead++;
+            // 핸들러가 읽는 도중 채널을 닫았거나, AUTO_READ가 꺼져 있어 read() 요청 한 번에 한 번만 읽어야 하면 중단
+            continueReading = bytesRead == attemptedBytes && messagesRead < maxMessagesPerRead
+                    && ns.config().getOption(ChannelOption.AUTO_READ) && ns.getJavaChannel().isOpen();
+        } while (continueReading);
+
+        if (messagesRead > 0) {
+            ns.pipeline().fireChannelReadComplete();
+        }
+        // AUTO_READ가 꺼져 있으면 핸들러가 read()를 요청하지 않은 한 OP_READ 해제
+        ns.readCompleted();
+        if (closed) {
+            // 클라이언트 종료 시 채널 닫기
+            logger.warn("채널 종료 감지 (읽기 -1): {}", ns.id());
+            ns.close();
+        }
+    }
+
+    /**
+     * 조용한 기간과 제한 시간을 두고 루프를 종료합니다.
+     * <p>
+     * 종료 중에도 루프는 I/O와 작업 처리를 계속하며, 마지막 작업 실행 후 {@code quietPeriod} 동안 새 작업이
+     * 없으면 종료합니다. 작업이 계속 들어오더라도 {@code timeout}이 지나면 종료합니다. 종료 시 등록된 채널은
+     * 모두 닫히고 예약 작업은 취소됩니다. 이미 종료 중이면 아무 일도 하지 않습니다.
+     * </p>
+     *
+     * @param quietPeriod 조용한 기간
+     * @param timeout     제한 시간 (조용한 기간 이상)
+     * @param unit        시간 단위
+     * @return {@link #terminationFuture()}
+     * @throws IllegalArgumentException 인자가 범위를 벗어난 경우
+     */
+    public Future shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
+        if (quietPeriod < 0) {
+            throw new IllegalArgumentException("quietPeriod: " + quietPeriod + " (expected >= 0)");
+        }
+        if (timeout < quietPeriod) {
+            throw new IllegalArgumentException(
+                    "timeout: " + timeout + " (expected >= quietPeriod (" + quietPeriod + "))");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        if (isShuttingDown()) {
+            return terminationFuture;
+        }
+        gracefulShutdownQuietPeriod = unit.toNanos(quietPeriod);
+        gracefulShutdownTimeout = unit.toNanos(timeout);
+        if (advanceState(ST_SHUTTING_DOWN)) {
+            wakeupForShutdown();
+        }
+        return terminationFuture;
+    }
+
+    /**
+     * 루프를 즉시 종료합니다. 새 작업은 거부되며, 이미 넘겨진 작업은 실행된 뒤 채널을 모두 닫고 종료합니다.
+     * 종료 완료를 기다리려면 {@link #awaitTermination(long, TimeUnit)}이나 {@link #terminationFuture()}를 사용합니다.
+     */
     @Override
     public void shutdown() {
-        try {
-            selector.close();
-            logger.info("NioEventLoop 셀렉터 종료");
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (advanceState(ST_SHUTDOWN)) {
+            wakeupForShutdown();
+        }
+    }
+
+    /**
+     * 상태를 {@code newState}로 올립니다. 루프 스레드가 시작되기 전이었다면 종료 절차를 진행하도록 시작합니다.
+     *
+     * @return 상태가 바뀌었으면 {@code true}
+     */
+    private boolean advanceState(int newState) {
+        for (;;) {
+            int oldState = state.get();
+            if (oldState >= newState) {
+                return false;
+            }
+            if (state.compareAndSet(oldState, newState)) {
+                if (oldState == ST_NOT_STARTED) {
+                    doStartThread();
+                }
+                return true;
+            }
+        }
+    }
 
+    private void wakeupForShutdown() {
+        if (!inEventLoop()) {
+            // 플래그와 관계없이 깨워 종료 상태를 바로 확인하게 함
+            wakenUp.set(true);
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 루프가 완전히 종료되면 완료되는 {@link Future}를 반환합니다.
+     *
+     * @return 종료 {@link Future}
+     */
+    public Future terminationFuture() {
+        return terminationFuture;
+    }
+
+    /**
+     * {@link NioEventLoopGroup}이 종료 완료를 모아 받을 수 있도록 리스너를 등록합니다.
+     */
+    void addTerminationListener(Runnable listener) {
+        terminationFuture.addListener(f -> listener.run());
+    }
+
+    /**
+     * 종료 절차가 시작되었는지 확인합니다.
+     *
+     * @return {@link #shutdownGracefully(long, long, TimeUnit)}나 {@link #shutdown()}이 호출되었으면 {@code true}
+     */
+    public boolean isShuttingDown() {
+        return state.get() >= ST_SHUTTING_DOWN;
+    }
+
+    /**
+     * 루프를 종료합니다. 작업 큐는 루프 스레드만 꺼낼 수 있으므로 실행되지 않은 작업 목록은 반환하지 않습니다.
+     *
+     * @return 빈 목록
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() >= ST_SHUTDOWN;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return state.get() == ST_TERMINATED;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        Thread t = thread;
+        if (t != null && t != Thread.currentThread()) {
+            unit.timedJoin(t, timeout);
         }
+        return isTerminated();
     }
 
     /**
@@ -1,17 +1,27 @@
 package com.example.nionetty.channel.nio;
 
+import com.example.nionetty.eventloop.DefaultEventLoopChooserFactory;
 import com.example.nionetty.eventloop.EventLoop;
+import com.example.nionetty.eventloop.EventLoopChooserFactory;
 import com.example.nionetty.eventloop.EventLoopGroup;
 
+import com.example.nionetty.util.Future;
+import com.example.nionetty.util.concurrent.DefaultPromise;
+import com.example.nionetty.util.concurrent.DefaultThreadFactory;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code NioEventLoopGroup} 클래스는 여러 개의 {@link NioEventLoop}을 관리하는 이벤트 루프 그룹입니다.
  * <p>
  * 이 클래스는 여러 I/O 작업을 병렬로 처리하기 위해 지정된 개수만큼의 이벤트 루프를 생성하고,
- * 라운드 로빈 방식 등으로 작업을 분배합니다.
+ * {@link EventLoopChooserFactory}가 만든 선택기를 통해 작업을 분배합니다.
+ * 기본값은 라운드 로빈({@link DefaultEventLoopChooserFactory})입니다.
  * </p>
  *
  * @see com.example.nionetty.eventloop.EventLoopGroup
@@ -27,18 +37,85 @@ public class NioEventLoopGroup implements EventLoopGroup {
     /** 생성된 이벤트 루프 수 */
     private final int nThreads;
 
+    /** {@link #next()} 호출 시 이벤트 루프를 고르는 선택기 */
+    private final EventLoopChooserFactory.EventLoopChooser chooser;
+
+    /** 종료된 이벤트 루프 수 */
+    private final AtomicInteger terminatedChildren = new AtomicInteger();
+
+    /** 모든 이벤트 루프가 종료되면 완료되는 약속 */
+    private final DefaultPromise terminationFuture = new DefaultPromise();
+
     /**
      * 생성자.
-     * 지정한 스레드 수 만큼의 {@link NioEventLoop}을 생성합니다.
+     * 지정한 스레드 수 만큼의 {@link NioEventLoop}을 생성하고 기본 라운드 로빈 선택기를 사용합니다.
      *
      * @param nThreads 생성할 이벤트 루프의 수
      * @throws IOException 이벤트 루프 생성 중 발생할 수 있는 I/O 예외
      */
     public NioEventLoopGroup(int nThreads) throws IOException {
+        this(nThreads, DefaultEventLoopChooserFactory.INSTANCE);
+    }
+
+    /**
+     * 생성자.
+     * 지정한 스레드 수 만큼의 {@link NioEventLoop}을 생성하고, 루프 스레드는 주어진 팩토리로 만듭니다.
+     *
+     * @param nThreads      생성할 이벤트 루프의 수
+     * @param threadFactory 루프 스레드를 만들 팩토리
+     * @throws IOException 이벤트 루프 생성 중 발생할 수 있는 I/O 예외
+     */
+    public NioEventLoopGroup(int nThreads, ThreadFactory threadFactory) throws IOException {
+        this(nThreads, DefaultEventLoopChooserFactory.INSTANCE, threadFactory);
+    }
+
+    /**
+     * 생성자.
+     * 지정한 스레드 수 만큼의 {@link NioEventLoop}을 생성하고, 주어진 팩토리로 선택기를 만듭니다.
+     *
+     * @param nThreads       생성할 이벤트 루프의 수
+     * @param chooserFactory 이벤트 루프 선택기 팩토리
+     * @throws IOException 이벤트 루프 생성 중 발생할 수 있는 I/O 예외
+     * @throws IllegalArgumentException 스레드 수가 0 이하일 경우
+     */
+    public NioEventLoopGroup(int nThreads, EventLoopChooserFactory chooserFactory) throws IOException {
+        this(nThreads, chooserFactory, new DefaultThreadFactory("nioEventLoopGroup"));
+    }
+
+    /**
+     * 생성자.
+     * 지정한 스레드 수 만큼의 {@link NioEventLoop}을 생성하고, 주어진 팩토리로 선택기와 루프 스레드를 만듭니다.
+     * 루프 스레드는 각 루프에 첫 작업이 들어올 때 시작됩니다.
+     *
+     * @param nThreads       생성할 이벤트 루프의 수
+     * @param chooserFactory 이벤트 루프 선택기 팩토리
+     * @param threadFactory  루프 스레드를 만들 팩토리
+     * @throws IOException 이벤트 루프 생성 중 발생할 수 있는 I/O 예외
+     * @throws IllegalArgumentException 스레드 수가 0 이하일 경우
+     */
+    public NioEventLoopGroup(int nThreads, EventLoopChooserFactory chooserFactory, ThreadFactory threadFactory)
+            throws IOException {
+        if (nThreads <= 0) {
+            throw new IllegalArgumentException("nThreads must be positive: " + nThreads);
+        }
+        if (chooserFactory == null) {
+            throw new NullPointerException("chooserFactory");
+        }
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
         this.nThreads = nThreads;
         this.eventLoops = new ArrayList<>(nThreads);
         for (int i = 0; i < nThreads; i++) {
-            eventLoops.add(new NioEventLoop());
+            eventLoops.add(new NioEventLoop(threadFactory));
+        }
+        this.chooser = chooserFactory.newChooser(eventLoops.toArray(new EventLoop[0]));
+        for (EventLoop loop : eventLoops) {
+            ((NioEventLoop) loop).addTerminationListener(() -> {
+                if (terminatedChildren.incrementAndGet() == this.nThreads) {
+                    terminationFuture.setSuccess();
+                }
+            });
         }
     }
 
@@ -53,30 +130,43 @@ public class NioEventLoopGroup implements EventLoopGroup {
     }
 
     /**
-     * 라운드 로빈 방식으로 다음 {@link EventLoop} 객체를 반환합니다.
-     * <p>
-     * 실제 구현에서는 각 호출 시마다 순환 인덱스를 갱신하여 분배해야 하나,
-     * 여기서는 단순 예제로 첫 번째 이벤트 루프를 반환합니다.
-     * </p>
+     * 그룹에 속한 모든 이벤트 루프의 I/O 비율을 설정합니다.
+     *
+     * @param ioRatio I/O 비율 (1-100)
+     * @throws IllegalArgumentException 범위를 벗어난 경우
+     * @see NioEventLoop#setIoRatio(int)
+     */
+    public void setIoRatio(int ioRatio) {
+        for (EventLoop loop : eventLoops) {
+            ((NioEventLoop) loop).setIoRatio(ioRatio);
+        }
+    }
+
+    /**
+     * 선택기를 통해 다음 {@link EventLoop} 객체를 반환합니다.
      *
      * @return 선택된 {@link EventLoop} 객체
      */
     @Override
     public EventLoop next() {
-        return eventLoops.get(0);
+        return chooser.next();
     }
 
     /**
      * 그룹에 속한 모든 이벤트 루프를 정상 종료합니다.
-     * <p>
-     * 실제 구현에서는 각 이벤트 루프에 종료 신호를 보내고 자원 해제 작업을 수행해야 합니다.
-     * </p>
+     *
+     * @see NioEventLoop#shutdownGracefully(long, long, TimeUnit)
      */
     @Override
-    public void shutdownGracefully() {
-        // 단순 예제: 이벤트 루프 종료 로직 구현 필요
+    public Future shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit) {
         for (EventLoop loop : eventLoops) {
-            // 예: loop.shutdown();
+            ((NioEventLoop) loop).shutdownGracefully(quietPeriod, timeout, unit);
         }
+        return terminationFuture;
+    }
+
+    @Override
+    public Future terminationFuture() {
+        return terminationFuture;
     }
 }
@@ -3,7 +3,9 @@ package com.example.nionetty.channel.nio;
 import com.example.nionetty.channel.AbstractChannel;
 import com.example.nionetty.channel.ChannelConfig;
 import com.example.nionetty.channel.ChannelFuture;
+import com.example.nionetty.channel.ChannelHandler;
 import com.example.nionetty.channel.ChannelId;
+import com.example.nionetty.channel.ChannelOption;
 import com.example.nionetty.channel.DefaultChannelConfig;
 import com.example.nionetty.channel.DefaultChannelId;
 import com.example.nionetty.eventloop.EventLoop;
@@ -11,6 +13,10 @@ import com.example.nionetty.eventloop.EventLoopGroup;
 
 import java.net.SocketAddress;
 import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,83 +25,175 @@ import java.io.IOException;
 
 /**
  * {@code NioServerSocketChannel} 클래스는 서버 소켓 채널의 NIO 기반 구현체입니다.
- * 실제 구현에서는 java.nio.channels.ServerSocketChannel을 내부적으로 사용하여
- * 소켓 바인딩 및 연결 수락을 수행합니다.
+ * 내부적으로 java.nio.channels.ServerSocketChannel을 사용하여 소켓 바인딩을 수행하고,
+ * 바인딩 후에는 boss 그룹의 {@link NioEventLoop}에 {@code OP_ACCEPT}로 등록되어
+ * 셀렉터가 깨울 때마다 연결을 수락한 뒤 worker 그룹으로 넘깁니다.
  */
 public class NioServerSocketChannel extends AbstractChannel {
 
     private static final Logger logger = LoggerFactory.getLogger(NioServerSocketChannel.class);
 
+    /**
+     * 한 번의 {@code OP_ACCEPT} 이벤트에서 수락할 최대 연결 수.
+     * 연결 폭주 시에도 boss 루프가 다른 키를 처리할 기회를 갖도록 상한을 둡니다.
+     */
+    static final int MAX_ACCEPTS_PER_WAKEUP = 16;
+
     private ServerSocketChannel javaChannel;
+    private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
 
+    /** 수락된 자식 채널의 파이프라인에 추가할 핸들러 */
+    private ChannelHandler childHandler;
+
+    /** 수락된 자식 채널에 적용할 옵션 */
+    private Map<ChannelOption<?>, Object> childOptions = Collections.emptyMap();
+
     public NioServerSocketChannel(ChannelId id, ChannelConfig config) {
         super(id, config);
     }
 
+    public void setBossGroup(EventLoopGroup bossGroup) {
+        this.bossGroup = bossGroup;
+    }
+
     public void setWorkerGroup(EventLoopGroup workerGroup) {
         this.workerGroup = workerGroup;
     }
 
+    public void setChildHandler(ChannelHandler childHandler) {
+        this.childHandler = childHandler;
+    }
+
+    public void setChildOptions(Map<ChannelOption<?>, Object> childOptions) {
+        this.childOptions = childOptions;
+    }
+
+    /**
+     * 이 채널이 등록된 boss 이벤트 루프를 설정합니다. {@link NioEventLoop#register(com.example.nionetty.channel.Channel)}에서 호출됩니다.
+     *
+     * @param eventLoop 등록된 이벤트 루프
+     */
+    void setEventLoop(NioEventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    public ServerSocketChannel getJavaChannel() {
+        return javaChannel;
+    }
+
+    /**
+     * 서버 소켓을 바인딩하고 boss 루프에 등록합니다.
+     * <p>
+     * 반환된 future는 boss 루프에서 {@code OP_ACCEPT} 등록까지 끝나야 성공으로 완료되므로,
+     * 성공을 본 뒤에는 연결이 수락됩니다. 등록에 실패하면 채널을 닫고 그 원인으로 실패합니다.
+     * </p>
+     *
+     * @param localAddress 바인딩할 주소
+     * @return 바인딩과 등록이 끝나면 완료되는 {@link ChannelFuture}
+     */
     @Override
     public ChannelFuture bind(SocketAddress localAddress) {
-        ChannelFuture future = new ChannelFuture();
+        ChannelFuture future = new ChannelFuture().setChannel(this);
         try {
             // ServerSocketChannel 생성 및 비블로킹 모드 설정
             logger.info("서버 소켓을 {}에 바인딩 중...", localAddress);
             javaChannel = ServerSocketChannel.open();
             javaChannel.configureBlocking(false);
             javaChannel.socket().bind(localAddress);
-            future.setSuccess().setChannel(this);
-            logger.info("서버 소켓 바인딩 성공: {}", localAddress);
-
-            // 바인딩 성공 후, 클라이언트 연결을 수락할 수 있도록
-            // 별도의 스레드에서 acceptor 로직 실행
-            new Thread(() -> {
-                logger.info("Acceptor 스레드 시작");
-                while (true) {
-                    try {
-                        // accept()는 non-blocking 모드이므로 연결이 없으면 null을 반환함
-                        java.nio.channels.SocketChannel clientChannel = javaChannel.accept();
-                        if (clientChannel != null) {
-                            logger.info("Accepted connection from {}", clientChannel.getRemoteAddress());
-                            // 수락된 클라이언트 채널을 NioSocketChannel로 감싸기
-                            // TODO: 실제 구현에서는 bossGroup -> workerGroup으로 연결 전달 및 채널 초기화 진행
-                            // 예제에서는 단순히 수락만 로그로 출력함.
-
-                            // 만약 NioSocketChannel로 감싸고 싶다면, 새로운 NioSocketChannel 생성 시
-                            // 해당 clientChannel을 활용하는 생성자를 정의하고 호출해야 합니다.
-                            // 새 NioSocketChannel 생성 (수락된 clientChannel 사용)
-                            NioSocketChannel ns = new NioSocketChannel(new DefaultChannelId(),
-                                    new DefaultChannelConfig(), clientChannel);
-                            // (원한다면 채널 초기화를 위한 childHandler를 호출할 수 있음)
-                            // workerGroup에서 이벤트 루프를 얻어 등록
-                            EventLoop worker = workerGroup.next();
-                            logger.debug("Worker EventLoop 선택: {}", worker);
-                            // Cast worker to NioEventLoop to use register() method
-                            ((NioEventLoop) worker).register(ns);
-                        } else {
-                            // 연결이 없으면 잠시 대기 (예: 50ms)
-                            Thread.sleep(50);
-                        }
-                    } catch (Exception ex) {
-                        logger.error("Acceptor 스레드 오류", ex);
-                    }
+
+            // 바인딩 성공 후, boss 루프의 셀렉터에 OP_ACCEPT로 등록하여 연결 수락을 위임
+            // (boss 그룹이 지정되지 않았다면 worker 그룹에서 루프를 빌려 사용)
+            EventLoopGroup acceptorGroup = bossGroup != null ? bossGroup : workerGroup;
+            EventLoop boss = acceptorGroup.next();
+            // 등록은 boss 루프 스레드에서 실행되며, 실패하면 해당 루프가 로그를 남기고 채널을 닫습니다.
+            ((NioEventLoop) boss).register(this).addListener(f -> {
+                if (f.isSuccess()) {
+                    logger.info("서버 소켓 바인딩 성공: {}", localAddress);
+                    future.setSuccess();
+                } else {
+                    future.setFailure(f.getCause());
                 }
-            }, "Acceptor-Thread").start();
-        } catch (IOException e) {
+            });
+        } catch (IOException | RejectedExecutionException e) {
             logger.error("서버 소켓 바인딩 중 오류", e);
+            // 바인딩된 소켓이 남지 않도록 닫음
+            close();
             future.setFailure(e);
         }
         return future;
     }
 
+    /**
+     * 대기 중인 연결을 최대 {@link #MAX_ACCEPTS_PER_WAKEUP}개까지 수락합니다.
+     * <p>
+     * boss 루프 스레드에서 {@code OP_ACCEPT} 이벤트가 발생했을 때 호출됩니다.
+     * 수락된 각 연결은 {@link NioSocketChannel}로 감싸 자식 핸들러로 초기화한 뒤,
+     * worker 그룹이 선택한 이벤트 루프에 등록됩니다.
+     * </p>
+     */
+    void acceptConnections() {
+        for (int i = 0; i < MAX_ACCEPTS_PER_WAKEUP; i++) {
+            SocketChannel clientChannel;
+            try {
+                clientChannel = javaChannel.accept();
+            } catch (IOException e) {
+                logger.error("연결 수락 중 오류", e);
+                return;
+            }
+            if (clientChannel == null) {
+                // 더 이상 대기 중인 연결이 없음
+                return;
+            }
+            DefaultChannelConfig childConfig = new DefaultChannelConfig();
+            childConfig.setOptions(childOptions);
+            NioSocketChannel child = new NioSocketChannel(new DefaultChannelId(), childConfig, clientChannel);
+            try {
+                logger.info("Accepted connection from {}", clientChannel.getRemoteAddress());
+                if (childHandler != null) {
+                    child.pipeline().addLast(childHandler);
+                }
+                EventLoop worker = workerGroup.next();
+                logger.debug("Worker EventLoop 선택: {}", worker);
+                // 등록은 worker 루프의 작업으로 넘겨지므로 boss 루프는 worker의 select()에 막히지 않습니다.
+                ((NioEventLoop) worker).register(child);
+            } catch (IOException | RejectedExecutionException e) {
+                logger.error("자식 채널 등록 실패, 연결을 닫습니다", e);
+                child.close();
+            }
+        }
+    }
+
+    /**
+     * 서버 소켓을 닫습니다. 등록된 boss 루프가 있으면 닫기는 그 루프 스레드에서 실행되며,
+     * 루프의 등록 채널 수도 함께 줄어듭니다.
+     *
+     * @return 닫기가 끝나면 완료되는 {@link ChannelFuture}
+     */
     @Override
     public ChannelFuture close() {
-        ChannelFuture future = new ChannelFuture();
+        ChannelFuture future = new ChannelFuture().setChannel(this);
+        EventLoop loop = eventLoop;
+        if (loop != null && !loop.inEventLoop()) {
+            try {
+                loop.execute(() -> close0(future));
+                return future;
+            } catch (RejectedExecutionException e) {
+                // 루프가 이미 종료됨: 현재 스레드에서 정리
+            }
+        }
+        close0(future);
+        return future;
+    }
+
+    private void close0(ChannelFuture future) {
         try {
-            if (javaChannel != null) {
+            if (javaChannel != null && javaChannel.isOpen()) {
                 javaChannel.close();
+                EventLoop loop = eventLoop;
+                if (loop instanceof NioEventLoop) {
+                    ((NioEventLoop) loop).channelDeregistered();
+                }
             }
             // 채널 종료 후 closeFuture를 성공으로 처리
             closeFuture.setSuccess();
@@ -105,7 +203,6 @@ public class NioServerSocketChannel extends AbstractChannel {
             logger.error("서버 소켓 채널 종료 중 오류", e);
             future.setFailure(e);
         }
-        return future;
     }
 
     @Override
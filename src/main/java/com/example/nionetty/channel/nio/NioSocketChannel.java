@@ -1,11 +1,23 @@
 package com.example.nionetty.channel.nio;
 
+import com.example.nionetty.buffer.CustomBuffer;
+import com.example.nionetty.buffer.PooledBufferAllocator;
 import com.example.nionetty.channel.AbstractChannel;
 import com.example.nionetty.channel.ChannelConfig;
 import com.example.nionetty.channel.ChannelFuture;
 import com.example.nionetty.channel.ChannelId;
+import com.example.nionetty.channel.ChannelOption;
+import com.example.nionetty.channel.ChannelOutboundBuffer;
+import com.example.nionetty.channel.RecvByteBufAllocator;
+import com.example.nionetty.eventloop.EventLoop;
+import com.example.nionetty.util.ReferenceCountUtil;
 import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,6 +28,16 @@ import java.io.IOException;
  * {@code NioSocketChannel} 클래스는 클라이언트 소켓 채널의 NIO 기반 구현체입니다.
  * 이 클래스는 클라이언트와의 연결 및 I/O 처리를 담당하며,
  * java.nio.channels.SocketChannel을 내부적으로 사용합니다.
+ * <p>
+ * {@link #write(Object)}된 메시지는 파이프라인을 거쳐 {@link ChannelOutboundBuffer}에 쌓였다가 {@link #flush()} 시 전송됩니다.
+ * 소켓 송신 버퍼가 가득 차 일부만 전송되면 {@code OP_WRITE}를 등록해 두고, 이벤트 루프가 쓰기 가능
+ * 이벤트를 받으면 남은 데이터를 이어서 전송한 뒤 {@code OP_WRITE}를 해제합니다. 따라서 루프는
+ * 블로킹되거나 쓰기 재시도로 공회전하지 않습니다.
+ * </p>
+ * <p>
+ * 송신 큐는 이벤트 루프 스레드에서만 다룹니다. 다른 스레드에서 호출된 write/flush/close는 루프의 작업으로 넘겨져
+ * 루프 스레드에서 실행됩니다.
+ * </p>
  */
 public class NioSocketChannel extends AbstractChannel {
 
@@ -23,6 +45,24 @@ public class NioSocketChannel extends AbstractChannel {
 
     private SocketChannel javaChannel;
 
+    /** 셀렉터 등록 키 (등록 전에는 null) */
+    private volatile SelectionKey selectionKey;
+
+    /** 전송 대기 중인 메시지 큐 */
+    private final ChannelOutboundBuffer outboundBuffer = new ChannelOutboundBuffer(this);
+
+    /** doWrite() 실행 중 여부 (핸들러가 이벤트 처리 중 다시 flush할 때 재진입 방지) */
+    private boolean inFlush;
+
+    /** 메시지를 버퍼로 변환할 때 사용할 할당기 */
+    private final PooledBufferAllocator allocator = PooledBufferAllocator.DEFAULT;
+
+    /** 읽기 요청이 있어 다음 읽기 후에도 {@code OP_READ}를 유지해야 하는지 여부 (루프 스레드 전용) */
+    private boolean readPending;
+
+    /** 수신 버퍼 크기를 정하는 핸들 (루프 스레드 전용, 처음 읽을 때 생성) */
+    private RecvByteBufAllocator.Handle recvHandle;
+
     public NioSocketChannel(ChannelId id, ChannelConfig config) {
         super(id, config);
     }
@@ -36,6 +76,37 @@ public class NioSocketChannel extends AbstractChannel {
         return javaChannel;
     }
 
+    /**
+     * 이 채널의 수신 버퍼 크기를 정하는 핸들을 반환합니다. 처음 호출될 때
+     * {@link ChannelOption#RCVBUF_ALLOCATOR}로 만들며, 이벤트 루프 스레드에서만 호출해야 합니다.
+     *
+     * @return {@link RecvByteBufAllocator.Handle}
+     */
+    RecvByteBufAllocator.Handle recvBufAllocHandle() {
+        if (recvHandle == null) {
+            recvHandle = config().getOption(ChannelOption.RCVBUF_ALLOCATOR).newHandle();
+        }
+        return recvHandle;
+    }
+
+    /**
+     * 이 채널이 등록된 이벤트 루프를 설정합니다. {@link NioEventLoop#register(com.example.nionetty.channel.Channel)}에서 호출됩니다.
+     *
+     * @param eventLoop 등록된 이벤트 루프
+     */
+    void setEventLoop(NioEventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * 셀렉터 등록 키를 설정합니다. {@code OP_WRITE} 관심 등록/해제에 사용됩니다.
+     *
+     * @param selectionKey 셀렉터 등록 키
+     */
+    void setSelectionKey(SelectionKey selectionKey) {
+        this.selectionKey = selectionKey;
+    }
+
     @Override
     public ChannelFuture bind(SocketAddress localAddress) {
         ChannelFuture future = new ChannelFuture();
@@ -54,12 +125,39 @@ public class NioSocketChannel extends AbstractChannel {
         return future;
     }
 
+    /**
+     * 채널을 닫습니다. 송신 큐는 이벤트 루프 스레드에서만 다루므로, 다른 스레드에서 호출되면
+     * 루프의 작업으로 넘겨 실행합니다.
+     *
+     * @return 채널 닫기 결과를 나타내는 {@link ChannelFuture} 객체
+     */
     @Override
     public ChannelFuture close() {
-        ChannelFuture future = new ChannelFuture();
+        ChannelFuture future = new ChannelFuture().setChannel(this);
+        EventLoop loop = eventLoop;
+        if (loop != null && !loop.inEventLoop()) {
+            try {
+                loop.execute(() -> close0(future));
+                return future;
+            } catch (RejectedExecutionException e) {
+                // 루프가 이미 종료됨: 현재 스레드에서 정리
+            }
+        }
+        close0(future);
+        return future;
+    }
+
+    private void close0(ChannelFuture future) {
         try {
-            if (javaChannel != null) {
+            if (javaChannel != null && javaChannel.isOpen()) {
                 javaChannel.close();
+                // 전송하지 못한 메시지는 버퍼를 해제하고 실패 처리
+                outboundBuffer.failAll(new ClosedChannelException());
+                EventLoop loop = eventLoop;
+                if (loop instanceof NioEventLoop) {
+                    ((NioEventLoop) loop).channelDeregistered();
+                }
+                pipeline.fireChannelInactive();
             }
             closeFuture.setSuccess();
             future.setSuccess();
@@ -68,14 +166,218 @@ public class NioSocketChannel extends AbstractChannel {
             logger.error("클라이언트 소켓 채널 종료 실패", e);
             future.setFailure(e);
         }
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 메시지를 송신 큐에 추가합니다. 실제 전송은 {@link #flush0()}에서 이루어집니다.
+     * <p>
+     * {@link CustomBuffer}는 그대로 큐에 들어가며(소유권이 채널로 넘어감), {@link String}은 UTF-8로,
+     * {@code byte[]}는 그대로 direct 버퍼에 복사됩니다.
+     * </p>
+     *
+     * @param msg 전송할 메시지 ({@link CustomBuffer}({@link com.example.nionetty.buffer.CompositeBuffer} 포함),
+     *            {@link String}, {@code byte[]})
+     * @return 메시지가 소켓에 모두 기록되면 완료되는 {@link ChannelFuture}
+     */
+    @Override
+    protected ChannelFuture write0(Object msg) {
+        ChannelFuture future = new ChannelFuture().setChannel(this);
+        if (javaChannel == null || !javaChannel.isOpen()) {
+            ReferenceCountUtil.safeRelease(msg);
+            return future.setFailure(new ClosedChannelException());
+        }
+        CustomBuffer buf;
+        if (msg instanceof CustomBuffer) {
+            buf = (CustomBuffer) msg;
+        } else if (msg instanceof String) {
+            buf = newDirectBuffer(((String) msg).getBytes(StandardCharsets.UTF_8));
+        } else if (msg instanceof byte[]) {
+            buf = newDirectBuffer((byte[]) msg);
+        } else {
+            return future.setFailure(new IllegalArgumentException(
+                    "unsupported message type: " + (msg == null ? "null" : msg.getClass().getName())));
+        }
+        outboundBuffer.addMessage(buf, future);
         return future;
     }
 
+    private CustomBuffer newDirectBuffer(byte[] bytes) {
+        CustomBuffer buf = allocator.directBuffer(Math.max(bytes.length, 1));
+        buf.write(bytes);
+        return buf;
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 송신 큐에 쌓인 메시지를 전송합니다.
+     * 이미 {@code OP_WRITE}를 기다리는 중이면 쓰기 가능 이벤트에서 함께 전송되므로 바로 반환합니다.
+     */
     @Override
-    public ChannelFuture write(Object msg) {
-        // 간단한 임시 구현: 메시지를 문자열로 변환하여 콘솔에 출력
-        logger.debug("NioSocketChannel writing message: {}", msg);
-        // 실제 구현에서는 javaChannel.write(ByteBuffer.wrap(...)) 등을 사용
-        return new ChannelFuture().setSuccess().setChannel(this);
+    protected void flush0() {
+        outboundBuffer.addFlush();
+        if (isWritePending()) {
+            return;
+        }
+        doWrite();
+    }
+
+    /**
+     * 소켓이 다시 쓰기 가능해졌을 때 이벤트 루프에서 호출되어 남은 데이터를 전송합니다.
+     */
+    void forceFlush() {
+        doWrite();
+    }
+
+    /**
+     * 채널이 열려 있고 송신 큐가 high 워터마크를 넘지 않았는지 확인합니다.
+     *
+     * @return 쓰기 가능하면 {@code true}
+     */
+    @Override
+    public boolean isWritable() {
+        return javaChannel != null && javaChannel.isOpen() && outboundBuffer.isWritable();
+    }
+
+    private boolean isWritePending() {
+        SelectionKey key = selectionKey;
+        return key != null && key.isValid() && (key.interestOps() & SelectionKey.OP_WRITE) != 0;
+    }
+
+    /**
+     * 플러시된 메시지를 소켓에 씁니다.
+     * <p>
+     * 큐 앞쪽의 메시지들을 최대 {@link ChannelOption#MAX_MESSAGES_PER_WRITE}개,
+     * {@link ChannelOption#MAX_BYTES_PER_GATHERING_WRITE}바이트까지 모아 gathering write
+     * ({@code SocketChannel.write(ByteBuffer[])}) 한 번으로 전송하므로, 작은 응답이 여러 개 쌓여도
+     * 시스템 콜은 한 번입니다.
+     * </p>
+     * <p>
+     * 소켓이 더 이상 받아들이지 않으면(쓴 바이트가 0) {@code OP_WRITE}를 등록하고 반환하며,
+     * 큐가 비면 {@code OP_WRITE}를 해제합니다. 쓰기는 {@link ChannelOption#WRITE_SPIN_COUNT}회까지만 시도하고,
+     * 남은 데이터는 {@code OP_WRITE}를 통해 다음 루프 반복에서 이어서 전송하여 다른 채널이 굶지 않게 합니다.
+     * </p>
+     */
+    private void doWrite() {
+        if (inFlush || javaChannel == null || !javaChannel.isOpen()) {
+            // 실행 중인 doWrite()가 새로 플러시된 메시지까지 이어서 전송함
+            return;
+        }
+        inFlush = true;
+        try {
+            doWrite0();
+        } finally {
+            inFlush = false;
+        }
+    }
+
+    private void doWrite0() {
+        int writeSpinCount = config.getOption(ChannelOption.WRITE_SPIN_COUNT);
+        int maxMessages = config.getOption(ChannelOption.MAX_MESSAGES_PER_WRITE);
+        int maxBytes = config.getOption(ChannelOption.MAX_BYTES_PER_GATHERING_WRITE);
+        try {
+            do {
+                if (outboundBuffer.isEmpty()) {
+                    // 모두 전송됨
+                    clearOpWrite();
+                    return;
+                }
+                ByteBuffer[] nioBuffers = outboundBuffer.nioBuffers(maxMessages, maxBytes);
+                int nioBufferCount = outboundBuffer.nioBufferCount();
+                long localWritten;
+                switch (nioBufferCount) {
+                    case 0:
+                        // 읽을 데이터가 없는 메시지만 남음: 제거만 수행
+                        localWritten = 0;
+                        break;
+                    case 1:
+                        localWritten = javaChannel.write(nioBuffers[0]);
+                        break;
+                    default:
+                        localWritten = javaChannel.write(nioBuffers, 0, nioBufferCount);
+                        break;
+                }
+                if (localWritten <= 0 && nioBufferCount > 0) {
+                    // 소켓 송신 버퍼가 가득 참: 쓰기 가능해지면 이어서 전송
+                    outboundBuffer.removeBytes(0);
+                    setOpWrite();
+                    return;
+                }
+                outboundBuffer.removeBytes(localWritten);
+            } while (--writeSpinCount > 0);
+
+            if (outboundBuffer.isEmpty()) {
+                clearOpWrite();
+            } else {
+                setOpWrite();
+            }
+        } catch (IOException e) {
+            logger.warn("채널 쓰기 실패, 채널을 닫습니다: {}", id(), e);
+            while (outboundBuffer.remove(e)) {
+                // 플러시된 메시지를 모두 실패 처리
+            }
+            close();
+        }
+    }
+
+    /**
+     * 파이프라인의 head에서 호출되어 {@code OP_READ}를 등록합니다. 루프 스레드에서 호출됩니다.
+     */
+    @Override
+    protected void read0() {
+        readPending = true;
+        SelectionKey key = selectionKey;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        int interestOps = key.interestOps();
+        if ((interestOps & SelectionKey.OP_READ) == 0) {
+            key.interestOps(interestOps | SelectionKey.OP_READ);
+        }
+    }
+
+    /**
+     * 한 번의 읽기가 시작될 때 이벤트 루프에서 호출되어 이전 읽기 요청을 소비합니다.
+     */
+    void clearReadPending() {
+        readPending = false;
+    }
+
+    /**
+     * 한 번의 읽기가 끝났을 때 이벤트 루프에서 호출됩니다. {@link ChannelOption#AUTO_READ}가 꺼져 있고
+     * 읽는 동안 새 읽기 요청이 없었으면 {@code OP_READ}를 해제해 다음 {@link #read()}까지 읽지 않습니다.
+     */
+    void readCompleted() {
+        if (readPending || config().getOption(ChannelOption.AUTO_READ)) {
+            return;
+        }
+        SelectionKey key = selectionKey;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        int interestOps = key.interestOps();
+        if ((interestOps & SelectionKey.OP_READ) != 0) {
+            key.interestOps(interestOps & ~SelectionKey.OP_READ);
+        }
+    }
+
+    private void setOpWrite() {
+        SelectionKey key = selectionKey;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        int interestOps = key.interestOps();
+        if ((interestOps & SelectionKey.OP_WRITE) == 0) {
+            key.interestOps(interestOps | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void clearOpWrite() {
+        SelectionKey key = selectionKey;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        int interestOps = key.interestOps();
+        if ((interestOps & SelectionKey.OP_WRITE) != 0) {
+            key.interestOps(interestOps & ~SelectionKey.OP_WRITE);
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.example.nionetty.eventloop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code DefaultEventLoopChooserFactory} 클래스는 라운드 로빈 방식의 기본 선택기를 생성합니다.
+ * <p>
+ * 이벤트 루프 수가 2의 거듭제곱이면 나머지 연산 대신 비트 마스크({@code idx & (n - 1)})로
+ * 인덱스를 계산하는 선택기를, 그렇지 않으면 일반 나머지 연산 선택기를 사용합니다.
+ * 두 선택기 모두 원자적 카운터 하나만 증가시키므로 락 없이 동작합니다.
+ * </p>
+ *
+ * @see EventLoopChooserFactory
+ *
+ * @author
+ * @version 1.0
+ */
+public final class DefaultEventLoopChooserFactory implements EventLoopChooserFactory {
+
+    /** 공유 인스턴스 (상태가 없으므로 재사용 가능) */
+    public static final DefaultEventLoopChooserFactory INSTANCE = new DefaultEventLoopChooserFactory();
+
+    private DefaultEventLoopChooserFactory() {
+    }
+
+    @Override
+    public EventLoopChooser newChooser(EventLoop[] eventLoops) {
+        if (isPowerOfTwo(eventLoops.length)) {
+            return new PowerOfTwoEventLoopChooser(eventLoops);
+        }
+        return new GenericEventLoopChooser(eventLoops);
+    }
+
+    private static boolean isPowerOfTwo(int val) {
+        return (val & -val) == val;
+    }
+
+    /**
+     * 이벤트 루프 수가 2의 거듭제곱일 때 비트 마스크로 인덱스를 계산하는 선택기.
+     */
+    private static final class PowerOfTwoEventLoopChooser implements EventLoopChooser {
+
+        private final AtomicInteger idx = new AtomicInteger();
+        private final EventLoop[] eventLoops;
+
+        PowerOfTwoEventLoopChooser(EventLoop[] eventLoops) {
+            this.eventLoops = eventLoops;
+        }
+
+        @Override
+        public EventLoop next() {
+            // int 오버플로로 음수가 되어도 마스크 결과는 항상 0 이상입니다.
+            return eventLoops[idx.getAndIncrement() & eventLoops.length - 1];
+        }
+    }
+
+    /**
+     * 임의 개수의 이벤트 루프에 대해 나머지 연산으로 인덱스를 계산하는 선택기.
+     */
+    private static final class GenericEventLoopChooser implements EventLoopChooser {
+
+        // long 카운터를 사용하여 오버플로 시 분배가 한쪽으로 치우치는 것을 방지합니다.
+        private final AtomicLong idx = new AtomicLong();
+        private final EventLoop[] eventLoops;
+
+        GenericEventLoopChooser(EventLoop[] eventLoops) {
+            this.eventLoops = eventLoops;
+        }
+
+        @Override
+        public EventLoop next() {
+            return eventLoops[(int) Math.abs(idx.getAndIncrement() % eventLoops.length)];
+        }
+    }
+}
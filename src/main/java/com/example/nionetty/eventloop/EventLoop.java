@@ -1,18 +1,48 @@
 package com.example.nionetty.eventloop;
 
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.example.nionetty.util.concurrent.EventExecutor;
+
 /**
  * {@code EventLoop} 인터페이스는 채널의 I/O 이벤트를 처리하는 루프를 정의합니다.
  * <p>
  * 이벤트 루프는 {@link java.nio.channels.Selector}를 활용하여 등록된 채널의 I/O 이벤트를 감지하고,
  * 해당 이벤트를 적절히 처리하는 로직을 구현합니다.
  * </p>
+ * <p>
+ * 루프는 하나의 스레드에서만 실행되며, 다른 스레드는 {@link #execute(Runnable)}로 작업을 넘겨
+ * 루프 스레드에서 실행되게 합니다. 채널 등록이나 채널 쓰기처럼 셀렉터와 채널 상태를 건드리는 작업은
+ * 이 방식으로 루프 스레드에 모아 실행되므로 별도의 동기화가 필요 없습니다.
+ * </p>
+ * <p>
+ * {@link #schedule(Runnable, long, java.util.concurrent.TimeUnit) schedule()} 등으로 예약한 작업도
+ * 루프 스레드에서 실행되므로, 타임아웃이나 하트비트를 위해 별도의 타이머 스레드를 둘 필요가 없습니다.
+ * </p>
  *
  * @see EventLoopGroup
  * 
  * @author 
  * @version 1.0
  */
-public interface EventLoop {
+public interface EventLoop extends ScheduledExecutorService, EventExecutor {
+
+    /**
+     * 작업을 루프의 작업 큐에 추가합니다. 작업은 루프 스레드에서 추가된 순서대로 실행되며,
+     * 루프가 셀렉터에서 대기 중이면 깨웁니다.
+     *
+     * @param task 실행할 작업
+     * @throws java.util.concurrent.RejectedExecutionException 루프가 종료된 경우
+     */
+    @Override
+    void execute(Runnable task);
+
+    /**
+     * 현재 스레드가 이 루프의 스레드인지 확인합니다.
+     *
+     * @return 루프 스레드에서 호출되었으면 {@code true}
+     */
+    boolean inEventLoop();
 
     /**
      * 이벤트 루프를 실행하여 I/O 이벤트를 처리합니다.
@@ -29,5 +59,17 @@ public interface EventLoop {
      * 실제 구현에서는 종료 신호를 받고, 안전하게 모든 작업을 마친 후 반환해야 합니다.
      * </p>
      */
+    @Override
     void shutdown();
+
+    /**
+     * 현재 이 이벤트 루프에 등록되어 있는 채널 수를 반환합니다.
+     * <p>
+     * {@link LeastRegisteredEventLoopChooserFactory} 등 부하 기반 분배 전략에서 사용되며,
+     * 다른 스레드에서 호출될 수 있으므로 근사값일 수 있습니다.
+     * </p>
+     *
+     * @return 등록된 채널 수
+     */
+    int registeredChannels();
 }
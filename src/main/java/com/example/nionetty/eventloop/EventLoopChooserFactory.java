@@ -0,0 +1,43 @@
+package com.example.nionetty.eventloop;
+
+/**
+ * {@code EventLoopChooserFactory} 인터페이스는 {@link EventLoopGroup}이 새 작업(예: 신규 채널 등록)을
+ * 맡길 {@link EventLoop}를 고르는 선택기({@link EventLoopChooser})를 생성합니다.
+ * <p>
+ * 그룹은 생성 시점에 한 번 선택기를 만들고, 이후 {@link EventLoopGroup#next()} 호출마다
+ * 선택기에 분배를 위임합니다. 분배 전략을 교체하고 싶다면 이 인터페이스를 구현하여
+ * 그룹 생성자에 전달하면 됩니다.
+ * </p>
+ *
+ * @see DefaultEventLoopChooserFactory
+ * @see LeastRegisteredEventLoopChooserFactory
+ *
+ * @author
+ * @version 1.0
+ */
+public interface EventLoopChooserFactory {
+
+    /**
+     * 주어진 이벤트 루프 배열에 대한 새 선택기를 생성합니다.
+     *
+     * @param eventLoops 분배 대상 이벤트 루프 배열 (비어 있지 않아야 함)
+     * @return 새 {@link EventLoopChooser}
+     */
+    EventLoopChooser newChooser(EventLoop[] eventLoops);
+
+    /**
+     * 다음 작업을 맡길 {@link EventLoop}를 선택합니다.
+     * <p>
+     * 여러 스레드(예: 여러 boss 루프)에서 동시에 호출될 수 있으므로 구현체는 스레드 안전해야 합니다.
+     * </p>
+     */
+    interface EventLoopChooser {
+
+        /**
+         * 다음 {@link EventLoop}를 반환합니다.
+         *
+         * @return 선택된 {@link EventLoop}
+         */
+        EventLoop next();
+    }
+}
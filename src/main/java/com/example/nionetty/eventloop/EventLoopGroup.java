@@ -1,5 +1,9 @@
 package com.example.nionetty.eventloop;
 
+import java.util.concurrent.TimeUnit;
+
+import com.example.nionetty.util.Future;
+
 /**
  * {@code EventLoopGroup} 인터페이스는 여러 {@link EventLoop} 인스턴스를 관리합니다.
  * <p>
@@ -24,11 +28,34 @@ public interface EventLoopGroup {
      */
     EventLoop next();
 
+    /**
+     * 기본 조용한 기간(2초)과 제한 시간(15초)으로 그룹 내의 모든 이벤트 루프를 정상 종료합니다.
+     *
+     * @return 모든 이벤트 루프가 종료되면 완료되는 {@link Future}
+     * @see #shutdownGracefully(long, long, TimeUnit)
+     */
+    default Future shutdownGracefully() {
+        return shutdownGracefully(2, 15, TimeUnit.SECONDS);
+    }
+
     /**
      * 그룹 내의 모든 이벤트 루프를 정상 종료합니다.
      * <p>
-     * 각 이벤트 루프에 종료 신호를 보내고 자원을 해제해야 합니다.
+     * 각 이벤트 루프는 종료 중에도 진행 중인 작업과 송신을 계속 처리하며, {@code quietPeriod} 동안 새 작업이
+     * 없거나 {@code timeout}이 지나면 채널을 닫고 종료합니다.
      * </p>
+     *
+     * @param quietPeriod 조용한 기간
+     * @param timeout     제한 시간 (조용한 기간 이상)
+     * @param unit        시간 단위
+     * @return 모든 이벤트 루프가 종료되면 완료되는 {@link Future}
+     */
+    Future shutdownGracefully(long quietPeriod, long timeout, TimeUnit unit);
+
+    /**
+     * 그룹 내의 모든 이벤트 루프가 종료되면 완료되는 {@link Future}를 반환합니다.
+     *
+     * @return 종료 {@link Future}
      */
-    void shutdownGracefully();
+    Future terminationFuture();
 }
@@ -0,0 +1,59 @@
+package com.example.nionetty.eventloop;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code LeastRegisteredEventLoopChooserFactory} 클래스는 현재 등록된 채널 수가 가장 적은
+ * {@link EventLoop}를 고르는 선택기를 생성합니다.
+ * <p>
+ * 연결 수명이 제각각이라 라운드 로빈만으로는 루프 간 부하가 벌어지는 경우(예: 장시간 유지되는
+ * 연결과 짧은 연결이 섞인 서버)에 유용합니다. 선택 시마다 모든 루프의
+ * {@link EventLoop#registeredChannels()}를 훑으므로 비용은 O(루프 수)이며,
+ * 동률일 때는 검색 시작 위치를 회전시켜 특정 루프로 몰리지 않도록 합니다.
+ * </p>
+ *
+ * @see EventLoopChooserFactory
+ *
+ * @author
+ * @version 1.0
+ */
+public final class LeastRegisteredEventLoopChooserFactory implements EventLoopChooserFactory {
+
+    /** 공유 인스턴스 (상태가 없으므로 재사용 가능) */
+    public static final LeastRegisteredEventLoopChooserFactory INSTANCE = new LeastRegisteredEventLoopChooserFactory();
+
+    private LeastRegisteredEventLoopChooserFactory() {
+    }
+
+    @Override
+    public EventLoopChooser newChooser(EventLoop[] eventLoops) {
+        return new LeastRegisteredEventLoopChooser(eventLoops);
+    }
+
+    private static final class LeastRegisteredEventLoopChooser implements EventLoopChooser {
+
+        private final AtomicInteger start = new AtomicInteger();
+        private final EventLoop[] eventLoops;
+
+        LeastRegisteredEventLoopChooser(EventLoop[] eventLoops) {
+            this.eventLoops = eventLoops;
+        }
+
+        @Override
+        public EventLoop next() {
+            int length = eventLoops.length;
+            int offset = Math.floorMod(start.getAndIncrement(), length);
+            EventLoop best = eventLoops[offset];
+            int bestCount = best.registeredChannels();
+            for (int i = 1; i < length && bestCount > 0; i++) {
+                EventLoop candidate = eventLoops[(offset + i) % length];
+                int count = candidate.registeredChannels();
+                if (count < bestCount) {
+                    best = candidate;
+                    bestCount = count;
+                }
+            }
+            return best;
+        }
+    }
+}
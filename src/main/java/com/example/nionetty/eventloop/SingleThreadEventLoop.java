@@ -3,8 +3,23 @@ package com.example.nionetty.eventloop;
 import java.io.IOException;
 import java.nio.channels.Selector;
 import java.nio.channels.SelectionKey;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.example.nionetty.util.concurrent.AbstractScheduledEventExecutor;
+import com.example.nionetty.util.concurrent.DefaultThreadFactory;
+import com.example.nionetty.util.concurrent.MpscChunkedArrayQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@code SingleThreadEventLoop} 클래스는 단일 스레드에서 I/O 이벤트를 처리하는 이벤트 루프를 구현합니다.
@@ -13,7 +28,15 @@ import java.util.Set;
  * 채널의 I/O 이벤트를 감시하고 처리합니다. 단일 스레드 환경에서 실행되며, 간단한 I/O 이벤트 처리가 필요한 경우에 사용됩니다.
  * </p>
  * <p>
- * 실제 운영 환경에서는 보다 정교한 에러 처리, 태스크 큐 관리 및 스레드 생명 주기 관리가 필요할 수 있습니다.
+ * 다른 스레드는 {@link #execute(Runnable)}로 작업을 넘기며, 작업은 I/O 이벤트 처리 후 루프 스레드에서 실행됩니다.
+ * 예약 작업은 마감 시각이 되면 작업 큐보다 먼저 실행되며, 가장 가까운 마감까지만 셀렉터에서 대기합니다.
+ * </p>
+ * <p>
+ * {@link #selector()}에 채널을 등록하는 쪽은 키에 {@code Consumer<SelectionKey>}를 첨부하며, 루프는 키가 선택될 때마다
+ * 루프 스레드에서 이를 호출합니다. 처리기가 첨부되지 않은 키는 취소합니다.
+ * </p>
+ * <p>
+ * {@link #shutdown()} 뒤에는 새 작업을 거부하며, 이미 받아들인 작업은 루프가 끝나기 전에 모두 실행합니다.
  * </p>
  *
  * @see EventLoop
@@ -21,7 +44,9 @@ import java.util.Set;
  * @author
  * @version 1.0
  */
-public class SingleThreadEventLoop implements EventLoop {
+public class SingleThreadEventLoop extends AbstractScheduledEventExecutor implements EventLoop {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleThreadEventLoop.class);
 
     /** 내부에서 사용하는 NIO {@link Selector} 객체 */
     private final Selector selector;
@@ -29,71 +54,288 @@ public class SingleThreadEventLoop implements EventLoop {
     /** 이벤트 루프의 실행 상태 플래그 */
     private volatile boolean running;
 
-    /** 이벤트 루프를 실행하는 스레드 */
-    private final Thread thread;
+    /** 팩토리를 지정하지 않은 루프가 공유하는 기본 스레드 팩토리 */
+    private static final ThreadFactory DEFAULT_THREAD_FACTORY = new DefaultThreadFactory("singleThreadEventLoop");
+
+    /** 루프 스레드를 만드는 팩토리 */
+    private final ThreadFactory threadFactory;
+
+    /** 루프 스레드를 시작했는지(또는 시작하지 않고 종료했는지) 여부 */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /** 이벤트 루프를 실행하는 스레드 (첫 작업이 들어올 때 시작) */
+    private volatile Thread thread;
+
+    /** 한 번의 일괄 꺼내기로 실행할 최대 작업 수 */
+    private static final int MAX_TASKS_PER_DRAIN = 256;
+
+    /** 다른 스레드에서 넘겨받은 작업 큐 (다수 생산자, 루프 스레드 단일 소비자) */
+    private final MpscChunkedArrayQueue<Runnable> taskQueue = new MpscChunkedArrayQueue<>();
+
+    /** 이번 {@code select()}에 대해 이미 wakeup이 요청되었는지 여부 */
+    private final AtomicBoolean wakenUp = new AtomicBoolean(true);
 
     /**
-     * {@code SingleThreadEventLoop} 생성자.
-     * 내부 {@code Selector}를 초기화하고, 별도의 스레드에서 이벤트 루프를 실행합니다.
+     * 종료 확인을 통과했지만 아직 작업 큐에 넣지 못한 다른 스레드의 {@link #execute(Runnable)} 호출 수.
+     * 루프는 끝나기 전에 이 값이 0이 될 때까지 기다린 뒤 마지막으로 큐를 비우므로, 받아들인 작업이 남지 않습니다.
+     */
+    private final AtomicInteger pendingOffers = new AtomicInteger();
+
+    /** 이 루프에 등록된 채널 수 (다른 스레드의 선택기에서 조회되므로 원자적으로 관리) */
+    private final AtomicInteger registeredChannels = new AtomicInteger();
+
+    /**
+     * {@code SingleThreadEventLoop} 생성자. 루프 스레드는 기본 스레드 팩토리로 만듭니다.
      *
      * @throws IOException {@link Selector} 생성 중 발생할 수 있는 I/O 예외
      */
     public SingleThreadEventLoop() throws IOException {
+        this(DEFAULT_THREAD_FACTORY);
+    }
+
+    /**
+     * {@code SingleThreadEventLoop} 생성자.
+     * 내부 {@code Selector}만 초기화하며, 루프 스레드는 생성이 끝난 뒤 첫 작업이 들어올 때 시작합니다.
+     *
+     * @param threadFactory 루프 스레드를 만들 팩토리
+     * @throws IOException {@link Selector} 생성 중 발생할 수 있는 I/O 예외
+     */
+    public SingleThreadEventLoop(ThreadFactory threadFactory) throws IOException {
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
+        this.threadFactory = threadFactory;
         this.selector = Selector.open();
         this.running = true;
-        this.thread = new Thread(this::loop, "SingleThreadEventLoop");
-        this.thread.start();
     }
 
     /**
      * 이벤트 루프를 실행하여 I/O 이벤트를 지속적으로 처리합니다.
      * <p>
-     * 이 메서드는 {@code running} 플래그가 {@code true}인 동안 반복하면서,
-     * {@link Selector}를 통해 I/O 이벤트를 감시하고, 적절한 핸들러로 이벤트를 전달합니다.
-     * 현재 예시에서는 단순하게 선택된 키들을 순회하며, 키 처리 후에는 {@code cancel} 처리를 수행합니다.
+     * {@code running} 플래그가 {@code true}인 동안 선택된 키의 처리기를 호출하고 작업을 실행합니다.
+     * 종료되면 그 사이 받아들인 작업을 모두 실행하고, 남은 예약 작업을 취소한 뒤 셀렉터를 닫습니다.
      * </p>
      */
     @Override
     public void loop() {
-        while (running) {
-            try {
-                int readyChannels = selector.select(1000); // 1초 대기
-                if (readyChannels == 0) {
-                    continue;
-                }
-                Set<SelectionKey> selectedKeys = selector.selectedKeys();
-                Iterator<SelectionKey> keyIterator = selectedKeys.iterator();
-                while (keyIterator.hasNext()) {
-                    SelectionKey key = keyIterator.next();
-                    // TODO: 각 SelectionKey에 대해 실제 I/O 이벤트 처리를 구현합니다.
-                    // 예) 읽기, 쓰기, 연결 수락 등의 이벤트 처리
-                    keyIterator.remove();
+        try {
+            while (running) {
+                try {
+                    wakenUp.set(false);
+                    long timeoutMillis = taskQueue.isEmpty() ? selectTimeoutMillis() : 0;
+                    int readyChannels = timeoutMillis > 0 ? selector.select(timeoutMillis) : selector.selectNow();
+                    wakenUp.set(true);
+                    if (readyChannels > 0) {
+                        processSelectedKeys();
+                    }
+                    runAllTasks();
+                } catch (IOException e) {
+                    logger.warn("셀렉터 대기 중 예외 발생", e);
                 }
-            } catch (IOException e) {
-                // 실제 구현에서는 로깅 등을 통해 에러를 기록하고 적절히 처리합니다.
-                e.printStackTrace();
             }
+        } finally {
+            // 종료 확인을 통과한 다른 스레드가 작업을 다 넣을 때까지 기다린 뒤 실행
+            while (pendingOffers.get() != 0) {
+                Thread.yield();
+            }
+            runAllTasks();
+            cancelScheduledTasks();
+            closeSelector();
+        }
+    }
+
+    /**
+     * 선택된 키마다 첨부된 처리기를 호출합니다. 처리기에서 발생한 예외는 로그로 남기고 다음 키를 처리합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void processSelectedKeys() {
+        Set<SelectionKey> selectedKeys = selector.selectedKeys();
+        Iterator<SelectionKey> keyIterator = selectedKeys.iterator();
+        while (keyIterator.hasNext()) {
+            SelectionKey key = keyIterator.next();
+            keyIterator.remove();
+            Object attachment = key.attachment();
+            if (!(attachment instanceof Consumer)) {
+                // 처리할 쪽이 없는 키는 계속 선택되어 루프를 바쁘게 만들므로 취소
+                logger.warn("처리기가 첨부되지 않은 키를 취소합니다: {}", key.channel());
+                key.cancel();
+                continue;
+            }
+            try {
+                ((Consumer<SelectionKey>) attachment).accept(key);
+            } catch (Throwable t) {
+                logger.warn("선택된 키 처리 중 예외 발생: {}", key.channel(), t);
+            }
+        }
+    }
+
+    /**
+     * 가장 가까운 예약 작업의 마감까지 대기할 시간을 계산합니다 (최대 1초).
+     *
+     * @return 대기 시간(ms), 0이면 대기하지 않음
+     */
+    private long selectTimeoutMillis() {
+        long delayNanos = nextScheduledTaskDelayNanos();
+        if (delayNanos < 0) {
+            return 1000;
+        }
+        return Math.min(1000, TimeUnit.NANOSECONDS.toMillis(delayNanos + 999_999));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (inEventLoop()) {
+            // 루프 스레드는 자신의 종료 정리와 경합하지 않음
+            if (!running) {
+                throw new RejectedExecutionException("event loop shut down");
+            }
+            taskQueue.offer(task);
+            return;
+        }
+        // 종료 확인보다 먼저 표시해야 루프가 종료를 본 뒤 이 호출을 놓치지 않음
+        pendingOffers.incrementAndGet();
+        try {
+            if (!running) {
+                throw new RejectedExecutionException("event loop shut down");
+            }
+            taskQueue.offer(task);
+        } finally {
+            pendingOffers.decrementAndGet();
+        }
+        startThreadIfNecessary();
+        if (wakenUp.compareAndSet(false, true)) {
+            // 루프가 select()에서 대기 중일 수 있을 때만 깨움
+            selector.wakeup();
+        }
+    }
+
+    /**
+     * 루프 스레드가 아직 시작되지 않았으면 팩토리로 만들어 시작합니다.
+     */
+    private void startThreadIfNecessary() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            doStartThread();
+        }
+    }
+
+    private void doStartThread() {
+        Thread t = threadFactory.newThread(this::loop);
+        thread = t;
+        t.start();
+    }
+
+    @Override
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * 마감된 예약 작업과 작업 큐에 쌓인 작업을 일괄로 꺼내 모두 실행합니다.
+     */
+    private void runAllTasks() {
+        long now = nanoTime();
+        Runnable scheduled;
+        while ((scheduled = pollScheduledTask(now)) != null) {
+            safeExecute(scheduled);
+        }
+        while (taskQueue.drain(SingleThreadEventLoop::safeExecute, MAX_TASKS_PER_DRAIN) > 0) {
+            // 큐가 빌 때까지 반복
+        }
+    }
+
+    private static void safeExecute(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("이벤트 루프 작업 실행 중 예외 발생", t);
         }
     }
 
     /**
      * 이벤트 루프를 종료하고 내부 자원을 해제합니다.
      * <p>
-     * 호출 시 {@code running} 플래그를 {@code false}로 설정하고, {@link Selector}를 닫아
-     * 이벤트 루프가 안전하게 종료되도록 합니다.
+     * 호출 시 {@code running} 플래그를 {@code false}로 설정하고 셀렉터를 깨워, 루프 스레드가 받아들인 작업을 모두
+     * 실행한 뒤 {@link Selector}를 닫게 합니다. 루프 스레드가 시작된 적이 없으면 같은 정리를 하도록 시작합니다.
      * </p>
      */
     @Override
     public void shutdown() {
         running = false;
+        if (started.compareAndSet(false, true)) {
+            // 시작 전에 받아들인 작업이 있을 수 있으므로 루프를 시작해 정리하게 함
+            doStartThread();
+        } else {
+            selector.wakeup();
+        }
+    }
+
+    private void closeSelector() {
         try {
             selector.close();
         } catch (IOException e) {
-            // 실제 구현에서는 에러 로깅 처리 필요
-            e.printStackTrace();
+            logger.warn("셀렉터 종료 실패", e);
         }
     }
 
+    /**
+     * {@link #shutdown()}과 같습니다. 받아들인 작업은 버리지 않고 루프가 끝나기 전에 모두 실행하므로,
+     * 실행되지 않은 채 남는 작업이 없어 빈 목록을 반환합니다.
+     *
+     * @return 빈 목록
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return !running;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        Thread t = thread;
+        return !running && (t == null || !t.isAlive());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        Thread t = thread;
+        if (t != null) {
+            unit.timedJoin(t, timeout);
+        }
+        return isTerminated();
+    }
+
+    /**
+     * 채널을 이 루프의 셀렉터에 등록했음을 알립니다. {@link #selector()}에 채널을 등록한 쪽에서 채널당 한 번 호출합니다.
+     */
+    public void channelRegistered() {
+        registeredChannels.incrementAndGet();
+    }
+
+    /**
+     * 등록되어 있던 채널이 닫혔음을 알립니다. {@link #channelRegistered()}를 호출한 채널당 한 번 호출합니다.
+     */
+    public void channelDeregistered() {
+        registeredChannels.decrementAndGet();
+    }
+
+    /**
+     * 등록된 채널 수를 반환합니다. 셀렉터의 키 집합은 스레드 안전하지 않으므로 따로 센 값을 사용합니다.
+     *
+     * @return 등록된 채널 수
+     */
+    @Override
+    public int registeredChannels() {
+        return registeredChannels.get();
+    }
+
     /**
      * 현재 이벤트 루프에서 사용 중인 {@link Selector} 객체를 반환합니다.
      *
@@ -2,10 +2,18 @@ package com.example.nionetty.handler;
 
 import com.example.nionetty.channel.ChannelHandlerContext;
 import com.example.nionetty.channel.ChannelInboundHandlerAdapter;
+import com.example.nionetty.channel.ChannelOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * {@code EchoServerHandler} 클래스는 클라이언트로부터 수신한 메시지를 그대로 반환하는 에코 서버 핸들러입니다.
  * 간단한 테스트용으로 사용되며, 실제 구현에서는 추가적인 로직을 포함할 수 있습니다.
+ * <p>
+ * 피어가 느려 채널이 쓰기 불가 상태가 되면 {@link ChannelOption#AUTO_READ}를 꺼 더 읽지 않으므로,
+ * 에코할 응답이 송신 큐에 끝없이 쌓이지 않습니다. 쓰기 가능 상태로 돌아오면 다시 읽기 시작합니다.
+ * </p>
  * 
  * (예제)
  * 
@@ -14,6 +22,8 @@ import com.example.nionetty.channel.ChannelInboundHandlerAdapter;
  */
 public class EchoServerHandler extends ChannelInboundHandlerAdapter {
 
+    private static final Logger logger = LoggerFactory.getLogger(EchoServerHandler.class);
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         // 받은 메시지를 그대로 기록(write)하여 에코 처리
@@ -23,6 +33,20 @@ public class EchoServerHandler extends ChannelInboundHandlerAdapter {
     @Override
     public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
         // 모든 메시지 처리 후 플러시하여 전송 완료
-        ctx.fireChannelReadComplete();
+        ctx.flush();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            // 피어가 느려 송신 큐가 high 워터마크를 넘음: low 워터마크 아래로 내려갈 때까지 읽기 중단
+            logger.debug("채널 쓰기 불가 상태, 읽기 중단: {}", ctx.channel().id());
+            ctx.channel().config().setOption(ChannelOption.AUTO_READ, false);
+        } else {
+            logger.debug("채널 쓰기 가능 상태로 복귀, 읽기 재개: {}", ctx.channel().id());
+            ctx.channel().config().setOption(ChannelOption.AUTO_READ, true);
+            ctx.read();
+        }
+        ctx.fireChannelWritabilityChanged();
     }
 }
@@ -0,0 +1,21 @@
+package com.example.nionetty.handler;
+
+/**
+ * {@code IdleState} 열거형은 {@link IdleStateHandler}가 감지하는 유휴 상태의 종류를 나타냅니다.
+ *
+ * @see IdleStateEvent
+ *
+ * @author
+ * @version 1.0
+ */
+public enum IdleState {
+
+    /** 지정한 시간 동안 읽은 데이터가 없음 */
+    READER_IDLE,
+
+    /** 지정한 시간 동안 쓴 데이터가 없음 */
+    WRITER_IDLE,
+
+    /** 지정한 시간 동안 읽거나 쓴 데이터가 없음 */
+    ALL_IDLE
+}
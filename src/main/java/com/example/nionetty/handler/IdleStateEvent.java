@@ -0,0 +1,54 @@
+package com.example.nionetty.handler;
+
+/**
+ * {@code IdleStateEvent} 클래스는 {@link IdleStateHandler}가 채널의 유휴 상태를 감지했을 때
+ * {@code userEventTriggered}로 전달하는 이벤트입니다.
+ * <p>
+ * 상태별로 첫 번째 이벤트와 이후 반복 이벤트를 구분하는 공유 인스턴스만 사용하므로 이벤트마다 객체를 만들지 않습니다.
+ * </p>
+ *
+ * @see IdleState
+ *
+ * @author
+ * @version 1.0
+ */
+public final class IdleStateEvent {
+
+    public static final IdleStateEvent FIRST_READER_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.READER_IDLE, true);
+    public static final IdleStateEvent READER_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.READER_IDLE, false);
+    public static final IdleStateEvent FIRST_WRITER_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.WRITER_IDLE, true);
+    public static final IdleStateEvent WRITER_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.WRITER_IDLE, false);
+    public static final IdleStateEvent FIRST_ALL_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.ALL_IDLE, true);
+    public static final IdleStateEvent ALL_IDLE_STATE_EVENT = new IdleStateEvent(IdleState.ALL_IDLE, false);
+
+    private final IdleState state;
+    private final boolean first;
+
+    private IdleStateEvent(IdleState state, boolean first) {
+        this.state = state;
+        this.first = first;
+    }
+
+    /**
+     * 유휴 상태의 종류를 반환합니다.
+     *
+     * @return {@link IdleState}
+     */
+    public IdleState state() {
+        return state;
+    }
+
+    /**
+     * 마지막 읽기/쓰기 이후 처음 발생한 이벤트인지 확인합니다.
+     *
+     * @return 첫 이벤트이면 {@code true}
+     */
+    public boolean isFirst() {
+        return first;
+    }
+
+    @Override
+    public String toString() {
+        return "IdleStateEvent(" + state + (first ? ", first" : "") + ')';
+    }
+}
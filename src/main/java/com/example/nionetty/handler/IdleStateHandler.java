@@ -0,0 +1,407 @@
+package com.example.nionetty.handler;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.example.nionetty.channel.Channel;
+import com.example.nionetty.channel.ChannelFuture;
+import com.example.nionetty.channel.ChannelFutureListener;
+import com.example.nionetty.channel.ChannelHandlerContext;
+import com.example.nionetty.channel.ChannelInboundHandlerAdapter;
+import com.example.nionetty.channel.ChannelOutboundHandler;
+import com.example.nionetty.util.concurrent.HashedWheelTimer;
+import com.example.nionetty.util.concurrent.Timeout;
+import com.example.nionetty.util.concurrent.Timer;
+import com.example.nionetty.util.concurrent.TimerTask;
+
+/**
+ * {@code IdleStateHandler} 클래스는 채널에서 일정 시간 동안 읽기나 쓰기가 없으면
+ * {@link IdleStateEvent}를 {@code userEventTriggered}로 파이프라인에 전달합니다.
+ * <p>
+ * 마지막 읽기/쓰기 시각만 기록하고, 감시용 예약 작업은 채널의 이벤트 루프에 종류별로 하나씩만 둡니다.
+ * 예약 작업은 만료될 때 마지막 활동 시각을 확인하여 유휴 상태이면 이벤트를 전달하고, 아니면 남은 시간만큼
+ * 다시 예약하므로 읽기/쓰기마다 타이머를 새로 만들거나 취소하지 않습니다. 별도의 스레드도 사용하지 않습니다.
+ * </p>
+ * <p>
+ * 연결이 매우 많으면 생성자에 여러 채널이 공유하는 {@link Timer}(예: {@link HashedWheelTimer})를 넘길 수 있습니다.
+ * 이 경우 감시 예약은 이벤트 루프의 예약 힙 대신 타이머에 O(1)로 추가/취소되며, 만료되면 채널의 이벤트 루프로
+ * 넘겨 실행되므로 핸들러 상태는 여전히 루프 스레드에서만 다뤄집니다. 만료 시각은 타이머의 틱 간격만큼 늦어질 수 있습니다.
+ * </p>
+ * <p>
+ * {@code closeOnIdle}을 켜면 이벤트를 전달한 뒤 채널을 닫아, 죽은 연결의 소켓과 버퍼를 바로 반환합니다.
+ * 다른 정책이 필요하면 {@link #channelIdle(ChannelHandlerContext, IdleStateEvent)}를 재정의합니다.
+ * 채널마다 상태를 가지므로 하나의 인스턴스를 여러 채널에 공유하면 안 됩니다.
+ * </p>
+ *
+ * <pre>
+ * // 60초 동안 아무것도 읽지 못하면 연결을 닫음
+ * ch.pipeline().addLast(new IdleStateHandler(60, 0, 0, TimeUnit.SECONDS, true));
+ *
+ * // 모든 연결이 하나의 타이밍 휠을 공유
+ * Timer idleTimer = new HashedWheelTimer();
+ * ch.pipeline().addLast(new IdleStateHandler(idleTimer, 60, 0, 0, TimeUnit.SECONDS, true));
+ * </pre>
+ *
+ * @see IdleStateEvent
+ *
+ * @author
+ * @version 1.0
+ */
+public class IdleStateHandler extends ChannelInboundHandlerAdapter implements ChannelOutboundHandler {
+
+    /** 최소 유휴 시간(ns) */
+    private static final long MIN_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int ST_NONE = 0;
+    private static final int ST_INITIALIZED = 1;
+    private static final int ST_DESTROYED = 2;
+
+    private final long readerIdleTimeNanos;
+    private final long writerIdleTimeNanos;
+    private final long allIdleTimeNanos;
+    private final boolean closeOnIdle;
+
+    /** 감시 예약에 사용할 타이머, {@code null}이면 채널의 이벤트 루프에 예약 */
+    private final Timer timer;
+
+    /** 쓰기가 완료되면 마지막 쓰기 시각을 갱신 (쓰기마다 리스너를 만들지 않도록 재사용) */
+    private final ChannelFutureListener writeListener = future -> {
+        lastWriteTime = System.nanoTime();
+        firstWriterIdleEvent = firstAllIdleEvent = true;
+    };
+
+    private int state;
+
+    /** channelRead와 channelReadComplete 사이인지 여부 (읽는 중에는 읽기 유휴가 아님) */
+    private boolean reading;
+
+    private long lastReadTime;
+    private long lastWriteTime;
+
+    private boolean firstReaderIdleEvent = true;
+    private boolean firstWriterIdleEvent = true;
+    private boolean firstAllIdleEvent = true;
+
+    private ReaderIdleTimeoutTask readerIdleTask;
+    private WriterIdleTimeoutTask writerIdleTask;
+    private AllIdleTimeoutTask allIdleTask;
+
+    /**
+     * 초 단위 유휴 시간으로 생성합니다. 0 이하이면 해당 종류는 감시하지 않습니다.
+     *
+     * @param readerIdleTimeSeconds 읽기 유휴 시간(초)
+     * @param writerIdleTimeSeconds 쓰기 유휴 시간(초)
+     * @param allIdleTimeSeconds    읽기/쓰기 유휴 시간(초)
+     */
+    public IdleStateHandler(int readerIdleTimeSeconds, int writerIdleTimeSeconds, int allIdleTimeSeconds) {
+        this(readerIdleTimeSeconds, writerIdleTimeSeconds, allIdleTimeSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 주어진 단위의 유휴 시간으로 생성합니다. 0 이하이면 해당 종류는 감시하지 않습니다.
+     *
+     * @param readerIdleTime 읽기 유휴 시간
+     * @param writerIdleTime 쓰기 유휴 시간
+     * @param allIdleTime    읽기/쓰기 유휴 시간
+     * @param unit           시간 단위
+     */
+    public IdleStateHandler(long readerIdleTime, long writerIdleTime, long allIdleTime, TimeUnit unit) {
+        this(readerIdleTime, writerIdleTime, allIdleTime, unit, false);
+    }
+
+    /**
+     * 주어진 단위의 유휴 시간과 종료 정책으로 생성합니다. 0 이하이면 해당 종류는 감시하지 않습니다.
+     *
+     * @param readerIdleTime 읽기 유휴 시간
+     * @param writerIdleTime 쓰기 유휴 시간
+     * @param allIdleTime    읽기/쓰기 유휴 시간
+     * @param unit           시간 단위
+     * @param closeOnIdle    유휴 이벤트를 전달한 뒤 채널을 닫을지 여부
+     */
+    public IdleStateHandler(long readerIdleTime, long writerIdleTime, long allIdleTime, TimeUnit unit,
+            boolean closeOnIdle) {
+        this(null, readerIdleTime, writerIdleTime, allIdleTime, unit, closeOnIdle);
+    }
+
+    /**
+     * 감시 예약을 주어진 타이머에 두도록 생성합니다. 0 이하이면 해당 종류는 감시하지 않습니다.
+     *
+     * @param timer          감시 예약에 사용할 타이머 (여러 채널이 공유 가능), {@code null}이면 채널의 이벤트 루프 사용
+     * @param readerIdleTime 읽기 유휴 시간
+     * @param writerIdleTime 쓰기 유휴 시간
+     * @param allIdleTime    읽기/쓰기 유휴 시간
+     * @param unit           시간 단위
+     * @param closeOnIdle    유휴 이벤트를 전달한 뒤 채널을 닫을지 여부
+     */
+    public IdleStateHandler(Timer timer, long readerIdleTime, long writerIdleTime, long allIdleTime,
+            TimeUnit unit, boolean closeOnIdle) {
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        this.timer = timer;
+        this.readerIdleTimeNanos = toNanos(readerIdleTime, unit);
+        this.writerIdleTimeNanos = toNanos(writerIdleTime, unit);
+        this.allIdleTimeNanos = toNanos(allIdleTime, unit);
+        this.closeOnIdle = closeOnIdle;
+    }
+
+    private static long toNanos(long time, TimeUnit unit) {
+        return time <= 0 ? 0 : Math.max(unit.toNanos(time), MIN_TIMEOUT_NANOS);
+    }
+
+    /**
+     * 이미 등록된 채널에 추가된 경우 바로 감시를 시작합니다.
+     * 등록 전에 추가되었으면 {@code channelActive}에서 시작합니다.
+     */
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        Channel channel = ctx.channel();
+        if (channel.eventLoop() != null && !channel.closeFuture().isDone()) {
+            initialize(ctx);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        initialize(ctx);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        destroy();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (readerIdleTimeNanos > 0 || allIdleTimeNanos > 0) {
+            reading = true;
+            firstReaderIdleEvent = firstAllIdleEvent = true;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (reading) {
+            lastReadTime = System.nanoTime();
+            reading = false;
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public ChannelFuture write(ChannelHandlerContext ctx, Object msg) throws Exception {
+        ChannelFuture future = ctx.write(msg);
+        if (writerIdleTimeNanos > 0 || allIdleTimeNanos > 0) {
+            future.addListener(writeListener);
+        }
+        return future;
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        ctx.flush();
+    }
+
+    @Override
+    public void read(ChannelHandlerContext ctx) throws Exception {
+        ctx.read();
+    }
+
+    /**
+     * 유휴 상태가 감지되면 호출됩니다. 기본 구현은 이벤트를 다음 핸들러로 전달하고,
+     * {@code closeOnIdle}이 켜져 있으면 채널을 닫습니다.
+     *
+     * @param ctx 채널 핸들러 컨텍스트
+     * @param evt 유휴 상태 이벤트
+     * @throws Exception 이벤트 처리 중 발생할 수 있는 예외
+     */
+    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) throws Exception {
+        ctx.fireUserEventTriggered(evt);
+        if (closeOnIdle) {
+            ctx.channel().close();
+        }
+    }
+
+    private void initialize(ChannelHandlerContext ctx) {
+        // 이미 시작했거나 채널이 닫힌 뒤에는 다시 시작하지 않음
+        if (state != ST_NONE) {
+            return;
+        }
+        state = ST_INITIALIZED;
+        lastReadTime = lastWriteTime = System.nanoTime();
+        if (readerIdleTimeNanos > 0) {
+            readerIdleTask = new ReaderIdleTimeoutTask(ctx);
+            readerIdleTask.schedule(readerIdleTimeNanos);
+        }
+        if (writerIdleTimeNanos > 0) {
+            writerIdleTask = new WriterIdleTimeoutTask(ctx);
+            writerIdleTask.schedule(writerIdleTimeNanos);
+        }
+        if (allIdleTimeNanos > 0) {
+            allIdleTask = new AllIdleTimeoutTask(ctx);
+            allIdleTask.schedule(allIdleTimeNanos);
+        }
+    }
+
+    private void destroy() {
+        state = ST_DESTROYED;
+        if (readerIdleTask != null) {
+            readerIdleTask.cancel();
+            readerIdleTask = null;
+        }
+        if (writerIdleTask != null) {
+            writerIdleTask.cancel();
+            writerIdleTask = null;
+        }
+        if (allIdleTask != null) {
+            allIdleTask.cancel();
+            allIdleTask = null;
+        }
+    }
+
+    /**
+     * 유휴 감시 예약 작업의 공통 부분. 만료되면 남은 시간을 계산하여 이벤트를 전달하거나 다시 예약합니다.
+     * <p>
+     * 현재 예약 핸들을 직접 보관하므로 다시 예약할 때 별도 객체를 만들지 않습니다. 타이머로 예약한 경우
+     * 만료 알림은 타이머 스레드에서 오므로 채널의 이벤트 루프로 넘겨 실행합니다.
+     * </p>
+     */
+    private abstract class AbstractIdleTask implements Runnable, TimerTask {
+
+        final ChannelHandlerContext ctx;
+
+        /** 이벤트 루프에 예약한 경우의 핸들 */
+        private ScheduledFuture<?> future;
+
+        /** 타이머에 예약한 경우의 핸들 */
+        private Timeout timeout;
+
+        AbstractIdleTask(ChannelHandlerContext ctx) {
+            this.ctx = ctx;
+        }
+
+        /**
+         * 이 작업을 {@code delayNanos} 뒤에 실행하도록 예약합니다. 루프 스레드에서만 호출됩니다.
+         */
+        final void schedule(long delayNanos) {
+            if (timer != null) {
+                timeout = timer.newTimeout(this, delayNanos, TimeUnit.NANOSECONDS);
+            } else {
+                future = ctx.channel().eventLoop().schedule((Runnable) this, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        final void cancel() {
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+            if (future != null) {
+                future.cancel(false);
+                future = null;
+            }
+        }
+
+        @Override
+        public final void run(Timeout timeout) {
+            try {
+                ctx.channel().eventLoop().execute(this);
+            } catch (RejectedExecutionException e) {
+                // 루프가 종료됨: 채널도 닫히므로 감시할 필요 없음
+            }
+        }
+
+        @Override
+        public final void run() {
+            if (state != ST_INITIALIZED) {
+                return;
+            }
+            try {
+                run0();
+            } catch (Throwable t) {
+                ctx.fireExceptionCaught(t);
+            }
+        }
+
+        abstract void run0() throws Exception;
+    }
+
+    private final class ReaderIdleTimeoutTask extends AbstractIdleTask {
+
+        ReaderIdleTimeoutTask(ChannelHandlerContext ctx) {
+            super(ctx);
+        }
+
+        @Override
+        void run0() throws Exception {
+            long nextDelay = readerIdleTimeNanos;
+            if (!reading) {
+                nextDelay -= System.nanoTime() - lastReadTime;
+            }
+            if (nextDelay > 0) {
+                // 그 사이 읽기가 있었음: 남은 시간만큼 다시 예약
+                schedule(nextDelay);
+                return;
+            }
+            schedule(readerIdleTimeNanos);
+            boolean first = firstReaderIdleEvent;
+            firstReaderIdleEvent = false;
+            channelIdle(ctx, first ? IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT
+                    : IdleStateEvent.READER_IDLE_STATE_EVENT);
+        }
+    }
+
+    private final class WriterIdleTimeoutTask extends AbstractIdleTask {
+
+        WriterIdleTimeoutTask(ChannelHandlerContext ctx) {
+            super(ctx);
+        }
+
+        @Override
+        void run0() throws Exception {
+            long nextDelay = writerIdleTimeNanos - (System.nanoTime() - lastWriteTime);
+            if (nextDelay > 0) {
+                schedule(nextDelay);
+                return;
+            }
+            schedule(writerIdleTimeNanos);
+            boolean first = firstWriterIdleEvent;
+            firstWriterIdleEvent = false;
+            channelIdle(ctx, first ? IdleStateEvent.FIRST_WRITER_IDLE_STATE_EVENT
+                    : IdleStateEvent.WRITER_IDLE_STATE_EVENT);
+        }
+    }
+
+    private final class AllIdleTimeoutTask extends AbstractIdleTask {
+
+        AllIdleTimeoutTask(ChannelHandlerContext ctx) {
+            super(ctx);
+        }
+
+        @Override
+        void run0() throws Exception {
+            long nextDelay = allIdleTimeNanos;
+            if (!reading) {
+                nextDelay -= System.nanoTime() - Math.max(lastReadTime, lastWriteTime);
+            }
+            if (nextDelay > 0) {
+                schedule(nextDelay);
+                return;
+            }
+            schedule(allIdleTimeNanos);
+            boolean first = firstAllIdleEvent;
+            firstAllIdleEvent = false;
+            channelIdle(ctx, first ? IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT
+                    : IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.nionetty.handler;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import com.example.nionetty.buffer.CustomBuffer;
+import com.example.nionetty.channel.ChannelHandlerContext;
+import com.example.nionetty.channel.ChannelInboundHandlerAdapter;
+
+/**
+ * {@code StringDecoder} 클래스는 수신한 {@link CustomBuffer}를 문자열로 디코딩해 다음 핸들러에 전달하는 핸들러입니다.
+ * <p>
+ * 이벤트 루프는 읽은 데이터를 {@link CustomBuffer} 그대로 파이프라인에 전달하므로, 문자열 메시지가 필요한
+ * 파이프라인에만 이 핸들러를 추가합니다. 바이너리 프로토콜이나 프록시처럼 바이트를 그대로 다루는 파이프라인은
+ * 디코딩과 복사 비용을 치르지 않습니다. 디코딩한 버퍼는 이 핸들러가 해제하며, {@link CustomBuffer}가 아닌
+ * 메시지는 그대로 전달합니다.
+ * </p>
+ * <p>
+ * 읽기 단위로 디코딩하므로 멀티바이트 문자가 두 읽기에 걸쳐 나뉘면 깨질 수 있습니다. 멀티바이트 문자셋에서는
+ * 메시지 경계를 나누는 디코더 뒤에 추가합니다.
+ * </p>
+ *
+ * <pre>
+ * ch.pipeline().addLast(new StringDecoder()).addLast(new MyTextHandler());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class StringDecoder extends ChannelInboundHandlerAdapter {
+
+    private final Charset charset;
+
+    /**
+     * UTF-8로 디코딩하는 핸들러를 생성합니다.
+     */
+    public StringDecoder() {
+        this(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 생성자.
+     *
+     * @param charset 디코딩에 사용할 문자셋
+     */
+    public StringDecoder(Charset charset) {
+        if (charset == null) {
+            throw new NullPointerException("charset");
+        }
+        this.charset = charset;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (!(msg instanceof CustomBuffer)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        CustomBuffer buf = (CustomBuffer) msg;
+        String decoded;
+        try {
+            decoded = buf.toString(charset);
+        } finally {
+            buf.release();
+        }
+        ctx.fireChannelRead(decoded);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.nionetty.util;
+
+/**
+ * {@code IllegalReferenceCountException} 클래스는 {@link ReferenceCounted} 객체의 참조 카운트가
+ * 허용되지 않는 상태일 때(예: 이미 해제된 객체에 접근하거나 두 번 해제) 발생하는 예외입니다.
+ *
+ * @author
+ * @version 1.0
+ */
+public class IllegalReferenceCountException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 현재 참조 카운트 정보로 예외를 생성합니다.
+     *
+     * @param refCnt 현재 참조 카운트
+     */
+    public IllegalReferenceCountException(int refCnt) {
+        super("refCnt: " + refCnt);
+    }
+
+    /**
+     * 현재 참조 카운트와 시도한 증감량 정보로 예외를 생성합니다.
+     *
+     * @param refCnt    현재 참조 카운트
+     * @param increment 시도한 증감량 (감소는 음수)
+     */
+    public IllegalReferenceCountException(int refCnt, int increment) {
+        super("refCnt: " + refCnt + ", " + (increment > 0 ? "increment: " + increment : "decrement: " + -increment));
+    }
+}
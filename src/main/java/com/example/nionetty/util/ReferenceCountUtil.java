@@ -0,0 +1,46 @@
+package com.example.nionetty.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code ReferenceCountUtil} 클래스는 메시지가 {@link ReferenceCounted}인지 모르는 상태에서
+ * 참조 카운트를 다루기 위한 유틸리티 메서드를 제공합니다.
+ *
+ * @author
+ * @version 1.0
+ */
+public final class ReferenceCountUtil {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceCountUtil.class);
+
+    private ReferenceCountUtil() {
+    }
+
+    /**
+     * 메시지가 {@link ReferenceCounted}이면 {@link ReferenceCounted#release()}를 호출합니다.
+     *
+     * @param msg 해제할 메시지
+     * @return 이 호출로 메시지가 해제되었으면 {@code true}
+     */
+    public static boolean release(Object msg) {
+        if (msg instanceof ReferenceCounted) {
+            return ((ReferenceCounted) msg).release();
+        }
+        return false;
+    }
+
+    /**
+     * {@link #release(Object)}와 같지만, 해제 중 발생한 예외를 전파하지 않고 로그만 남깁니다.
+     * 오류 처리 경로에서 원래 예외를 가리지 않도록 할 때 사용합니다.
+     *
+     * @param msg 해제할 메시지
+     */
+    public static void safeRelease(Object msg) {
+        try {
+            release(msg);
+        } catch (Throwable t) {
+            logger.warn("메시지 해제 실패: {}", msg, t);
+        }
+    }
+}
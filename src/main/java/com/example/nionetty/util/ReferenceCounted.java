@@ -0,0 +1,75 @@
+package com.example.nionetty.util;
+
+/**
+ * {@code ReferenceCounted} 인터페이스는 명시적인 참조 카운트로 수명이 관리되는 객체를 나타냅니다.
+ * <p>
+ * 객체는 참조 카운트 1로 생성되며, {@link #retain()}은 카운트를 늘리고 {@link #release()}는 줄입니다.
+ * 카운트가 0이 되면 객체의 자원(예: 풀링된 메모리)이 반환되며, 이후 접근하면
+ * {@link IllegalReferenceCountException}이 발생합니다.
+ * </p>
+ * <p>
+ * 일반적인 규칙: 참조 카운트 객체를 마지막으로 사용하는 쪽이 {@link #release()}를 호출합니다.
+ * 파이프라인에서는 메시지를 소비한 핸들러가, 다음 핸들러로 넘긴 경우 넘겨받은 쪽이 책임집니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public interface ReferenceCounted {
+
+    /**
+     * 현재 참조 카운트를 반환합니다.
+     *
+     * @return 참조 카운트, 0이면 이미 해제된 상태
+     */
+    int refCnt();
+
+    /**
+     * 참조 카운트를 1 증가시킵니다.
+     *
+     * @return 현재 객체
+     * @throws IllegalReferenceCountException 이미 해제된 객체인 경우
+     */
+    ReferenceCounted retain();
+
+    /**
+     * 참조 카운트를 지정한 만큼 증가시킵니다.
+     *
+     * @param increment 증가량 (양수)
+     * @return 현재 객체
+     * @throws IllegalReferenceCountException 이미 해제된 객체인 경우
+     */
+    ReferenceCounted retain(int increment);
+
+    /**
+     * 디버깅을 위해 현재 접근 위치를 기록합니다. 누수 감지기가 추적 중인 객체에만 효과가 있습니다.
+     *
+     * @return 현재 객체
+     */
+    ReferenceCounted touch();
+
+    /**
+     * 디버깅을 위해 현재 접근 위치와 추가 정보를 기록합니다.
+     *
+     * @param hint 누수 보고 시 함께 출력될 정보
+     * @return 현재 객체
+     */
+    ReferenceCounted touch(Object hint);
+
+    /**
+     * 참조 카운트를 1 감소시키고, 0이 되면 자원을 해제합니다.
+     *
+     * @return 이 호출로 자원이 해제되었으면 {@code true}
+     * @throws IllegalReferenceCountException 이미 해제된 객체인 경우
+     */
+    boolean release();
+
+    /**
+     * 참조 카운트를 지정한 만큼 감소시키고, 0이 되면 자원을 해제합니다.
+     *
+     * @param decrement 감소량 (양수)
+     * @return 이 호출로 자원이 해제되었으면 {@code true}
+     * @throws IllegalReferenceCountException 현재 카운트보다 많이 감소시키려는 경우
+     */
+    boolean release(int decrement);
+}
@@ -0,0 +1,289 @@
+package com.example.nionetty.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code ResourceLeakDetector} 클래스는 해제되지 않은 채 GC된 {@link ReferenceCounted} 객체를 감지합니다.
+ * <p>
+ * 추적 대상 객체마다 약한 참조({@link Tracker})를 만들어 두고, 객체가 정상적으로 해제되면
+ * {@link Tracker#close(Object)}로 추적을 끝냅니다. 해제되지 않은 객체가 GC되면 약한 참조가
+ * 참조 큐에 들어오며, 다음 {@link #track(Object)} 호출 시 이를 발견하여 생성 위치와
+ * 접근 기록(access trail)을 로그로 보고합니다.
+ * </p>
+ * <p>
+ * 모든 객체를 추적하면 비용이 크므로 기본적으로는 샘플링합니다. 감지 수준은 시스템 프로퍼티
+ * {@code nionetty.leakDetection.level}({@link Level} 이름)로, 샘플링 간격은
+ * {@code nionetty.leakDetection.samplingInterval}(기본: 128)로 조정할 수 있습니다.
+ * </p>
+ *
+ * @param <T> 추적 대상 타입
+ *
+ * @author
+ * @version 1.0
+ */
+public class ResourceLeakDetector<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceLeakDetector.class);
+
+    /**
+     * 누수 감지 수준.
+     */
+    public enum Level {
+        /** 감지하지 않음 */
+        DISABLED,
+        /** 샘플링된 객체의 생성 위치만 기록 (기본값) */
+        SIMPLE,
+        /** 샘플링된 객체의 생성 위치와 접근 기록을 모두 기록 */
+        ADVANCED,
+        /** 모든 객체의 생성 위치와 접근 기록을 기록 (테스트/디버깅 용도) */
+        PARANOID
+    }
+
+    /** 객체당 보관할 최대 접근 기록 수 (초과 시 오래된 기록부터 버림) */
+    private static final int MAX_RECORDS = Integer.getInteger("nionetty.leakDetection.maxRecords", 4);
+
+    private static final int DEFAULT_SAMPLING_INTERVAL =
+            Integer.getInteger("nionetty.leakDetection.samplingInterval", 128);
+
+    private static volatile Level level = parseLevel(
+            System.getProperty("nionetty.leakDetection.level", Level.SIMPLE.name()));
+
+    private final String resourceType;
+    private final int samplingInterval;
+    private final Set<Tracker<?>> allLeaks = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Object> refQueue = new ReferenceQueue<>();
+    private final Set<String> reportedLeaks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 생성자.
+     *
+     * @param resourceType 보고 시 표시할 추적 대상 클래스
+     */
+    public ResourceLeakDetector(Class<?> resourceType) {
+        this(resourceType, DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * 생성자.
+     *
+     * @param resourceType     보고 시 표시할 추적 대상 클래스
+     * @param samplingInterval 샘플링 간격 (평균적으로 이 수만큼의 객체 중 하나를 추적)
+     */
+    public ResourceLeakDetector(Class<?> resourceType, int samplingInterval) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("samplingInterval must be positive: " + samplingInterval);
+        }
+        this.resourceType = resourceType.getSimpleName();
+        this.samplingInterval = samplingInterval;
+    }
+
+    /**
+     * 현재 감지 수준을 반환합니다.
+     *
+     * @return 감지 수준
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * 감지 수준을 변경합니다. 이후 생성되는 객체부터 적용됩니다.
+     *
+     * @param newLevel 새 감지 수준
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel == null) {
+            throw new NullPointerException("newLevel");
+        }
+        level = newLevel;
+    }
+
+    /**
+     * 객체 추적을 시작합니다. 감지 수준과 샘플링에 따라 추적하지 않을 수 있습니다.
+     * 이 호출 시 GC된 누수 객체가 있으면 함께 보고합니다.
+     *
+     * @param obj 추적할 객체
+     * @return 추적기, 추적하지 않으면 null
+     */
+    public Tracker<T> track(T obj) {
+        Level level = ResourceLeakDetector.level;
+        if (level == Level.DISABLED) {
+            return null;
+        }
+        if (level != Level.PARANOID && ThreadLocalRandom.current().nextInt(samplingInterval) != 0) {
+            return null;
+        }
+        reportLeaks();
+        return new Tracker<>(obj, refQueue, allLeaks, level != Level.SIMPLE);
+    }
+
+    private void reportLeaks() {
+        for (;;) {
+            Tracker<?> ref = (Tracker<?>) refQueue.poll();
+            if (ref == null) {
+                break;
+            }
+            if (!ref.dispose()) {
+                // 정상적으로 close()된 추적기
+                continue;
+            }
+            String records = ref.toString();
+            if (reportedLeaks.add(records)) {
+                logger.error("LEAK: {}.release()가 호출되지 않은 채 GC되었습니다. "
+                        + "해제 누락 위치를 찾으려면 -Dnionetty.leakDetection.level=ADVANCED 로 접근 기록을 확인하세요.{}",
+                        resourceType, records);
+            }
+        }
+    }
+
+    /**
+     * 객체 하나에 대한 추적기. 객체가 GC되면 참조 큐에 들어갑니다.
+     *
+     * @param <T> 추적 대상 타입
+     */
+    public static final class Tracker<T> extends WeakReference<Object> {
+
+        private final Set<Tracker<?>> allLeaks;
+        private final boolean recordAccess;
+        private final int trackedHash;
+        private final Record creation;
+        private Record head;
+        private int numRecords;
+        private int droppedRecords;
+
+        Tracker(Object referent, ReferenceQueue<Object> refQueue, Set<Tracker<?>> allLeaks, boolean recordAccess) {
+            super(referent, refQueue);
+            this.allLeaks = allLeaks;
+            this.recordAccess = recordAccess;
+            this.trackedHash = System.identityHashCode(referent);
+            this.creation = new Record(null, null);
+            allLeaks.add(this);
+        }
+
+        /**
+         * 현재 접근 위치를 기록합니다.
+         */
+        public void record() {
+            record0(null);
+        }
+
+        /**
+         * 현재 접근 위치와 추가 정보를 기록합니다.
+         *
+         * @param hint 추가 정보
+         */
+        public void record(Object hint) {
+            record0(hint);
+        }
+
+        private synchronized void record0(Object hint) {
+            if (!recordAccess) {
+                return;
+            }
+            if (numRecords >= MAX_RECORDS) {
+                // 가장 최근 기록을 유지하기 위해 가장 오래된 기록을 버림
+                Record r = head;
+                Record prev = null;
+                while (r.next != null) {
+                    prev = r;
+                    r = r.next;
+                }
+                if (prev != null) {
+                    prev.next = null;
+                } else {
+                    head = null;
+                }
+                numRecords--;
+                droppedRecords++;
+            }
+            head = new Record(hint, head);
+            numRecords++;
+        }
+
+        /**
+         * 객체가 정상적으로 해제되었음을 알리고 추적을 종료합니다.
+         *
+         * @param trackedObject 추적 중이던 객체 (close 전에 GC되지 않도록 참조를 유지하기 위함)
+         * @return 이번 호출로 추적이 종료되었으면 {@code true}
+         */
+        public boolean close(T trackedObject) {
+            assert trackedHash == System.identityHashCode(trackedObject);
+            try {
+                if (allLeaks.remove(this)) {
+                    clear();
+                    return true;
+                }
+                return false;
+            } finally {
+                // trackedObject를 이 지점까지 도달 가능하게 유지하여 close 도중 GC되지 않도록 함
+                Reference.reachabilityFence(trackedObject);
+            }
+        }
+
+        boolean dispose() {
+            clear();
+            return allLeaks.remove(this);
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder buf = new StringBuilder(2048);
+            int i = numRecords;
+            for (Record r = head; r != null; r = r.next) {
+                buf.append(System.lineSeparator()).append('#').append(i--).append(':').append(r);
+            }
+            if (droppedRecords > 0) {
+                buf.append(System.lineSeparator()).append(droppedRecords)
+                        .append("개의 오래된 접근 기록은 생략되었습니다 (nionetty.leakDetection.maxRecords).");
+            }
+            buf.append(System.lineSeparator()).append("Created at:").append(creation);
+            return buf.toString();
+        }
+    }
+
+    /**
+     * 기록 시점의 스택 트레이스와 추가 정보.
+     */
+    private static final class Record extends Throwable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String hint;
+        private Record next;
+
+        Record(Object hint, Record next) {
+            this.hint = hint == null ? null : hint.toString();
+            this.next = next;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder(1024);
+            if (hint != null) {
+                buf.append(System.lineSeparator()).append("\tHint: ").append(hint);
+            }
+            StackTraceElement[] trace = getStackTrace();
+            // Record 생성 및 record()/track() 내부 프레임은 건너뜀
+            for (int i = 3; i < trace.length; i++) {
+                buf.append(System.lineSeparator()).append('\t').append(trace[i]);
+            }
+            return buf.toString();
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.SIMPLE;
+        }
+    }
+}
@@ -1,42 +1,179 @@
 package com.example.nionetty.util.concurrent;
 
-import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * {@code AbstractScheduledEventExecutor} 클래스는 {@link ScheduledExecutorService} 인터페이스의
- * 기본 구현체로, 예약 작업 실행에 필요한 메서드들을 플레이스홀더 형태로 제공합니다.
- * 
- * (플레이스홀더)
- * 
- * @author 
+ * {@code AbstractScheduledEventExecutor} 클래스는 단일 루프 스레드에서 예약 작업을 실행하는
+ * {@link ScheduledExecutorService} 구현의 기반 클래스입니다.
+ * <p>
+ * 예약 작업은 마감 시각 순으로 정렬된 루프 전용 힙({@link ScheduledTaskQueue})에 보관됩니다. 힙은 루프 스레드만
+ * 다루므로 잠금이 필요 없으며, 다른 스레드에서 예약하거나 취소하면 {@link #execute(Runnable)}로 루프 스레드에
+ * 넘겨 처리합니다. 하위 클래스는 {@link #nextScheduledTaskDelayNanos()}로 가장 가까운 마감까지의 시간을 구해
+ * 셀렉터 대기 시간으로 사용하고, 깨어나면 {@link #pollScheduledTask(long)}로 마감된 작업을 꺼내 실행합니다.
+ * 따라서 타임아웃, 재시도, 하트비트 같은 작업이 별도 스레드 없이 I/O 스레드에서 실행됩니다.
+ * </p>
+ * <p>
+ * {@code submit()}, {@code invokeAll()} 등은 {@link java.util.concurrent.AbstractExecutorService}가
+ * {@link #execute(Runnable)}를 이용해 제공합니다.
+ * </p>
+ *
+ * @author
  * @version 1.0
  */
-public abstract class AbstractScheduledEventExecutor implements ScheduledExecutorService {
+public abstract class AbstractScheduledEventExecutor extends java.util.concurrent.AbstractExecutorService
+        implements ScheduledExecutorService {
 
-    @Override
-    public void shutdown() {}
+    /** 예약 시각 계산의 기준점 (값을 작게 유지해 마감 시각끼리 바로 비교할 수 있게 함) */
+    private static final long START_TIME = System.nanoTime();
+
+    /** 마감 시각 순으로 정렬된 예약 작업 (루프 스레드 전용, 취소 시 O(log n) 제거) */
+    private final ScheduledTaskQueue scheduledTaskQueue = new ScheduledTaskQueue(16);
+
+    /**
+     * 예약 작업의 마감 시각 계산에 사용하는 현재 시각을 반환합니다.
+     *
+     * @return 클래스 로드 시점 이후 경과 시간(ns)
+     */
+    protected static long nanoTime() {
+        return System.nanoTime() - START_TIME;
+    }
+
+    /**
+     * 현재 스레드가 예약 작업을 실행하는 루프 스레드인지 확인합니다.
+     *
+     * @return 루프 스레드에서 호출되었으면 {@code true}
+     */
+    public abstract boolean inEventLoop();
 
     @Override
-    public List<Runnable> shutdownNow() {
-        return null;
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        return schedule(new ScheduledFutureTask<Void>(this, command, deadlineNanos(delay, unit), 0));
     }
 
     @Override
-    public boolean isShutdown() {
-        return false;
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        if (callable == null) {
+            throw new NullPointerException("callable");
+        }
+        return schedule(new ScheduledFutureTask<>(this, callable, deadlineNanos(delay, unit)));
     }
 
     @Override
-    public boolean isTerminated() {
-        return false;
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("period: " + period + " (expected: > 0)");
+        }
+        return schedule(new ScheduledFutureTask<Void>(
+                this, command, deadlineNanos(initialDelay, unit), unit.toNanos(period)));
     }
 
     @Override
-    public boolean awaitTermination(long timeout, TimeUnit unit) {
-        return false;
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        if (command == null) {
+            throw new NullPointerException("command");
+        }
+        if (delay <= 0) {
+            throw new IllegalArgumentException("delay: " + delay + " (expected: > 0)");
+        }
+        return schedule(new ScheduledFutureTask<Void>(
+                this, command, deadlineNanos(initialDelay, unit), -unit.toNanos(delay)));
+    }
+
+    private static long deadlineNanos(long delay, TimeUnit unit) {
+        long deadline = nanoTime() + unit.toNanos(Math.max(0, delay));
+        // 매우 긴 지연으로 넘치면 사실상 실행되지 않는 작업으로 취급
+        return deadline < 0 ? Long.MAX_VALUE : deadline;
+    }
+
+    private <V> ScheduledFuture<V> schedule(ScheduledFutureTask<V> task) {
+        if (inEventLoop()) {
+            scheduleFromEventLoop(task);
+        } else {
+            execute(() -> scheduleFromEventLoop(task));
+        }
+        return task;
+    }
+
+    /**
+     * 작업을 예약 큐에 넣습니다. 루프 스레드에서만 호출됩니다.
+     */
+    final void scheduleFromEventLoop(ScheduledFutureTask<?> task) {
+        if (!task.isCancelled()) {
+            scheduledTaskQueue.add(task);
+        }
+    }
+
+    /**
+     * 취소된 작업을 예약 큐에서 제거합니다. 작업이 기억하는 힙 위치를 사용하므로 O(log n)입니다.
+     * 다른 스레드에서 호출되면 루프 스레드로 넘기며, 이미 종료된 루프라면 큐가 정리되므로 무시합니다.
+     */
+    final void removeScheduled(ScheduledFutureTask<?> task) {
+        if (inEventLoop()) {
+            scheduledTaskQueue.remove(task);
+            return;
+        }
+        try {
+            execute(() -> scheduledTaskQueue.remove(task));
+        } catch (RejectedExecutionException ignored) {
+            // 종료된 루프: cancelScheduledTasks()에서 큐가 비워짐
+        }
+    }
+
+    /**
+     * 예약된 작업이 있는지 확인합니다. 루프 스레드에서만 호출해야 합니다.
+     *
+     * @return 예약된 작업이 있으면 {@code true}
+     */
+    protected final boolean hasScheduledTasks() {
+        return !scheduledTaskQueue.isEmpty();
     }
 
-    // 예약 작업 관련 메서드들도 필요 시 구현합니다.
+    /**
+     * 가장 가까운 예약 작업의 마감까지 남은 시간을 반환합니다. 루프 스레드에서만 호출해야 합니다.
+     *
+     * @return 남은 시간(ns), 이미 마감되었으면 0, 예약된 작업이 없으면 -1
+     */
+    protected final long nextScheduledTaskDelayNanos() {
+        ScheduledFutureTask<?> task = scheduledTaskQueue.peek();
+        return task == null ? -1 : task.delayNanos(nanoTime());
+    }
+
+    /**
+     * 주어진 시각까지 마감된 예약 작업 하나를 꺼냅니다. 루프 스레드에서만 호출해야 합니다.
+     * <p>
+     * 한 번의 실행 구간에서는 같은 {@code nanoTime}을 사용해야, 지연이 매우 짧은 주기 작업이
+     * 다시 들어와 구간이 끝나지 않는 일이 없습니다.
+     * </p>
+     *
+     * @param nanoTime {@link #nanoTime()} 기준의 시각
+     * @return 마감된 작업, 없으면 {@code null}
+     */
+    protected final Runnable pollScheduledTask(long nanoTime) {
+        ScheduledFutureTask<?> task = scheduledTaskQueue.peek();
+        if (task == null || task.deadlineNanos() > nanoTime) {
+            return null;
+        }
+        return scheduledTaskQueue.poll();
+    }
+
+    /**
+     * 남은 예약 작업을 모두 취소합니다. 루프가 끝날 때 루프 스레드에서 호출해
+     * 결과를 기다리는 스레드가 영원히 대기하지 않도록 합니다.
+     */
+    protected final void cancelScheduledTasks() {
+        ScheduledFutureTask<?>[] tasks = scheduledTaskQueue.clear();
+        for (ScheduledFutureTask<?> task : tasks) {
+            task.cancel(false);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code DefaultEventExecutorGroup} 클래스는 전용 플랫폼 스레드를 하나씩 가진 실행기 여러 개로 구성된
+ * {@link EventExecutorGroup}입니다.
+ * <p>
+ * 무거운 디코딩이나 압축처럼 CPU를 많이 쓰는 핸들러를 이 그룹과 함께 파이프라인에 추가하면, 핸들러가 이벤트 루프
+ * 대신 그룹의 스레드에서 실행되어 {@code NioEventLoop} 스레드는 소켓 I/O만 처리합니다. {@link #next()}는 실행기를
+ * 라운드 로빈으로 나눠 주고, 파이프라인은 채널마다 그룹에서 실행기 하나를 받아 고정하므로 여러 채널의 작업은 스레드들에
+ * 나뉘어 병렬로 실행되면서도 한 채널의 메시지는 항상 같은 스레드에서 순서대로 처리됩니다.
+ * </p>
+ * <p>
+ * 가상 스레드와 달리 스레드 수가 고정되므로 CPU 코어 수에 맞춰 병렬도를 제한하는 데 적합합니다. 블로킹 호출이
+ * 많은 핸들러에는 {@link VirtualThreadEventExecutorGroup}을 사용합니다.
+ * </p>
+ *
+ * <pre>
+ * EventExecutorGroup decoderGroup = new DefaultEventExecutorGroup(4);
+ * ch.pipeline().addLast(decoderGroup, new HeavyDecoder());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class DefaultEventExecutorGroup implements EventExecutorGroup {
+
+    /** 전용 스레드가 자신의 작업 큐를 직접 비우며 순서대로 실행하는 실행기 */
+    private final SingleThreadEventExecutor[] children;
+
+    private final AtomicInteger idx = new AtomicInteger();
+
+    /**
+     * 생성자.
+     * 지정한 수만큼의 실행기를 만들고, 스레드는 데몬 스레드로 만듭니다.
+     *
+     * @param nThreads 실행기(스레드) 수
+     * @throws IllegalArgumentException 스레드 수가 0 이하일 경우
+     */
+    public DefaultEventExecutorGroup(int nThreads) {
+        this(nThreads, new DefaultThreadFactory("defaultEventExecutorGroup", true));
+    }
+
+    /**
+     * 생성자.
+     * 지정한 수만큼의 실행기를 만들고, 스레드는 주어진 팩토리로 처음 작업이 들어올 때 만듭니다.
+     *
+     * @param nThreads      실행기(스레드) 수
+     * @param threadFactory 실행기 스레드를 만들 팩토리
+     * @throws IllegalArgumentException 스레드 수가 0 이하일 경우
+     */
+    public DefaultEventExecutorGroup(int nThreads, ThreadFactory threadFactory) {
+        if (nThreads <= 0) {
+            throw new IllegalArgumentException("nThreads: " + nThreads + " (expected: > 0)");
+        }
+        if (threadFactory == null) {
+            throw new NullPointerException("threadFactory");
+        }
+        this.children = new SingleThreadEventExecutor[nThreads];
+        for (int i = 0; i < nThreads; i++) {
+            children[i] = new SingleThreadEventExecutor(threadFactory);
+        }
+    }
+
+    /**
+     * 실행기를 라운드 로빈으로 반환합니다. 파이프라인은 채널마다 한 번만 호출해 결과를 고정합니다.
+     */
+    @Override
+    public EventExecutor next() {
+        // int 오버플로로 음수가 되어도 floorMod 결과는 항상 0 이상입니다.
+        return children[Math.floorMod(idx.getAndIncrement(), children.length)];
+    }
+
+    @Override
+    public void shutdown() {
+        for (SingleThreadEventExecutor child : children) {
+            child.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (SingleThreadEventExecutor child : children) {
+            if (!child.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
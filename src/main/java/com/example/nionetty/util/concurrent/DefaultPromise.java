@@ -1,21 +1,36 @@
 package com.example.nionetty.util.concurrent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.example.nionetty.util.Future;
+import com.example.nionetty.util.GenericFutureListener;
 import com.example.nionetty.util.Promise;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * {@code DefaultPromise} 클래스는 {@link Promise} 인터페이스의 기본 구현체입니다.
  * 채널이나 이벤트 루프와 관련된 비동기 작업에서 사용될 수 있습니다.
- * 
- * @author 
+ * <p>
+ * 결과는 한 번만 설정되며, 이미 완료된 뒤의 {@code setSuccess()}/{@code setFailure()} 호출은 무시됩니다.
+ * </p>
+ *
+ * @author
  * @version 1.0
  */
 public class DefaultPromise implements Promise {
 
+    private static final Logger logger = LoggerFactory.getLogger(DefaultPromise.class);
+
     private volatile boolean success;
     private volatile Throwable cause;
     private final Object lock = new Object();
 
+    /** 완료 시 호출할 리스너 (lock으로 보호, 완료 후 null) */
+    private List<GenericFutureListener<? super DefaultPromise>> listeners;
+
     @Override
     public boolean isDone() {
         return success || (cause != null);
@@ -44,18 +59,70 @@ public class DefaultPromise implements Promise {
     @Override
     public Promise setSuccess() {
         synchronized (lock) {
+            if (isDone()) {
+                return this;
+            }
             this.success = true;
             lock.notifyAll();
         }
+        notifyListeners();
         return this;
     }
 
     @Override
     public Promise setFailure(Throwable cause) {
         synchronized (lock) {
+            if (isDone()) {
+                return this;
+            }
             this.cause = cause;
             lock.notifyAll();
         }
+        notifyListeners();
+        return this;
+    }
+
+    /**
+     * 작업이 완료되면 호출될 리스너를 등록합니다. 이미 완료된 경우 호출한 스레드에서 즉시 호출됩니다.
+     *
+     * @param listener 등록할 리스너
+     * @return 현재 {@code DefaultPromise} 인스턴스
+     */
+    public DefaultPromise addListener(GenericFutureListener<? super DefaultPromise> listener) {
+        if (listener == null) {
+            throw new NullPointerException("listener");
+        }
+        synchronized (lock) {
+            if (!isDone()) {
+                if (listeners == null) {
+                    listeners = new ArrayList<>(1);
+                }
+                listeners.add(listener);
+                return this;
+            }
+        }
+        notifyListener(listener);
         return this;
     }
+
+    private void notifyListeners() {
+        List<GenericFutureListener<? super DefaultPromise>> toNotify;
+        synchronized (lock) {
+            toNotify = listeners;
+            listeners = null;
+        }
+        if (toNotify != null) {
+            for (GenericFutureListener<? super DefaultPromise> listener : toNotify) {
+                notifyListener(listener);
+            }
+        }
+    }
+
+    private void notifyListener(GenericFutureListener<? super DefaultPromise> listener) {
+        try {
+            listener.operationComplete(this);
+        } catch (Throwable t) {
+            logger.warn("{}.operationComplete() 실행 중 예외 발생", listener.getClass().getName(), t);
+        }
+    }
 }
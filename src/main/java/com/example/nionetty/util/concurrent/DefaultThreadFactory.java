@@ -0,0 +1,78 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code DefaultThreadFactory} 클래스는 이벤트 루프 스레드를 만드는 기본 {@link ThreadFactory}입니다.
+ * <p>
+ * 스레드 이름은 {@code <poolName>-<풀 번호>-<스레드 번호>} 형식이며, 데몬 여부와 우선순위를 지정할 수 있습니다.
+ * 풀 번호는 팩토리마다, 스레드 번호는 팩토리 안에서 1부터 증가하므로 스레드 덤프에서 그룹과 루프를 구분할 수 있습니다.
+ * 만든 스레드는 {@link EventExecutorThread}이므로 버퍼 할당기의 스레드별 캐시를 사용합니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class DefaultThreadFactory implements ThreadFactory {
+
+    /** 팩토리마다 붙는 풀 번호 */
+    private static final AtomicInteger POOL_ID = new AtomicInteger();
+
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final String prefix;
+    private final boolean daemon;
+    private final int priority;
+
+    /**
+     * 일반 우선순위의 비데몬 스레드를 만드는 팩토리를 생성합니다.
+     *
+     * @param poolName 스레드 이름 접두사
+     */
+    public DefaultThreadFactory(String poolName) {
+        this(poolName, false, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * 일반 우선순위의 스레드를 만드는 팩토리를 생성합니다.
+     *
+     * @param poolName 스레드 이름 접두사
+     * @param daemon   데몬 스레드 여부
+     */
+    public DefaultThreadFactory(String poolName, boolean daemon) {
+        this(poolName, daemon, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * 스레드 팩토리를 생성합니다.
+     *
+     * @param poolName 스레드 이름 접두사
+     * @param daemon   데몬 스레드 여부
+     * @param priority 스레드 우선순위 ({@link Thread#MIN_PRIORITY} ~ {@link Thread#MAX_PRIORITY})
+     * @throws IllegalArgumentException 우선순위가 범위를 벗어난 경우
+     */
+    public DefaultThreadFactory(String poolName, boolean daemon, int priority) {
+        if (poolName == null) {
+            throw new NullPointerException("poolName");
+        }
+        if (priority < Thread.MIN_PRIORITY || priority > Thread.MAX_PRIORITY) {
+            throw new IllegalArgumentException("priority: " + priority
+                    + " (expected: Thread.MIN_PRIORITY <= priority <= Thread.MAX_PRIORITY)");
+        }
+        this.prefix = poolName + '-' + POOL_ID.incrementAndGet() + '-';
+        this.daemon = daemon;
+        this.priority = priority;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread t = new EventExecutorThread(r, prefix + nextId.incrementAndGet());
+        if (t.isDaemon() != daemon) {
+            t.setDaemon(daemon);
+        }
+        if (t.getPriority() != priority) {
+            t.setPriority(priority);
+        }
+        return t;
+    }
+}
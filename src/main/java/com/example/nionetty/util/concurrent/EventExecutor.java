@@ -0,0 +1,34 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.Executor;
+
+/**
+ * {@code EventExecutor} 인터페이스는 넘겨받은 작업을 넘겨받은 순서대로 하나씩 실행하는 실행기를 정의합니다.
+ * <p>
+ * 채널 파이프라인은 핸들러의 이벤트를 이 실행기에서 호출하며, 같은 실행기에 넘겨진 이벤트는 동시에 실행되지 않고
+ * 순서도 바뀌지 않습니다. 이벤트 루프({@link com.example.nionetty.eventloop.EventLoop})도 {@code EventExecutor}입니다.
+ * </p>
+ *
+ * @see EventExecutorGroup
+ *
+ * @author
+ * @version 1.0
+ */
+public interface EventExecutor extends Executor {
+
+    /**
+     * 작업을 실행 대기열에 추가합니다. 작업은 추가된 순서대로 하나씩 실행됩니다.
+     *
+     * @param task 실행할 작업
+     * @throws java.util.concurrent.RejectedExecutionException 실행기가 종료된 경우
+     */
+    @Override
+    void execute(Runnable task);
+
+    /**
+     * 현재 스레드가 이 실행기의 작업을 실행 중인 스레드인지 확인합니다.
+     *
+     * @return 이 실행기에서 호출되었으면 {@code true}
+     */
+    boolean inEventLoop();
+}
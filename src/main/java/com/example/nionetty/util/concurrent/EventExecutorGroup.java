@@ -0,0 +1,38 @@
+package com.example.nionetty.util.concurrent;
+
+/**
+ * {@code EventExecutorGroup} 인터페이스는 여러 {@link EventExecutor}를 관리하며,
+ * {@link com.example.nionetty.channel.ChannelPipeline#addLast(EventExecutorGroup, com.example.nionetty.channel.ChannelHandler)}
+ * 로 추가된 핸들러의 이벤트를 이벤트 루프 대신 실행합니다.
+ * <p>
+ * 채널의 파이프라인이 그룹을 처음 사용할 때 {@link #next()}로 실행기 하나가 정해지고, 이후 그 채널에서 그룹과 함께
+ * 추가된 핸들러의 이벤트는 모두 그 실행기에서 순서대로 실행됩니다. 따라서 오래 걸리는 핸들러가 이벤트 루프의 다른 채널을 막지 않으면서도
+ * 채널별 이벤트 순서는 유지됩니다.
+ * </p>
+ *
+ * @see EventExecutor
+ *
+ * @author
+ * @version 1.0
+ */
+public interface EventExecutorGroup {
+
+    /**
+     * 새 채널의 핸들러가 사용할 {@link EventExecutor}를 반환합니다.
+     *
+     * @return {@link EventExecutor}
+     */
+    EventExecutor next();
+
+    /**
+     * 그룹을 종료합니다. 이후 새 작업은 거부되며, 이미 넘겨진 작업은 실행을 마칩니다.
+     */
+    void shutdown();
+
+    /**
+     * 그룹이 종료되었는지 확인합니다.
+     *
+     * @return {@link #shutdown()}이 호출되었으면 {@code true}
+     */
+    boolean isShutdown();
+}
@@ -0,0 +1,75 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code EventExecutorThread} 클래스는 {@link DefaultThreadFactory}가 만드는 이벤트 루프/실행기 스레드입니다.
+ * <p>
+ * 이런 스레드는 오래 살아 있으며 많은 이벤트를 처리하므로, 버퍼 할당기 같은 구성 요소는 이 타입인 스레드에만
+ * 스레드별 캐시를 둡니다. 작업마다 새로 만들어지는 가상 스레드나 임의의 스레드에 캐시를 두면 이벤트마다 캐시를
+ * 만드는 셈이 되기 때문입니다. 스레드가 끝나면 {@link #onExit(Runnable)}로 등록한 정리 작업을 실행해
+ * 캐시가 잡고 있던 자원을 돌려줍니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class EventExecutorThread extends Thread {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventExecutorThread.class);
+
+    /** 스레드가 끝날 때 실행할 정리 작업 (이 스레드만 접근) */
+    private List<Runnable> exitHooks;
+
+    /**
+     * 생성자.
+     *
+     * @param target 스레드에서 실행할 작업
+     * @param name   스레드 이름
+     */
+    public EventExecutorThread(Runnable target, String name) {
+        super(target, name);
+    }
+
+    /**
+     * 이 스레드가 끝날 때 실행할 정리 작업을 등록합니다. 이 스레드에서만 호출해야 합니다.
+     *
+     * @param hook 정리 작업
+     * @throws IllegalStateException 다른 스레드에서 호출한 경우
+     */
+    public void onExit(Runnable hook) {
+        if (hook == null) {
+            throw new NullPointerException("hook");
+        }
+        if (Thread.currentThread() != this) {
+            throw new IllegalStateException("onExit() must be called from the thread itself");
+        }
+        if (exitHooks == null) {
+            exitHooks = new ArrayList<>(2);
+        }
+        exitHooks.add(hook);
+    }
+
+    @Override
+    public void run() {
+        try {
+            super.run();
+        } finally {
+            List<Runnable> hooks = exitHooks;
+            exitHooks = null;
+            if (hooks != null) {
+                for (Runnable hook : hooks) {
+                    try {
+                        hook.run();
+                    } catch (Throwable t) {
+                        logger.warn("스레드 종료 정리 작업 실행 중 예외 발생", t);
+                    }
+                }
+            }
+        }
+    }
+}
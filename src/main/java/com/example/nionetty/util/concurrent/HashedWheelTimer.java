@@ -0,0 +1,511 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code HashedWheelTimer} 클래스는 해시 타이밍 휠 기반의 {@link Timer} 구현입니다.
+ * <p>
+ * 휠은 {@code ticksPerWheel}개의 버킷(이중 연결 리스트)으로 이루어지며, 워커 스레드가 {@code tickDuration}마다
+ * 한 칸씩 전진하면서 현재 버킷에서 만료된 예약을 한꺼번에 실행합니다. 예약은 마감 시각에 해당하는 버킷에 들어가고,
+ * 휠 한 바퀴보다 긴 지연은 남은 바퀴 수({@code remainingRounds})로 표현합니다.
+ * </p>
+ * <ul>
+ * <li>추가: 다른 스레드는 MPSC 큐에 넣기만 하고, 워커가 매 틱마다 버킷으로 옮기므로 O(1)입니다.</li>
+ * <li>취소: 상태를 CAS로 바꾸고 취소 큐에 넣으면 워커가 다음 틱에 버킷에서 떼어내므로 O(1)입니다.</li>
+ * <li>만료: 틱 단위로 처리하므로 실제 실행 시각은 최대 한 틱만큼 늦어질 수 있습니다.</li>
+ * </ul>
+ * <p>
+ * 대부분 만료 전에 취소되는 연결별 읽기/유휴 타임아웃처럼 예약 수가 매우 많을 때, 이벤트 루프의 예약 힙
+ * ({@link AbstractScheduledEventExecutor}, 추가/취소 O(log n) 이상) 대신 사용합니다. 만료된 작업은 기본적으로
+ * 워커 스레드에서 실행되며, 생성자에 이벤트 루프를 {@code taskExecutor}로 넘기면 해당 루프 스레드에서 실행되어
+ * 핸들러가 채널 상태를 동기화 없이 다룰 수 있습니다.
+ * </p>
+ *
+ * @see Timer
+ *
+ * @author
+ * @version 1.0
+ */
+public class HashedWheelTimer implements Timer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /** 기본 틱 간격(ms) */
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 100;
+
+    /** 기본 휠 크기 */
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    /** 한 틱에 대기 큐에서 버킷으로 옮길 최대 예약 수 (대량 추가 시 틱이 밀리지 않도록 제한) */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int WORKER_STATE_INIT = 0;
+    private static final int WORKER_STATE_STARTED = 1;
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+
+    /** 워커 스레드 이름에 붙일 일련 번호 */
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final Worker worker = new Worker();
+
+    private final Thread workerThread;
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_STATE_INIT);
+
+    private final long tickDuration;
+
+    private final HashedWheelBucket[] wheel;
+
+    private final int mask;
+
+    /** 만료된 작업을 실행할 실행기 */
+    private final Executor taskExecutor;
+
+    /** 새로 추가되어 아직 버킷에 들어가지 않은 예약 (다수 생산자, 워커 단일 소비자) */
+    private final MpscChunkedArrayQueue<HashedWheelTimeout> timeouts = new MpscChunkedArrayQueue<>();
+
+    /** 취소되어 버킷에서 떼어내야 하는 예약 (다수 생산자, 워커 단일 소비자) */
+    private final MpscChunkedArrayQueue<HashedWheelTimeout> cancelledTimeouts = new MpscChunkedArrayQueue<>();
+
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+
+    /** 워커가 시작된 시각(ns), 0이면 아직 시작 전 */
+    private volatile long startTime;
+
+    /**
+     * 기본 틱 간격(100ms)과 휠 크기(512)로 생성합니다. 만료된 작업은 워커 스레드에서 실행됩니다.
+     */
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * 주어진 틱 간격과 휠 크기로 생성합니다. 만료된 작업은 워커 스레드에서 실행됩니다.
+     *
+     * @param tickDuration  틱 간격
+     * @param unit          틱 간격 단위
+     * @param ticksPerWheel 휠 크기 (2의 거듭제곱으로 올림)
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(tickDuration, unit, ticksPerWheel, Runnable::run);
+    }
+
+    /**
+     * 주어진 틱 간격과 휠 크기로 생성합니다.
+     * <p>
+     * 틱 간격이 짧을수록 만료 시각이 정확해지지만 워커가 자주 깨어나며, 휠이 클수록 버킷당 예약 수와
+     * 남은 바퀴 수 확인 비용이 줄어드는 대신 메모리를 더 사용합니다.
+     * </p>
+     *
+     * @param tickDuration  틱 간격
+     * @param unit          틱 간격 단위
+     * @param ticksPerWheel 휠 크기 (2의 거듭제곱으로 올림)
+     * @param taskExecutor  만료된 작업을 실행할 실행기 (예: 이벤트 루프)
+     * @throws IllegalArgumentException 틱 간격이나 휠 크기가 범위를 벗어난 경우
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int ticksPerWheel, Executor taskExecutor) {
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        if (taskExecutor == null) {
+            throw new NullPointerException("taskExecutor");
+        }
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration: " + tickDuration + " (expected: > 0)");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException(
+                    "ticksPerWheel: " + ticksPerWheel + " (expected: 0 < ticksPerWheel <= 2^30)");
+        }
+        int normalized = 1;
+        while (normalized < ticksPerWheel) {
+            normalized <<= 1;
+        }
+        this.wheel = new HashedWheelBucket[normalized];
+        for (int i = 0; i < normalized; i++) {
+            wheel[i] = new HashedWheelBucket();
+        }
+        this.mask = normalized - 1;
+        this.tickDuration = unit.toNanos(tickDuration);
+        if (this.tickDuration >= Long.MAX_VALUE / normalized) {
+            throw new IllegalArgumentException("tickDuration too large: " + tickDuration + " " + unit);
+        }
+        this.taskExecutor = taskExecutor;
+        this.workerThread = new Thread(worker, "hashedWheelTimer-" + THREAD_ID.incrementAndGet());
+        this.workerThread.setDaemon(true);
+    }
+
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (unit == null) {
+            throw new NullPointerException("unit");
+        }
+        start();
+        pendingTimeouts.incrementAndGet();
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startTime;
+        // 매우 긴 지연으로 넘치면 사실상 만료되지 않는 예약으로 취급
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        HashedWheelTimeout timeout = new HashedWheelTimeout(this, task, deadline);
+        timeouts.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * 워커 스레드를 시작합니다. 첫 예약 시 자동으로 호출되며, 워커가 시작 시각을 정할 때까지 대기합니다.
+     *
+     * @throws IllegalStateException 이미 종료된 경우
+     */
+    public void start() {
+        switch (workerState.get()) {
+            case WORKER_STATE_INIT:
+                if (workerState.compareAndSet(WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            case WORKER_STATE_SHUTDOWN:
+                throw new IllegalStateException("cannot be started once stopped");
+            default:
+                throw new Error("Invalid worker state");
+        }
+        boolean interrupted = false;
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public Set<Timeout> stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException("stop() cannot be called from a TimerTask");
+        }
+        if (!workerState.compareAndSet(WORKER_STATE_STARTED, WORKER_STATE_SHUTDOWN)) {
+            workerState.set(WORKER_STATE_SHUTDOWN);
+            return Collections.emptySet();
+        }
+        boolean interrupted = false;
+        while (workerThread.isAlive()) {
+            workerThread.interrupt();
+            try {
+                workerThread.join(100);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return worker.unprocessedTimeouts;
+    }
+
+    /**
+     * 만료되거나 취소되지 않은 예약 수를 반환합니다.
+     *
+     * @return 대기 중인 예약 수
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * 휠을 돌리며 예약을 버킷에 넣고 만료시키는 워커.
+     */
+    private final class Worker implements Runnable {
+
+        private final Set<Timeout> unprocessedTimeouts = new HashSet<>();
+
+        /** 지금까지 처리한 틱 수 */
+        private long tick;
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            // 0은 시작 전을 뜻하므로 피함
+            startTime = now == 0 ? 1 : now;
+            startTimeInitialized.countDown();
+
+            do {
+                long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    HashedWheelBucket bucket = wheel[(int) (tick & mask)];
+                    processCancelledTasks();
+                    transferTimeoutsToBuckets();
+                    bucket.expireTimeouts(deadline);
+                    tick++;
+                }
+            } while (workerState.get() == WORKER_STATE_STARTED);
+
+            processCancelledTasks();
+            for (HashedWheelBucket bucket : wheel) {
+                bucket.clearTimeouts(unprocessedTimeouts);
+            }
+            HashedWheelTimeout timeout;
+            while ((timeout = timeouts.poll()) != null) {
+                if (!timeout.isCancelled()) {
+                    unprocessedTimeouts.add(timeout);
+                }
+            }
+        }
+
+        /**
+         * 다음 틱 시각까지 잠듭니다.
+         *
+         * @return 시작 이후 경과 시간(ns), 종료 요청으로 깨어났으면 -1
+         */
+        private long waitForNextTick() {
+            long deadline = tickDuration * (tick + 1);
+            for (;;) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepTimeMs = TimeUnit.NANOSECONDS.toMillis(deadline - currentTime + 999_999);
+                if (sleepTimeMs <= 0) {
+                    return currentTime;
+                }
+                try {
+                    Thread.sleep(sleepTimeMs);
+                } catch (InterruptedException e) {
+                    if (workerState.get() == WORKER_STATE_SHUTDOWN) {
+                        return -1;
+                    }
+                }
+            }
+        }
+
+        private void transferTimeoutsToBuckets() {
+            for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+                HashedWheelTimeout timeout = timeouts.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.isCancelled()) {
+                    // 취소 큐에서 정리됨
+                    continue;
+                }
+                long calculated = timeout.deadline / tickDuration;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                // 이미 지난 마감은 현재 틱에서 만료
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].addTimeout(timeout);
+            }
+        }
+
+        private void processCancelledTasks() {
+            HashedWheelTimeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                timeout.remove();
+            }
+        }
+    }
+
+    /**
+     * 예약 하나. 버킷의 이중 연결 리스트 노드이기도 합니다.
+     */
+    private static final class HashedWheelTimeout implements Timeout, Runnable {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<HashedWheelTimeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final TimerTask task;
+
+        /** 워커 시작 시각 기준 마감 시각(ns) */
+        private final long deadline;
+
+        private volatile int state = ST_INIT;
+
+        /** 만료까지 남은 휠 바퀴 수 (워커 전용) */
+        private long remainingRounds;
+
+        private HashedWheelTimeout next;
+        private HashedWheelTimeout prev;
+
+        /** 들어 있는 버킷, 버킷에 들어가기 전이나 빠진 뒤에는 {@code null} (워커 전용) */
+        private HashedWheelBucket bucket;
+
+        HashedWheelTimeout(HashedWheelTimer timer, TimerTask task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Timer timer() {
+            return timer;
+        }
+
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // 버킷에서 떼어내는 일은 워커가 다음 틱에 처리
+            timer.cancelledTimeouts.offer(this);
+            return true;
+        }
+
+        /**
+         * 취소된 예약을 버킷에서 떼어냅니다. 워커 스레드에서만 호출됩니다.
+         * <p>
+         * {@code pendingTimeouts}는 취소(여기) 또는 만료({@link #expire()}) 중 상태 전이에 성공한 쪽에서
+         * 정확히 한 번만 줄입니다.
+         * </p>
+         */
+        void remove() {
+            HashedWheelBucket bucket = this.bucket;
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+            timer.pendingTimeouts.decrementAndGet();
+        }
+
+        /**
+         * 예약을 만료시키고 작업을 실행기로 넘깁니다. 이미 취소되었으면 아무 일도 하지 않습니다.
+         */
+        void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            timer.pendingTimeouts.decrementAndGet();
+            try {
+                timer.taskExecutor.execute(this);
+            } catch (RejectedExecutionException e) {
+                logger.warn("만료된 TimerTask를 실행기에 넘기지 못했습니다: {}", task, e);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run(this);
+            } catch (Throwable t) {
+                logger.warn("TimerTask 실행 중 예외 발생: {}", task, t);
+            }
+        }
+    }
+
+    /**
+     * 휠의 한 칸. 같은 칸에 떨어진 예약들을 이중 연결 리스트로 보관합니다 (워커 전용).
+     */
+    private final class HashedWheelBucket {
+
+        private HashedWheelTimeout head;
+        private HashedWheelTimeout tail;
+
+        void addTimeout(HashedWheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * 이번 바퀴에 마감되는 예약을 모두 만료시키고, 나머지는 남은 바퀴 수를 줄입니다.
+         *
+         * @param deadline 현재 틱 시각(ns)
+         */
+        void expireTimeouts(long deadline) {
+            HashedWheelTimeout timeout = head;
+            while (timeout != null) {
+                HashedWheelTimeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        // 버킷 배치가 잘못된 경우: 발생하지 않아야 함
+                        throw new IllegalStateException(
+                                "timeout.deadline (" + timeout.deadline + ") > deadline (" + deadline + ")");
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        HashedWheelTimeout remove(HashedWheelTimeout timeout) {
+            HashedWheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        void clearTimeouts(Set<Timeout> set) {
+            HashedWheelTimeout timeout;
+            while ((timeout = head) != null) {
+                remove(timeout);
+                if (!timeout.isExpired() && !timeout.isCancelled()) {
+                    set.add(timeout);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.example.nionetty.util.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * {@code MpscChunkedArrayQueue} 클래스는 다수 생산자/단일 소비자(MPSC)용 락 프리 큐입니다.
+ * <p>
+ * 원소는 고정 크기 배열 청크에 저장되고 청크들은 단방향으로 연결됩니다. 생산자는 producer 인덱스를 원자적으로
+ * 증가시켜 슬롯을 하나 차지한 뒤 해당 청크의 슬롯에 원소를 기록하며, 소비자는 consumer 인덱스의 슬롯을 차례로
+ * 읽습니다. {@link java.util.concurrent.ConcurrentLinkedQueue}처럼 원소마다 노드를 만들지 않고
+ * 청크 크기만큼의 원소당 배열 하나만 할당하므로, 이벤트 루프 작업 큐처럼 원소가 많이 오가는 곳에서
+ * 할당과 GC 부담이 작습니다.
+ * </p>
+ * <p>
+ * 생산자 쪽 필드(producer 인덱스)와 소비자 쪽 필드(consumer 인덱스)는 상속 계층에 끼운 패딩 필드로
+ * 서로 다른 캐시 라인에 놓여, 생산자와 소비자가 서로의 캐시 라인을 무효화하지 않습니다(false sharing 방지).
+ * </p>
+ * <ul>
+ * <li>무제한 큐({@link #MpscChunkedArrayQueue(int)})는 생산자가 인덱스를 {@code getAndAdd} 한 번으로 차지하므로
+ * 생산자 간 경합 시에도 재시도하지 않습니다.</li>
+ * <li>제한 큐({@link #MpscChunkedArrayQueue(int, int)})는 CAS로 인덱스를 차지하며, 가득 차면
+ * {@link #offer(Object)}가 {@code false}를 반환합니다.</li>
+ * </ul>
+ * <p>
+ * {@link #poll()}, {@link #peek()}, {@link #drain(Consumer, int)}는 하나의 소비자 스레드에서만 호출해야 합니다.
+ * {@link #size()}는 근사값이며 {@link #iterator()}는 지원하지 않으므로 이를 이용하는 {@code contains()},
+ * {@code remove(Object)} 등도 지원하지 않습니다. null 원소는 허용하지 않습니다.
+ * </p>
+ *
+ * @param <E> 원소 타입
+ *
+ * @author
+ * @version 1.0
+ */
+public final class MpscChunkedArrayQueue<E> extends MpscQueueConsumerFields<E> {
+
+    /** 기본 청크 크기 */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle PRODUCER_CHUNK;
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(MpscQueueProducerFields.class, "producerIndex", long.class);
+            PRODUCER_CHUNK = lookup.findVarHandle(MpscQueueProducerFields.class, "producerChunk", Chunk.class);
+            CONSUMER_INDEX = lookup.findVarHandle(MpscQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private final long capacity;
+
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    /**
+     * 기본 청크 크기({@value #DEFAULT_CHUNK_SIZE})의 무제한 큐를 생성합니다.
+     */
+    public MpscChunkedArrayQueue() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 무제한 큐를 생성합니다.
+     *
+     * @param chunkSize 청크 하나의 크기 (2의 거듭제곱으로 올림)
+     */
+    public MpscChunkedArrayQueue(int chunkSize) {
+        this(chunkSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 최대 용량이 있는 큐를 생성합니다. {@code maxCapacity}가 {@link Integer#MAX_VALUE}이면 무제한입니다.
+     *
+     * @param chunkSize   청크 하나의 크기 (2의 거듭제곱으로 올림)
+     * @param maxCapacity 최대 원소 수
+     */
+    public MpscChunkedArrayQueue(int chunkSize, int maxCapacity) {
+        if (chunkSize < 2 || chunkSize > 1 << 30) {
+            throw new IllegalArgumentException("chunkSize: " + chunkSize + " (expected: 2-2^30)");
+        }
+        if (maxCapacity <= 0) {
+            throw new IllegalArgumentException("maxCapacity: " + maxCapacity + " (expected: > 0)");
+        }
+        int size = Integer.highestOneBit(chunkSize - 1) << 1;
+        this.chunkShift = Integer.numberOfTrailingZeros(size);
+        this.chunkMask = size - 1;
+        this.capacity = maxCapacity == Integer.MAX_VALUE ? Long.MAX_VALUE : maxCapacity;
+        Chunk<E> first = new Chunk<>(0, size);
+        this.producerChunk = first;
+        this.consumerChunk = first;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException("e");
+        }
+        long pIndex;
+        if (capacity == Long.MAX_VALUE) {
+            pIndex = (long) PRODUCER_INDEX.getAndAdd(this, 1L);
+        } else {
+            do {
+                pIndex = producerIndex;
+                if (pIndex - consumerIndex >= capacity) {
+                    return false;
+                }
+            } while (!PRODUCER_INDEX.compareAndSet(this, pIndex, pIndex + 1));
+        }
+        Chunk<E> chunk = producerChunkFor(pIndex >>> chunkShift);
+        // 소비자는 슬롯이 채워질 때까지 기다리므로 release 쓰기로 충분
+        chunk.lazySet((int) (pIndex & chunkMask), e);
+        return true;
+    }
+
+    /**
+     * 지정한 번호의 청크를 찾고, 아직 없으면 이어 붙입니다.
+     * 탐색은 마지막으로 알려진 생산자 청크(또는 그보다 앞서 있으면 소비자 청크)에서 시작합니다.
+     * 소비자는 아직 채워지지 않은 슬롯을 지나치지 않으므로 소비자 청크는 항상 대상 청크 이하입니다.
+     */
+    private Chunk<E> producerChunkFor(long chunkIndex) {
+        Chunk<E> hint = producerChunk;
+        Chunk<E> chunk = hint.index <= chunkIndex ? hint : consumerChunk;
+        while (chunk.index < chunkIndex) {
+            Chunk<E> next = chunk.next;
+            if (next == null) {
+                Chunk<E> newChunk = new Chunk<>(chunk.index + 1, chunkMask + 1);
+                next = Chunk.NEXT.compareAndSet(chunk, null, newChunk) ? newChunk : chunk.next;
+            }
+            chunk = next;
+        }
+        if (hint.index < chunk.index) {
+            PRODUCER_CHUNK.compareAndSet(this, hint, chunk);
+        }
+        return chunk;
+    }
+
+    @Override
+    public E poll() {
+        long cIndex = consumerIndex;
+        if (cIndex >= producerIndex) {
+            return null;
+        }
+        E e = spinForElement(cIndex);
+        consumerChunk.lazySet((int) (cIndex & chunkMask), null);
+        CONSUMER_INDEX.setRelease(this, cIndex + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long cIndex = consumerIndex;
+        if (cIndex >= producerIndex) {
+            return null;
+        }
+        return spinForElement(cIndex);
+    }
+
+    /**
+     * 현재 사용 가능한 원소를 최대 {@code limit}개까지 꺼내 {@code consumer}에 넘깁니다.
+     * consumer 인덱스는 일괄 처리가 끝난 뒤 한 번만 갱신합니다.
+     *
+     * @param consumer 꺼낸 원소를 받을 콜백
+     * @param limit    꺼낼 최대 원소 수
+     * @return 꺼낸 원소 수
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        if (consumer == null) {
+            throw new NullPointerException("consumer");
+        }
+        if (limit <= 0) {
+            return 0;
+        }
+        long cIndex = consumerIndex;
+        int count = (int) Math.min(limit, producerIndex - cIndex);
+        if (count <= 0) {
+            return 0;
+        }
+        int i = 0;
+        try {
+            while (i < count) {
+                long index = cIndex + i;
+                E e = spinForElement(index);
+                consumerChunk.lazySet((int) (index & chunkMask), null);
+                i++;
+                consumer.accept(e);
+            }
+        } finally {
+            // 콜백이 예외를 던져도 이미 꺼낸 원소까지는 소비된 것으로 처리
+            CONSUMER_INDEX.setRelease(this, cIndex + i);
+        }
+        return count;
+    }
+
+    /**
+     * {@code index} 슬롯의 원소를 반환합니다. 생산자가 인덱스를 차지했지만 아직 기록하지 않았으면 기다립니다.
+     * 필요하면 소비자 청크를 다음 청크로 옮깁니다.
+     */
+    private E spinForElement(long index) {
+        Chunk<E> chunk = consumerChunk;
+        if (chunk.index != index >>> chunkShift) {
+            Chunk<E> next;
+            while ((next = chunk.next) == null) {
+                Thread.onSpinWait();
+            }
+            chunk = next;
+            consumerChunk = next;
+        }
+        int offset = (int) (index & chunkMask);
+        E e;
+        while ((e = chunk.get(offset)) == null) {
+            Thread.onSpinWait();
+        }
+        return e;
+    }
+
+    /**
+     * 큐에 있는 원소 수의 근사값을 반환합니다.
+     *
+     * @return 원소 수
+     */
+    @Override
+    public int size() {
+        long size = producerIndex - consumerIndex;
+        return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) Math.max(size, 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex >= producerIndex;
+    }
+
+    /**
+     * 지원하지 않습니다.
+     *
+     * @throws UnsupportedOperationException 항상
+     */
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * 큐의 원소를 순회하지 않고 근사 크기만 나타내는 문자열을 반환합니다.
+     * {@link #iterator()}를 지원하지 않으므로 {@link AbstractQueue}의 기본 구현 대신 사용됩니다.
+     *
+     * @return 큐를 나타내는 문자열
+     */
+    @Override
+    public String toString() {
+        return "MpscChunkedArrayQueue(size: " + size() + ", chunkSize: " + (chunkMask + 1)
+                + (capacity == Long.MAX_VALUE ? "" : ", capacity: " + capacity) + ')';
+    }
+
+    /**
+     * 원소를 저장하는 배열 청크.
+     */
+    static final class Chunk<E> extends AtomicReferenceArray<E> {
+
+        private static final long serialVersionUID = 1L;
+
+        static final VarHandle NEXT;
+
+        static {
+            try {
+                NEXT = MethodHandles.lookup().findVarHandle(Chunk.class, "next", Chunk.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /** 청크 번호 (producer 인덱스 / 청크 크기) */
+        final long index;
+        volatile Chunk<E> next;
+
+        Chunk(long index, int size) {
+            super(size);
+            this.index = index;
+        }
+    }
+}
+
+/**
+ * 생산자 필드 앞의 캐시 라인 패딩.
+ */
+abstract class MpscQueuePad0<E> extends AbstractQueue<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+/**
+ * 생산자가 갱신하는 필드.
+ */
+abstract class MpscQueueProducerFields<E> extends MpscQueuePad0<E> {
+    /** 다음에 차지할 슬롯 번호 */
+    volatile long producerIndex;
+    /** 마지막으로 알려진 생산자 청크 (탐색 시작점 힌트) */
+    volatile MpscChunkedArrayQueue.Chunk<E> producerChunk;
+}
+
+/**
+ * 생산자 필드와 소비자 필드 사이의 캐시 라인 패딩.
+ */
+abstract class MpscQueuePad1<E> extends MpscQueueProducerFields<E> {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+/**
+ * 소비자가 갱신하는 필드.
+ */
+abstract class MpscQueueConsumerFields<E> extends MpscQueuePad1<E> {
+    /** 다음에 읽을 슬롯 번호 */
+    volatile long consumerIndex;
+    /** 소비자가 읽고 있는 청크 */
+    volatile MpscChunkedArrayQueue.Chunk<E> consumerChunk;
+}
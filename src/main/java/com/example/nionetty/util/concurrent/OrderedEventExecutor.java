@@ -0,0 +1,120 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code OrderedEventExecutor} 클래스는 공유 {@link Executor} 위에서 작업을 순서대로 하나씩 실행하는
+ * {@link EventExecutor}입니다.
+ * <p>
+ * 작업이 들어오면 대기열에 넣고, 실행 중인 배치가 없을 때만 대기열을 비우는 배치 하나를 공유 실행기에 넘깁니다.
+ * 따라서 여러 인스턴스가 같은 공유 실행기(예: 가상 스레드 실행기)를 써도 인스턴스 안에서는 동시에 실행되지 않고
+ * 순서가 유지되며, 작업이 없는 인스턴스는 스레드를 차지하지 않습니다.
+ * </p>
+ * <p>
+ * 공유 실행기가 종료되어 배치를 넘길 수 없으면 대기열에 남은 작업은 실행되지 못합니다. 이때 작업 중
+ * {@link Future}인 것은 취소해, 작업을 넘긴 쪽이 메시지 해제 같은 정리를 할 수 있게 합니다.
+ * </p>
+ */
+final class OrderedEventExecutor implements EventExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderedEventExecutor.class);
+
+    /** 한 배치에서 실행할 최대 작업 수 (다른 인스턴스가 공유 실행기를 독점당하지 않도록 제한) */
+    private static final int MAX_TASKS_PER_RUN = 1024;
+
+    private final Executor executor;
+
+    /** 대기 중인 작업 (다수 생산자, {@link #scheduled}를 차지한 스레드만 소비) */
+    private final MpscChunkedArrayQueue<Runnable> tasks = new MpscChunkedArrayQueue<>();
+
+    /** 배치가 공유 실행기에 넘겨졌거나 실행 중인지 여부 */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /** 배치를 실행 중인 스레드 */
+    private volatile Thread runner;
+
+    private final Runnable drainTask = this::drain;
+
+    OrderedEventExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        tasks.offer(task);
+        scheduleIfNecessary();
+    }
+
+    @Override
+    public boolean inEventLoop() {
+        return Thread.currentThread() == runner;
+    }
+
+    private void scheduleIfNecessary() {
+        if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(drainTask);
+            } catch (RejectedExecutionException e) {
+                // 공유 실행기가 종료됨: 넘겨진 작업은 실행될 수 없으므로 취소
+                cancelPendingTasks();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 대기열의 작업을 모두 꺼내 취소합니다. {@link #scheduled}를 차지한 스레드만 호출하며, 돌려놓은 사이 다른
+     * 스레드가 넣은 작업도 다시 차지해 마저 취소합니다.
+     */
+    private void cancelPendingTasks() {
+        do {
+            while (tasks.drain(OrderedEventExecutor::cancel, MAX_TASKS_PER_RUN) > 0) {
+                // 대기열이 빌 때까지 반복
+            }
+            scheduled.set(false);
+        } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    private static void cancel(Runnable task) {
+        if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+        } else {
+            logger.debug("실행기가 종료되어 작업을 버립니다: {}", task);
+        }
+    }
+
+    private static void safeExecute(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("작업 실행 중 예외 발생", t);
+        }
+    }
+
+    private void drain() {
+        runner = Thread.currentThread();
+        try {
+            tasks.drain(OrderedEventExecutor::safeExecute, MAX_TASKS_PER_RUN);
+        } finally {
+            runner = null;
+            scheduled.set(false);
+        }
+        // 배치를 끝내는 사이 들어온 작업이 있으면 다시 넘김
+        if (!tasks.isEmpty()) {
+            try {
+                scheduleIfNecessary();
+            } catch (RejectedExecutionException e) {
+                logger.debug("실행기가 종료되어 남은 작업을 취소했습니다", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code ScheduledFutureTask} 클래스는 {@link AbstractScheduledEventExecutor}의 예약 작업 하나를 나타냅니다.
+ * <p>
+ * 마감 시각은 {@link AbstractScheduledEventExecutor#nanoTime()} 기준의 나노초 값이며, 마감 시각이 같으면
+ * 먼저 예약된 작업이 먼저 실행되도록 생성 순번으로 순서를 정합니다. 주기 작업은 실행이 끝나면 다음 마감 시각을
+ * 계산해 스스로 예약 큐에 다시 들어가며, 실행 중 예외가 발생하거나 취소되면 더 이상 반복되지 않습니다.
+ * </p>
+ *
+ * @param <V> 작업 결과 타입
+ */
+final class ScheduledFutureTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+
+    /** 마감 시각이 같은 작업의 순서를 정하기 위한 생성 순번 */
+    private static final AtomicLong NEXT_SEQUENCE = new AtomicLong();
+
+    private final AbstractScheduledEventExecutor executor;
+
+    private final long sequence = NEXT_SEQUENCE.getAndIncrement();
+
+    /** 다음 실행 마감 시각(ns), 루프 스레드만 갱신 */
+    private long deadlineNanos;
+
+    /** 0이면 1회 실행, 양수면 고정 주기, 음수면 고정 지연 (ns) */
+    private final long periodNanos;
+
+    /** 예약 큐에 없음을 나타내는 {@link #queueIndex()} 값 */
+    static final int INDEX_NOT_IN_QUEUE = -1;
+
+    /** {@link ScheduledTaskQueue} 힙 배열에서의 위치, 루프 스레드만 갱신 */
+    private int queueIndex = INDEX_NOT_IN_QUEUE;
+
+    ScheduledFutureTask(AbstractScheduledEventExecutor executor, Callable<V> callable, long deadlineNanos) {
+        super(callable);
+        this.executor = executor;
+        this.deadlineNanos = deadlineNanos;
+        this.periodNanos = 0;
+    }
+
+    ScheduledFutureTask(AbstractScheduledEventExecutor executor, Runnable runnable, long deadlineNanos,
+                        long periodNanos) {
+        super(runnable, null);
+        this.executor = executor;
+        this.deadlineNanos = deadlineNanos;
+        this.periodNanos = periodNanos;
+    }
+
+    long deadlineNanos() {
+        return deadlineNanos;
+    }
+
+    int queueIndex() {
+        return queueIndex;
+    }
+
+    void queueIndex(int queueIndex) {
+        this.queueIndex = queueIndex;
+    }
+
+    /**
+     * 주어진 시각 기준으로 마감까지 남은 시간을 반환합니다. 이미 지났으면 0입니다.
+     *
+     * @param currentTimeNanos {@link AbstractScheduledEventExecutor#nanoTime()} 기준의 현재 시각
+     * @return 남은 시간(ns)
+     */
+    long delayNanos(long currentTimeNanos) {
+        return Math.max(0, deadlineNanos - currentTimeNanos);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadlineNanos - AbstractScheduledEventExecutor.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+        if (this == o) {
+            return 0;
+        }
+        ScheduledFutureTask<?> that = (ScheduledFutureTask<?>) o;
+        int c = Long.compare(deadlineNanos, that.deadlineNanos);
+        return c != 0 ? c : Long.compare(sequence, that.sequence);
+    }
+
+    @Override
+    public boolean isPeriodic() {
+        return periodNanos != 0;
+    }
+
+    /**
+     * 작업을 실행합니다. 루프 스레드에서만 호출됩니다.
+     * 주기 작업은 정상적으로 끝나면 다음 마감 시각을 계산해 예약 큐에 다시 넣습니다.
+     */
+    @Override
+    public void run() {
+        if (periodNanos == 0) {
+            super.run();
+            return;
+        }
+        if (!runAndReset() || executor.isShutdown()) {
+            return;
+        }
+        if (periodNanos > 0) {
+            deadlineNanos += periodNanos;
+        } else {
+            deadlineNanos = AbstractScheduledEventExecutor.nanoTime() - periodNanos;
+        }
+        executor.scheduleFromEventLoop(this);
+    }
+
+    /**
+     * 작업을 취소하고 예약 큐에서 제거합니다. 다른 스레드에서 호출되면 제거는 루프 스레드로 넘겨집니다.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled) {
+            executor.removeScheduled(this);
+        }
+        return cancelled;
+    }
+}
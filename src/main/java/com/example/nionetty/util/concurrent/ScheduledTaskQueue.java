@@ -0,0 +1,161 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.Arrays;
+
+/**
+ * {@code ScheduledTaskQueue} 클래스는 {@link ScheduledFutureTask}를 마감 시각 순으로 보관하는 이진 최소 힙입니다.
+ * <p>
+ * 각 작업은 힙 배열에서의 자신의 위치를 기억하므로, 취소된 작업을 {@link java.util.PriorityQueue#remove(Object)}처럼
+ * 큐 전체를 훑지 않고 O(log n)에 제거할 수 있습니다. 연결이 한꺼번에 끊겨 타임아웃 작업이 대량으로 취소되어도
+ * 루프 스레드가 큐 크기에 비례하는 비용을 치르지 않습니다.
+ * </p>
+ * <p>
+ * 루프 스레드 전용이며 동기화하지 않습니다.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+final class ScheduledTaskQueue {
+
+    private static final ScheduledFutureTask<?>[] EMPTY = new ScheduledFutureTask<?>[0];
+
+    private ScheduledFutureTask<?>[] queue;
+    private int size;
+
+    /**
+     * 지정한 초기 용량의 빈 큐를 생성합니다.
+     *
+     * @param initialCapacity 초기 용량
+     */
+    ScheduledTaskQueue(int initialCapacity) {
+        this.queue = initialCapacity > 0 ? new ScheduledFutureTask<?>[initialCapacity] : EMPTY;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 작업을 추가합니다. 이미 큐에 있는 작업은 추가할 수 없습니다.
+     *
+     * @param task 추가할 작업
+     * @throws IllegalArgumentException 작업이 이미 큐에 있는 경우
+     */
+    void add(ScheduledFutureTask<?> task) {
+        if (task.queueIndex() != ScheduledFutureTask.INDEX_NOT_IN_QUEUE) {
+            throw new IllegalArgumentException("task already in queue: " + task);
+        }
+        if (size == queue.length) {
+            queue = Arrays.copyOf(queue, Math.max(16, size + (size >>> 1)));
+        }
+        siftUp(size++, task);
+    }
+
+    /**
+     * 마감 시각이 가장 이른 작업을 꺼내지 않고 반환합니다.
+     *
+     * @return 가장 이른 작업, 비어 있으면 {@code null}
+     */
+    ScheduledFutureTask<?> peek() {
+        return size == 0 ? null : queue[0];
+    }
+
+    /**
+     * 마감 시각이 가장 이른 작업을 꺼냅니다.
+     *
+     * @return 가장 이른 작업, 비어 있으면 {@code null}
+     */
+    ScheduledFutureTask<?> poll() {
+        if (size == 0) {
+            return null;
+        }
+        ScheduledFutureTask<?> result = queue[0];
+        result.queueIndex(ScheduledFutureTask.INDEX_NOT_IN_QUEUE);
+        ScheduledFutureTask<?> last = queue[--size];
+        queue[size] = null;
+        if (size != 0) {
+            siftDown(0, last);
+        }
+        return result;
+    }
+
+    /**
+     * 작업이 기억하는 위치를 이용해 O(log n)에 제거합니다.
+     *
+     * @param task 제거할 작업
+     * @return 큐에 있어 제거했으면 {@code true}
+     */
+    boolean remove(ScheduledFutureTask<?> task) {
+        int i = task.queueIndex();
+        if (i < 0 || i >= size || queue[i] != task) {
+            return false;
+        }
+        task.queueIndex(ScheduledFutureTask.INDEX_NOT_IN_QUEUE);
+        int lastIndex = --size;
+        ScheduledFutureTask<?> last = queue[lastIndex];
+        queue[lastIndex] = null;
+        if (i != lastIndex) {
+            // 마지막 원소를 빈자리에 놓고, 부모보다 작으면 올리고 아니면 내림
+            siftDown(i, last);
+            if (queue[i] == last) {
+                siftUp(i, last);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 작업을 꺼내 반환하고 큐를 비웁니다.
+     *
+     * @return 큐에 있던 작업 (순서 보장 없음)
+     */
+    ScheduledFutureTask<?>[] clear() {
+        ScheduledFutureTask<?>[] tasks = Arrays.copyOf(queue, size);
+        for (ScheduledFutureTask<?> task : tasks) {
+            task.queueIndex(ScheduledFutureTask.INDEX_NOT_IN_QUEUE);
+        }
+        Arrays.fill(queue, 0, size, null);
+        size = 0;
+        return tasks;
+    }
+
+    private void siftUp(int k, ScheduledFutureTask<?> task) {
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            ScheduledFutureTask<?> e = queue[parent];
+            if (task.compareTo(e) >= 0) {
+                break;
+            }
+            queue[k] = e;
+            e.queueIndex(k);
+            k = parent;
+        }
+        queue[k] = task;
+        task.queueIndex(k);
+    }
+
+    private void siftDown(int k, ScheduledFutureTask<?> task) {
+        int half = size >>> 1;
+        while (k < half) {
+            int child = (k << 1) + 1;
+            ScheduledFutureTask<?> c = queue[child];
+            int right = child + 1;
+            if (right < size && c.compareTo(queue[right]) > 0) {
+                c = queue[child = right];
+            }
+            if (task.compareTo(c) <= 0) {
+                break;
+            }
+            queue[k] = c;
+            c.queueIndex(k);
+            k = child;
+        }
+        queue[k] = task;
+        task.queueIndex(k);
+    }
+}
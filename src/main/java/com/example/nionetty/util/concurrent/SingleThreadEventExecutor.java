@@ -0,0 +1,164 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code SingleThreadEventExecutor} 클래스는 전용 스레드 하나가 작업 큐를 직접 비우며 작업을 순서대로 실행하는
+ * {@link EventExecutor}입니다.
+ * <p>
+ * 스레드는 첫 작업이 들어올 때 시작하며, 큐가 비면 {@link LockSupport#park()}로 대기하고 작업을 넣은 스레드가
+ * 깨웁니다. 작업은 이 큐에만 쌓이므로 {@link java.util.concurrent.ExecutorService} 위에 순서 보장 큐를 한 번 더
+ * 두는 것과 달리 작업마다 큐를 두 번 거치지 않습니다.
+ * </p>
+ * <p>
+ * {@link #shutdown()} 뒤에는 새 작업을 거부하며, 이미 받아들인 작업은 모두 실행한 뒤 스레드가 끝납니다.
+ * 스레드가 시작되기 전에 종료되어 실행할 스레드가 없는 작업은, {@link OrderedEventExecutor}처럼 {@link Future}이면
+ * 취소해 작업을 넘긴 쪽이 정리할 수 있게 합니다.
+ * </p>
+ */
+final class SingleThreadEventExecutor implements EventExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleThreadEventExecutor.class);
+
+    /** 한 번의 일괄 꺼내기로 실행할 최대 작업 수 */
+    private static final int MAX_TASKS_PER_DRAIN = 256;
+
+    /** 실행할 작업 큐 (다수 생산자, 실행기 스레드 단일 소비자) */
+    private final MpscChunkedArrayQueue<Runnable> taskQueue = new MpscChunkedArrayQueue<>();
+
+    private final ThreadFactory threadFactory;
+
+    /** 스레드를 시작했는지(또는 시작하지 않고 종료했는지) 여부 */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /** 작업을 실행하는 스레드 (첫 작업이 들어올 때 시작) */
+    private volatile Thread thread;
+
+    /** 스레드가 빈 큐를 보고 대기하려는 중인지 여부 */
+    private volatile boolean parked;
+
+    private volatile boolean shutdown;
+
+    /**
+     * 종료 확인을 통과했지만 아직 큐에 넣지 못한 {@link #execute(Runnable)} 호출 수.
+     * 스레드는 종료 후 이 값이 0이 될 때까지 기다린 뒤 큐를 마지막으로 비우므로, 받아들인 작업이 남지 않습니다.
+     */
+    private final AtomicInteger pendingOffers = new AtomicInteger();
+
+    SingleThreadEventExecutor(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        // 종료 확인보다 먼저 표시해야 스레드가 종료를 본 뒤 이 호출을 놓치지 않음
+        pendingOffers.incrementAndGet();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("executor shut down");
+            }
+            taskQueue.offer(task);
+        } finally {
+            pendingOffers.decrementAndGet();
+        }
+        if (!inEventLoop()) {
+            startThreadIfNecessary();
+            wakeup();
+        }
+    }
+
+    @Override
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * 새 작업을 거부하고, 받아들인 작업을 모두 실행한 뒤 스레드를 끝냅니다.
+     * 스레드가 시작되기 전이면 받아들인 작업을 취소합니다.
+     */
+    void shutdown() {
+        shutdown = true;
+        if (started.compareAndSet(false, true)) {
+            // 스레드 시작을 가로챘으므로 종료 확인을 통과한 호출이 넣은 작업은 실행될 수 없음: 취소
+            while (pendingOffers.get() != 0) {
+                Thread.yield();
+            }
+            while (taskQueue.drain(SingleThreadEventExecutor::cancel, MAX_TASKS_PER_DRAIN) > 0) {
+                // 큐가 빌 때까지 반복
+            }
+        } else {
+            // 시작된 스레드는 깨워서 남은 작업을 비우고 끝나게 함
+            wakeup();
+        }
+    }
+
+    boolean isShutdown() {
+        return shutdown;
+    }
+
+    private void startThreadIfNecessary() {
+        if (!started.get() && started.compareAndSet(false, true)) {
+            Thread t = threadFactory.newThread(this::run);
+            thread = t;
+            t.start();
+        }
+    }
+
+    private void wakeup() {
+        Thread t = thread;
+        if (parked && t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    private void run() {
+        for (;;) {
+            if (taskQueue.drain(SingleThreadEventExecutor::safeExecute, MAX_TASKS_PER_DRAIN) > 0) {
+                continue;
+            }
+            if (shutdown) {
+                // 종료 확인을 통과한 호출이 작업을 다 넣을 때까지 기다린 뒤 마지막으로 비움
+                while (pendingOffers.get() != 0) {
+                    Thread.yield();
+                }
+                if (taskQueue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            // 대기 표시 후 큐를 다시 확인해야 그 사이 들어온 작업의 깨우기를 놓치지 않음
+            parked = true;
+            if (taskQueue.isEmpty() && !shutdown) {
+                LockSupport.park(this);
+            }
+            parked = false;
+        }
+    }
+
+    private static void cancel(Runnable task) {
+        if (task instanceof Future) {
+            ((Future<?>) task).cancel(false);
+        } else {
+            logger.debug("실행기가 시작 전에 종료되어 작업을 버립니다: {}", task);
+        }
+    }
+
+    private static void safeExecute(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable t) {
+            logger.warn("작업 실행 중 예외 발생", t);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.nionetty.util.concurrent;
+
+/**
+ * {@code Timeout} 인터페이스는 {@link Timer#newTimeout(TimerTask, long, java.util.concurrent.TimeUnit)}가
+ * 반환하는 예약 핸들로, 만료 여부를 확인하거나 예약을 취소하는 데 사용합니다.
+ *
+ * @see Timer
+ *
+ * @author
+ * @version 1.0
+ */
+public interface Timeout {
+
+    /**
+     * 이 예약을 만든 타이머를 반환합니다.
+     *
+     * @return {@link Timer}
+     */
+    Timer timer();
+
+    /**
+     * 예약된 작업을 반환합니다.
+     *
+     * @return {@link TimerTask}
+     */
+    TimerTask task();
+
+    /**
+     * 예약이 만료되어 작업이 실행되었거나 실행을 위해 넘겨졌는지 확인합니다.
+     *
+     * @return 만료되었으면 {@code true}
+     */
+    boolean isExpired();
+
+    /**
+     * 예약이 취소되었는지 확인합니다.
+     *
+     * @return 취소되었으면 {@code true}
+     */
+    boolean isCancelled();
+
+    /**
+     * 예약을 취소합니다. 이미 만료되었거나 취소된 경우에는 아무 일도 하지 않습니다.
+     *
+     * @return 이번 호출로 취소되었으면 {@code true}
+     */
+    boolean cancel();
+}
@@ -0,0 +1,38 @@
+package com.example.nionetty.util.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Timer} 인터페이스는 {@link TimerTask}를 지정한 지연 후 한 번 실행하도록 예약합니다.
+ * <p>
+ * 연결별 읽기/유휴 타임아웃처럼 대부분 만료 전에 취소되는 대량의 예약을 위한 것으로,
+ * 구현은 추가와 취소를 저렴하게 처리하는 대신 만료 시각의 정밀도를 낮출 수 있습니다.
+ * </p>
+ *
+ * @see HashedWheelTimer
+ *
+ * @author
+ * @version 1.0
+ */
+public interface Timer {
+
+    /**
+     * 작업을 지정한 지연 후 한 번 실행하도록 예약합니다.
+     *
+     * @param task  실행할 작업
+     * @param delay 지연 시간
+     * @param unit  지연 시간 단위
+     * @return 예약 핸들
+     * @throws IllegalStateException 타이머가 이미 종료된 경우
+     */
+    Timeout newTimeout(TimerTask task, long delay, TimeUnit unit);
+
+    /**
+     * 타이머를 종료하고, 아직 만료되지 않은 예약들을 반환합니다.
+     * 반환된 예약의 작업은 실행되지 않습니다.
+     *
+     * @return 실행되지 않은 예약 목록
+     */
+    Set<Timeout> stop();
+}
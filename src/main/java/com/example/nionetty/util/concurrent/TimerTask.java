@@ -0,0 +1,21 @@
+package com.example.nionetty.util.concurrent;
+
+/**
+ * {@code TimerTask} 인터페이스는 {@link Timer}에 예약되어 지정한 지연 후 실행되는 작업을 정의합니다.
+ *
+ * @see Timer
+ *
+ * @author
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface TimerTask {
+
+    /**
+     * 예약한 지연이 지나면 실행됩니다.
+     *
+     * @param timeout 이 작업에 대한 {@link Timeout} 핸들
+     * @throws Exception 작업 실행 중 발생한 예외 (타이머는 로그만 남기고 계속 동작)
+     */
+    void run(Timeout timeout) throws Exception;
+}
@@ -0,0 +1,94 @@
+package com.example.nionetty.util.concurrent;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@code VirtualThreadEventExecutorGroup} 클래스는 핸들러의 이벤트를 가상 스레드에서 실행하는
+ * {@link EventExecutorGroup}입니다.
+ * <p>
+ * JDBC나 파일 I/O처럼 블로킹 호출이 필요한 핸들러를 이 그룹과 함께 파이프라인에 추가하면, 블로킹이 이벤트 루프
+ * 스레드가 아니라 가상 스레드에서 일어나므로 같은 루프의 다른 채널 지연 시간에 영향을 주지 않습니다. 플랫폼 스레드
+ * 풀과 달리 동시에 블로킹 중인 채널 수만큼 스레드를 미리 둘 필요가 없습니다.
+ * </p>
+ * <p>
+ * {@link #next()}는 호출마다 새 {@link OrderedEventExecutor}를 반환하므로 채널마다 이벤트가 순서대로
+ * 하나씩 실행되며, 실제 실행은 모두 하나의 가상 스레드 실행기를 공유합니다. 런타임이 가상 스레드를 지원하지 않으면
+ * (Java 21 미만) 데몬 플랫폼 스레드를 필요한 만큼 만드는 캐시 스레드 풀로 대신합니다.
+ * </p>
+ *
+ * <pre>
+ * EventExecutorGroup blockingGroup = new VirtualThreadEventExecutorGroup();
+ * ch.pipeline().addLast(blockingGroup, new JdbcQueryHandler());
+ * </pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class VirtualThreadEventExecutorGroup implements EventExecutorGroup {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadEventExecutorGroup.class);
+
+    private final ExecutorService executor;
+
+    private final boolean virtual;
+
+    /**
+     * 가상 스레드 실행기를 만들어 그룹을 생성합니다. 가상 스레드를 쓸 수 없으면 캐시 스레드 풀을 사용합니다.
+     */
+    public VirtualThreadEventExecutorGroup() {
+        ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+        if (virtualExecutor != null) {
+            this.executor = virtualExecutor;
+            this.virtual = true;
+        } else {
+            logger.info("가상 스레드를 사용할 수 없어 플랫폼 스레드 풀로 대신합니다");
+            this.executor = Executors.newCachedThreadPool(new DefaultThreadFactory("blockingHandler", true));
+            this.virtual = false;
+        }
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()}를 리플렉션으로 호출합니다.
+     * 컴파일 대상(Java 17)에는 없는 API이므로 실행 중인 런타임에서만 찾습니다.
+     *
+     * @return 가상 스레드 실행기, 지원하지 않으면 {@code null}
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            // Java 19/20에서 프리뷰가 꺼져 있으면 InvocationTargetException(UnsupportedOperationException)
+            logger.debug("가상 스레드 실행기를 만들 수 없습니다", e);
+            return null;
+        }
+    }
+
+    /**
+     * 핸들러의 이벤트가 가상 스레드에서 실행되는지 확인합니다.
+     *
+     * @return 가상 스레드를 사용하면 {@code true}, 플랫폼 스레드 풀로 대신했으면 {@code false}
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    @Override
+    public EventExecutor next() {
+        return new OrderedEventExecutor(executor);
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CompositeBuffer}의 구성 요소 경계 조회, 잘라내기, 합치기와 해제를 검증합니다.
+ */
+class CompositeBufferTest {
+
+    private PooledBufferAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new PooledBufferAllocator(1, 1, 8192, 4, 0);
+    }
+
+    private CustomBuffer buffer(byte... data) {
+        CustomBuffer buf = allocator.heapBuffer(Math.max(1, data.length));
+        buf.write(data);
+        return buf;
+    }
+
+    private CustomBuffer buffer(String s) {
+        return buffer(s.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String readAll(CustomBuffer buf) {
+        return new String(buf.read(buf.readableBytes()), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void getIntAcrossComponentBoundary() {
+        CompositeBuffer composite = allocator.compositeBuffer()
+                .addComponents(buffer((byte) 0x01, (byte) 0x02), buffer((byte) 0x03, (byte) 0x04, (byte) 0xff));
+
+        assertEquals(2, composite.numComponents());
+        assertEquals(0x01020304, composite.getInt(0));
+        assertEquals(0x020304ff, composite.getInt(1));
+        // 읽기 위치 기준이므로 건너뛴 만큼 앞당겨짐
+        composite.skipBytes(1);
+        assertEquals(0x020304ff, composite.getInt(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> composite.getInt(1));
+        assertEquals(5, composite.writeIndex);
+        composite.release();
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void readRetainedSliceAndDiscardReadComponentsShiftIndexes() {
+        CompositeBuffer composite = allocator.compositeBuffer()
+                .addComponents(buffer("abc"), buffer("de"), buffer("fgh"));
+        composite.skipBytes(1);
+
+        CompositeBuffer slice = composite.readRetainedSlice(3);
+        assertEquals(2, slice.numComponents());
+        assertEquals(3, slice.readableBytes());
+        assertEquals(4, composite.readIndex);
+
+        // "abc"는 모두 읽었고 "de"는 일부만 읽음: 첫 구성 요소만 제거되고 인덱스가 당겨짐
+        composite.discardReadComponents();
+        assertEquals(2, composite.numComponents());
+        assertEquals(1, composite.readIndex);
+        assertEquals(5, composite.writeIndex);
+        assertEquals('e', composite.getByte(0));
+
+        composite.skipBytes(1);
+        composite.discardReadComponents();
+        assertEquals(1, composite.numComponents());
+        assertEquals(0, composite.readIndex);
+        assertEquals("fgh", readAll(composite));
+
+        // 잘라낸 버퍼는 원본의 구성 요소를 유지하므로 제거 후에도 읽을 수 있음
+        assertEquals("bcd", readAll(slice));
+        composite.release();
+        assertEquals(2, allocator.metric().numActiveAllocations());
+        slice.release();
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void consolidateWithPartiallyReadFirstComponent() {
+        CompositeBuffer composite = allocator.compositeBuffer()
+                .addComponents(buffer("hello"), buffer(" wor"), buffer("ld"));
+        composite.skipBytes(2);
+
+        composite.consolidate();
+        assertEquals(1, composite.numComponents());
+        assertEquals(0, composite.readIndex);
+        assertEquals(9, composite.readableBytes());
+        assertEquals('l', composite.getByte(0));
+        assertArrayEquals("llo world".getBytes(StandardCharsets.US_ASCII), composite.read(9));
+
+        composite.release();
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void consolidatesWhenMaxComponentsExceeded() {
+        CompositeBuffer composite = allocator.compositeBuffer(2)
+                .addComponents(buffer("ab"), buffer("cd"), buffer("ef"));
+
+        assertEquals(2, composite.numComponents());
+        assertEquals("abcdef", readAll(composite));
+        composite.release();
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 아레나가 요청 크기를 small/normal/huge 크기 클래스로 정규화해 할당하는지 검증합니다.
+ */
+class PoolArenaTest {
+
+    private static final int PAGE_SIZE = 8192;
+    private static final int MAX_ORDER = 4;
+    private static final int CHUNK_SIZE = PAGE_SIZE << MAX_ORDER;
+
+    private PooledBufferAllocator allocator;
+    private PoolArena<byte[]> arena;
+
+    @BeforeEach
+    void setUp() {
+        // 아레나 하나만 두어 모든 할당이 같은 아레나로 가도록 함
+        allocator = new PooledBufferAllocator(1, 0, PAGE_SIZE, MAX_ORDER, 0);
+        arena = allocator.heapArenas()[0];
+    }
+
+    @Test
+    void normalizesToSizeClasses() {
+        // small: 16바이트 이상의 2의 거듭제곱
+        assertEquals(16, arena.normalizeCapacity(1));
+        assertEquals(16, arena.normalizeCapacity(16));
+        assertEquals(32, arena.normalizeCapacity(17));
+        assertEquals(1024, arena.normalizeCapacity(1000));
+        assertEquals(4096, arena.normalizeCapacity(4096));
+        // normal: 페이지 크기 이상의 2의 거듭제곱
+        assertEquals(PAGE_SIZE, arena.normalizeCapacity(PAGE_SIZE));
+        assertEquals(2 * PAGE_SIZE, arena.normalizeCapacity(PAGE_SIZE + 1));
+        // 청크 크기 이상은 그대로
+        assertEquals(CHUNK_SIZE, arena.normalizeCapacity(CHUNK_SIZE));
+        assertEquals(CHUNK_SIZE + 1, arena.normalizeCapacity(CHUNK_SIZE + 1));
+    }
+
+    @Test
+    void smallRequestsShareSubpage() {
+        CustomBuffer a = allocator.heapBuffer(100);
+        CustomBuffer b = allocator.heapBuffer(120);
+
+        assertEquals(100, a.capacity());
+        assertEquals(128, a.maxLength);
+        assertTrue((a.handle >>> 32) != 0);
+        // 같은 크기 클래스는 같은 서브페이지의 이웃 원소를 사용
+        assertSame(a.chunk, b.chunk);
+        assertEquals((int) a.handle, (int) b.handle);
+        assertEquals(a.offset + 128, b.offset);
+
+        a.release();
+        b.release();
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void normalRequestsUsePageRuns() {
+        CustomBuffer a = allocator.heapBuffer(10000);
+        CustomBuffer b = allocator.heapBuffer(PAGE_SIZE);
+
+        assertEquals(2 * PAGE_SIZE, a.maxLength);
+        assertEquals(0, a.handle >>> 32);
+        assertEquals(0, a.offset % (2 * PAGE_SIZE));
+        assertEquals(PAGE_SIZE, b.maxLength);
+        assertSame(a.chunk, b.chunk);
+        assertEquals(1, arena.numChunks());
+
+        PoolChunk<?> chunk = a.chunk;
+        a.release();
+        b.release();
+        // 반환된 런은 합쳐지고, 빈 청크 하나는 예비로 유지됨
+        assertEquals(CHUNK_SIZE, chunk.freeBytes);
+        assertEquals(1, arena.numChunks());
+    }
+
+    @Test
+    void fullChunkAllocatesAnother() {
+        CustomBuffer a = allocator.heapBuffer(CHUNK_SIZE);
+        CustomBuffer b = allocator.heapBuffer(PAGE_SIZE);
+
+        assertNotEquals(a.chunk, b.chunk);
+        assertEquals(2, arena.numChunks());
+        assertEquals(2, arena.numChunkAllocations());
+
+        a.release();
+        b.release();
+        // 빈 청크는 하나만 남기고 반환
+        assertEquals(1, arena.numChunks());
+    }
+
+    @Test
+    void hugeRequestsAreNotPooled() {
+        CustomBuffer huge = allocator.heapBuffer(CHUNK_SIZE + 1);
+
+        assertTrue(huge.chunk.unpooled);
+        assertEquals(CHUNK_SIZE + 1, huge.maxLength);
+        assertEquals(1, arena.numHugeAllocations());
+        assertEquals(0, arena.numChunks());
+        assertEquals(CHUNK_SIZE + 1, arena.usedMemory());
+
+        huge.release();
+        assertNull(huge.chunk);
+        assertEquals(0, arena.usedMemory());
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 청크의 버디 트리가 페이지 런을 할당하고, 반환된 버디를 다시 합치는지 검증합니다.
+ */
+class PoolChunkTest {
+
+    private static final int PAGE_SIZE = 8192;
+    private static final int MAX_ORDER = 4;
+    private static final int CHUNK_SIZE = PAGE_SIZE << MAX_ORDER;
+
+    private PoolArena<byte[]> arena;
+    private PoolChunk<byte[]> chunk;
+
+    @BeforeEach
+    void setUp() {
+        PooledBufferAllocator allocator = new PooledBufferAllocator(1, 0, PAGE_SIZE, MAX_ORDER, 0);
+        arena = allocator.heapArenas()[0];
+        chunk = arena.newChunk(PAGE_SIZE, MAX_ORDER, arena.pageShifts, CHUNK_SIZE);
+    }
+
+    @Test
+    void wholeChunkRunIsRootNode() {
+        long handle = chunk.allocate(CHUNK_SIZE);
+
+        assertEquals(1, handle);
+        assertEquals(0, chunk.offsetOf(handle));
+        assertEquals(CHUNK_SIZE, chunk.lengthOf(handle));
+        assertEquals(0, chunk.freeBytes);
+        // 남은 공간이 없으므로 가장 작은 런도 할당 불가
+        assertEquals(-1, chunk.allocate(PAGE_SIZE));
+
+        chunk.free(handle);
+        assertEquals(CHUNK_SIZE, chunk.freeBytes);
+        assertEquals(1, chunk.allocate(CHUNK_SIZE));
+    }
+
+    @Test
+    void allocatesEveryPageExactlyOnce() {
+        Set<Integer> offsets = new HashSet<>();
+        for (int i = 0; i < 1 << MAX_ORDER; i++) {
+            long handle = chunk.allocate(PAGE_SIZE);
+            assertTrue(handle > 0);
+            int offset = chunk.offsetOf(handle);
+            assertEquals(0, offset % PAGE_SIZE);
+            assertTrue(offsets.add(offset));
+            assertEquals(PAGE_SIZE, chunk.lengthOf(handle));
+        }
+        assertEquals(0, chunk.freeBytes);
+        assertEquals(-1, chunk.allocate(PAGE_SIZE));
+    }
+
+    @Test
+    void runsAreAlignedToTheirSize() {
+        long twoPages = chunk.allocate(2 * PAGE_SIZE);
+        long page1 = chunk.allocate(PAGE_SIZE);
+        long page2 = chunk.allocate(PAGE_SIZE);
+        long fourPages = chunk.allocate(4 * PAGE_SIZE);
+
+        assertEquals(0, chunk.offsetOf(twoPages));
+        // 한 페이지 런 두 개는 두 번째 2페이지 노드의 버디 쌍을 채움
+        assertEquals(2 * PAGE_SIZE, chunk.offsetOf(page1));
+        assertEquals(3 * PAGE_SIZE, chunk.offsetOf(page2));
+        assertEquals(4 * PAGE_SIZE, chunk.offsetOf(fourPages));
+        assertEquals(CHUNK_SIZE - 8 * PAGE_SIZE, chunk.freeBytes);
+    }
+
+    @Test
+    void freedBuddiesCoalesceIntoParentRun() {
+        long twoPages = chunk.allocate(2 * PAGE_SIZE);
+        long page1 = chunk.allocate(PAGE_SIZE);
+        long page2 = chunk.allocate(PAGE_SIZE);
+        long fourPages = chunk.allocate(4 * PAGE_SIZE);
+        long rest = chunk.allocate(CHUNK_SIZE / 2);
+        assertEquals(0, chunk.freeBytes);
+
+        // 버디 하나만 반환되면 2페이지 런은 아직 만들 수 없음
+        chunk.free(page1);
+        assertEquals(-1, chunk.allocate(2 * PAGE_SIZE));
+
+        // 두 버디가 모두 반환되면 부모 런으로 합쳐짐
+        chunk.free(page2);
+        long merged = chunk.allocate(2 * PAGE_SIZE);
+        assertNotEquals(-1, merged);
+        assertEquals(2 * PAGE_SIZE, chunk.offsetOf(merged));
+
+        chunk.free(merged);
+        chunk.free(twoPages);
+        chunk.free(fourPages);
+        chunk.free(rest);
+        assertEquals(CHUNK_SIZE, chunk.freeBytes);
+        // 모두 반환되면 루트까지 합쳐져 청크 전체를 다시 할당할 수 있음
+        assertEquals(1, chunk.allocate(CHUNK_SIZE));
+    }
+
+    @Test
+    void subpageHandleCarriesElementIndex() {
+        long first = chunk.allocate(64);
+        long second = arena.findSubpagePoolHead(64).next.allocate();
+
+        assertTrue((first & PoolSubpage.SUBPAGE_HANDLE_MARKER) != 0);
+        assertEquals(64, chunk.lengthOf(first));
+        assertEquals(chunk.offsetOf(first) + 64, chunk.offsetOf(second));
+        // 서브페이지는 페이지 하나를 통째로 차지함
+        assertEquals(CHUNK_SIZE - PAGE_SIZE, chunk.freeBytes);
+
+        chunk.free(first);
+        chunk.free(second);
+        // 풀에 남은 유일한 서브페이지는 다음 요청을 위해 페이지를 유지함
+        assertEquals(CHUNK_SIZE - PAGE_SIZE, chunk.freeBytes);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 서브페이지 비트맵이 원소를 할당/반환하고 아레나 풀에 올바르게 걸리고 빠지는지 검증합니다.
+ */
+class PoolSubpageTest {
+
+    private static final int PAGE_SIZE = 8192;
+
+    private PoolSubpage<byte[]> head;
+
+    @BeforeEach
+    void setUp() {
+        head = new PoolSubpage<>(PAGE_SIZE);
+    }
+
+    private PoolSubpage<byte[]> newSubpage(int memoryMapIdx, int runOffset, int elemSize) {
+        return new PoolSubpage<>(head, null, memoryMapIdx, runOffset, PAGE_SIZE, elemSize);
+    }
+
+    private static int bitmapIdx(long handle) {
+        return (int) (handle >>> 32) & 0x3FFFFFFF;
+    }
+
+    @Test
+    void allocatesElementsInOrderUntilFull() {
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 64);
+        assertSame(subpage, head.next);
+
+        int maxNumElems = PAGE_SIZE / 64;
+        for (int i = 0; i < maxNumElems; i++) {
+            long handle = subpage.allocate();
+            assertEquals(i, bitmapIdx(handle));
+            assertEquals(16, (int) handle);
+            assertEquals(i * 64, subpage.offsetOf(bitmapIdx(handle)));
+        }
+        // 가득 차면 풀에서 빠지고 더 할당하지 않음
+        assertSame(head, head.next);
+        assertEquals(-1, subpage.allocate());
+    }
+
+    @Test
+    void freedElementIsReusedFirst() {
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 64);
+        for (int i = 0; i < PAGE_SIZE / 64; i++) {
+            subpage.allocate();
+        }
+
+        // 가득 찬 서브페이지에서 원소가 반환되면 다시 풀에 걸림
+        assertTrue(subpage.free(head, 70));
+        assertSame(subpage, head.next);
+        assertEquals(70, bitmapIdx(subpage.allocate()));
+        assertSame(head, head.next);
+    }
+
+    @Test
+    void searchesBitmapAcrossWords() {
+        // 16바이트 원소는 512개이므로 비트맵 워드 8개를 사용
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 16);
+        for (int i = 0; i < 100; i++) {
+            subpage.allocate();
+        }
+        subpage.free(head, 3);
+        subpage.free(head, 70);
+
+        // 마지막으로 반환된 원소를 먼저 쓰고, 그다음은 비트맵에서 가장 앞의 빈 비트를 찾음
+        assertEquals(70, bitmapIdx(subpage.allocate()));
+        assertEquals(3, bitmapIdx(subpage.allocate()));
+        assertEquals(100, bitmapIdx(subpage.allocate()));
+    }
+
+    @Test
+    void onlySubpageInPoolIsKeptWhenEmpty() {
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 64);
+        long handle = subpage.allocate();
+
+        assertTrue(subpage.free(head, bitmapIdx(handle)));
+        assertTrue(subpage.doNotDestroy);
+        assertSame(subpage, head.next);
+    }
+
+    @Test
+    void emptySubpageIsReleasedWhenPoolHasAnother() {
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 64);
+        PoolSubpage<byte[]> other = newSubpage(17, PAGE_SIZE, 64);
+        long handle = subpage.allocate();
+
+        // 다른 서브페이지가 풀에 있으므로 빈 페이지는 청크에 돌려줘야 함
+        assertFalse(subpage.free(head, bitmapIdx(handle)));
+        assertFalse(subpage.doNotDestroy);
+        assertSame(other, head.next);
+        assertSame(head, other.next);
+        assertEquals(-1, subpage.allocate());
+    }
+
+    @Test
+    void reinitWithNewElementSizeClearsBitmap() {
+        PoolSubpage<byte[]> subpage = newSubpage(16, 0, 64);
+        PoolSubpage<byte[]> other = newSubpage(17, PAGE_SIZE, 64);
+        subpage.free(head, bitmapIdx(subpage.allocate()));
+
+        PoolSubpage<byte[]> head256 = new PoolSubpage<>(PAGE_SIZE);
+        subpage.init(head256, 256);
+        assertSame(subpage, head256.next);
+        assertSame(other, head.next);
+        for (int i = 0; i < PAGE_SIZE / 256; i++) {
+            assertEquals(i, bitmapIdx(subpage.allocate()));
+        }
+        assertEquals(-1, subpage.allocate());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.nionetty.util.concurrent.DefaultThreadFactory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * 스레드별 캐시가 이벤트 루프 스레드에만 만들어지고 스레드가 끝나면 해제되는지 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class PoolThreadCacheTest {
+
+    private static int threadCaches(PooledBufferAllocator allocator) {
+        int n = 0;
+        for (PoolArena<?> arena : allocator.heapArenas()) {
+            n += arena.numThreadCaches.get();
+        }
+        return n;
+    }
+
+    @Test
+    void plainThreadsAllocateWithoutCache() throws Exception {
+        PooledBufferAllocator allocator = new PooledBufferAllocator(2, 1, 8192, 4, 16);
+        for (int i = 0; i < 10; i++) {
+            // 작업마다 새 스레드: 캐시를 만들지 않고 버퍼 객체도 보관하지 않음
+            Thread t = new Thread(() -> allocator.heapBuffer(64).release());
+            t.start();
+            t.join();
+        }
+        assertEquals(0, threadCaches(allocator));
+        assertEquals(10, allocator.metric().numBufferInstances());
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void eventExecutorThreadReusesBufferAndFreesCacheOnExit() throws Exception {
+        PooledBufferAllocator allocator = new PooledBufferAllocator(2, 1, 8192, 4, 16);
+        AtomicReference<CustomBuffer> first = new AtomicReference<>();
+        AtomicReference<CustomBuffer> second = new AtomicReference<>();
+        AtomicReference<Integer> cachesWhileRunning = new AtomicReference<>();
+        Thread t = new DefaultThreadFactory("cacheTest").newThread(() -> {
+            CustomBuffer buf = allocator.heapBuffer(64);
+            first.set(buf);
+            buf.release();
+            buf = allocator.heapBuffer(64);
+            second.set(buf);
+            buf.release();
+            cachesWhileRunning.set(threadCaches(allocator));
+        });
+        t.start();
+        t.join();
+
+        // 해제된 버퍼 객체를 재사용하고, 스레드가 끝나면 아레나 배정이 되돌려짐
+        assertSame(first.get(), second.get());
+        assertEquals(1, allocator.metric().numBufferInstances());
+        assertEquals(1, cachesWhileRunning.get());
+        assertEquals(0, threadCaches(allocator));
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.nionetty.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.example.nionetty.util.concurrent.DefaultThreadFactory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * 정상 상태의 읽기 경로가 새 청크나 버퍼 객체를 만들지 않는다는 것을 할당 통계로 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class PooledBufferAllocatorTest {
+
+    private static final int READS = 1000;
+
+    @Test
+    void steadyStateReadsAllocateNothing() throws Exception {
+        PooledBufferAllocator allocator = new PooledBufferAllocator(1, 1, 8192, 4, 16);
+        PooledBufferAllocatorMetric metric = allocator.metric();
+        Pipe pipe = Pipe.open();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long[] warm = new long[3];
+        long[] steady = new long[3];
+
+        // 이벤트 루프 스레드처럼 스레드별 캐시가 있는 스레드에서 읽기 경로를 반복
+        Thread t = new DefaultThreadFactory("readTest").newThread(() -> {
+            try {
+                ByteBuffer payload = ByteBuffer.allocate(512);
+                readOnce(allocator, pipe, payload);
+                warm[0] = metric.numChunkAllocations();
+                warm[1] = metric.numBufferInstances();
+                warm[2] = metric.numAllocations();
+                for (int i = 0; i < READS; i++) {
+                    readOnce(allocator, pipe, payload);
+                }
+                steady[0] = metric.numChunkAllocations();
+                steady[1] = metric.numBufferInstances();
+                steady[2] = metric.numAllocations();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        t.start();
+        t.join();
+        pipe.sink().close();
+        pipe.source().close();
+
+        assertNull(failure.get());
+        // 읽기마다 할당은 일어나지만 새 청크 메모리나 버퍼 객체는 만들지 않음
+        assertEquals(warm[0], steady[0]);
+        assertEquals(warm[1], steady[1]);
+        assertEquals(warm[2] + READS, steady[2]);
+        assertEquals(0, metric.numActiveAllocations());
+    }
+
+    private static void readOnce(PooledBufferAllocator allocator, Pipe pipe, ByteBuffer payload) throws Exception {
+        payload.clear();
+        while (payload.hasRemaining()) {
+            pipe.sink().write(payload);
+        }
+        CustomBuffer buf = allocator.directBuffer(1024);
+        try {
+            int read = 0;
+            while (read < payload.capacity()) {
+                read += buf.writeBytes(pipe.source(), buf.writableBytes());
+            }
+            assertEquals(payload.capacity(), buf.readableBytes());
+        } finally {
+            buf.release();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.nionetty.channel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.nionetty.buffer.CompositeBuffer;
+import com.example.nionetty.buffer.CustomBuffer;
+import com.example.nionetty.buffer.PooledBufferAllocator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 송신 큐의 부분 전송 처리, 여러 메시지에 걸친 정리, 실패 처리와 워터마크에 따른 쓰기 가능 상태 전환을 검증합니다.
+ */
+class ChannelOutboundBufferTest {
+
+    private PooledBufferAllocator allocator;
+    private TestChannel channel;
+    private ChannelOutboundBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new PooledBufferAllocator(1, 1, 8192, 4, 0);
+        channel = new TestChannel();
+        buffer = channel.outboundBuffer;
+    }
+
+    private CustomBuffer msg(String s) {
+        byte[] data = s.getBytes(StandardCharsets.US_ASCII);
+        CustomBuffer buf = allocator.heapBuffer(Math.max(1, data.length));
+        buf.write(data);
+        return buf;
+    }
+
+    private ChannelFuture add(CustomBuffer msg) {
+        ChannelFuture future = new ChannelFuture().setChannel(channel);
+        buffer.addMessage(msg, future);
+        return future;
+    }
+
+    /**
+     * 소켓처럼 큐가 넘긴 배열로 gathering write 한 번을 수행하고, 기록된 만큼 큐를 정리합니다.
+     */
+    private long writeOnce(LimitedChannel out) throws Exception {
+        ByteBuffer[] nioBuffers = buffer.nioBuffers(1024, Long.MAX_VALUE);
+        long written = out.write(nioBuffers, 0, buffer.nioBufferCount());
+        buffer.removeBytes(written);
+        return written;
+    }
+
+    @Test
+    void partialWritesKeepProgress() throws Exception {
+        CustomBuffer hello = msg("hello");
+        CustomBuffer world = msg("world!");
+        ChannelFuture f1 = add(hello);
+        ChannelFuture f2 = add(world);
+        buffer.addFlush();
+        LimitedChannel out = new LimitedChannel(3);
+
+        assertEquals(3, writeOnce(out));
+        // 첫 메시지는 일부만 전송됨: 큐에 남고 읽기 인덱스만 이동
+        assertSame(hello, buffer.current());
+        assertEquals(2, hello.readableBytes());
+        assertFalse(f1.isDone());
+        assertEquals(11, buffer.totalPendingSize());
+
+        out.limit = 5;
+        assertEquals(5, writeOnce(out));
+        assertTrue(f1.isSuccess());
+        assertEquals(0, hello.refCnt());
+        assertSame(world, buffer.current());
+        assertEquals(3, world.readableBytes());
+        assertFalse(f2.isDone());
+        assertEquals(6, buffer.totalPendingSize());
+
+        while (!buffer.isEmpty()) {
+            writeOnce(out);
+        }
+        assertEquals("helloworld!", out.written());
+        assertTrue(f2.isSuccess());
+        assertEquals(0, world.refCnt());
+        assertEquals(0, buffer.totalPendingSize());
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void removeBytesSpansEntriesAndComposite() throws Exception {
+        CompositeBuffer composite = allocator.compositeBuffer().addComponents(msg("cd"), msg("ef"));
+        CustomBuffer empty = allocator.heapBuffer(1);
+        ChannelFuture f1 = add(msg("ab"));
+        ChannelFuture f2 = add(empty);
+        ChannelFuture f3 = add(composite);
+        ChannelFuture f4 = add(msg("gh"));
+        buffer.addFlush();
+
+        // 빈 메시지는 건너뛰고, composite는 구성 요소마다 배열 한 칸을 차지함
+        buffer.nioBuffers(1024, Long.MAX_VALUE);
+        assertEquals(4, buffer.nioBufferCount());
+        assertEquals(8, buffer.nioBufferSize());
+
+        LimitedChannel out = new LimitedChannel(3);
+        assertEquals(3, writeOnce(out));
+        // "ab"와 빈 메시지는 제거되고 composite는 첫 구성 요소 중간까지 전송됨
+        assertTrue(f1.isSuccess());
+        assertTrue(f2.isSuccess());
+        assertFalse(f3.isDone());
+        assertSame(composite, buffer.current());
+        assertEquals(3, composite.readableBytes());
+        assertEquals(2, buffer.size());
+
+        out.limit = 4;
+        assertEquals(4, writeOnce(out));
+        // composite의 구성 요소 경계를 넘어 다음 메시지 중간까지 전송됨
+        assertTrue(f3.isSuccess());
+        assertFalse(f4.isDone());
+        assertEquals(1, buffer.current().readableBytes());
+
+        writeOnce(out);
+        assertEquals("abcdefgh", out.written());
+        assertTrue(f4.isSuccess());
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.current());
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void failAllFailsFlushedAndUnflushedMessages() {
+        CustomBuffer flushedMsg = msg("flushed");
+        CustomBuffer unflushedMsg = msg("unflushed");
+        ChannelFuture f1 = add(flushedMsg);
+        buffer.addFlush();
+        ChannelFuture f2 = add(unflushedMsg);
+
+        ClosedChannelException cause = new ClosedChannelException();
+        buffer.failAll(cause);
+
+        assertSame(cause, f1.getCause());
+        assertSame(cause, f2.getCause());
+        assertEquals(0, flushedMsg.refCnt());
+        assertEquals(0, unflushedMsg.refCnt());
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.totalPendingSize());
+
+        // 비워진 큐는 다시 사용할 수 있음
+        CustomBuffer next = msg("next");
+        ChannelFuture f3 = add(next);
+        buffer.addFlush();
+        assertSame(next, buffer.current());
+        assertTrue(buffer.remove());
+        assertTrue(f3.isSuccess());
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    @Test
+    void writabilityFollowsWaterMarks() {
+        channel.config().setOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8, 16));
+        List<Boolean> events = new ArrayList<>();
+        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+                events.add(ctx.channel().isWritable());
+            }
+        });
+
+        add(msg("0123456789"));
+        assertTrue(channel.isWritable());
+        add(msg("0123456789"));
+        // high 워터마크(16)를 넘으면 쓰기 불가로 바뀜
+        assertFalse(channel.isWritable());
+        add(msg("0123456789"));
+        assertEquals(List.of(false), events);
+
+        buffer.addFlush();
+        buffer.removeBytes(10);
+        buffer.removeBytes(10);
+        // 10바이트가 남았지만 low 워터마크(8) 아래로 내려가기 전까지는 쓰기 불가 유지
+        assertEquals(10, buffer.totalPendingSize());
+        assertFalse(channel.isWritable());
+        assertEquals(List.of(false), events);
+
+        buffer.removeBytes(10);
+        assertTrue(channel.isWritable());
+        assertEquals(List.of(false, true), events);
+        assertEquals(0, allocator.metric().numActiveAllocations());
+    }
+
+    /**
+     * 송신 큐만 가진 테스트용 채널. 이벤트 루프가 없으므로 파이프라인 이벤트는 호출한 스레드에서 바로 실행됩니다.
+     */
+    private static final class TestChannel extends AbstractChannel {
+
+        final ChannelOutboundBuffer outboundBuffer = new ChannelOutboundBuffer(this);
+
+        TestChannel() {
+            super(new DefaultChannelId(), new DefaultChannelConfig());
+        }
+
+        @Override
+        public boolean isWritable() {
+            return outboundBuffer.isWritable();
+        }
+
+        @Override
+        public ChannelFuture bind(SocketAddress localAddress) {
+            return new ChannelFuture().setChannel(this).setSuccess();
+        }
+
+        @Override
+        public ChannelFuture close() {
+            return new ChannelFuture().setChannel(this).setSuccess();
+        }
+    }
+
+    /**
+     * 호출마다 최대 {@code limit} 바이트만 받아들이는 채널 (소켓의 부분 전송을 흉내 냄).
+     */
+    private static final class LimitedChannel implements GatheringByteChannel {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int limit;
+
+        LimitedChannel(int limit) {
+            this.limit = limit;
+        }
+
+        String written() {
+            return out.toString(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) {
+            long written = 0;
+            for (int i = offset; i < offset + length && written < limit; i++) {
+                ByteBuffer src = srcs[i];
+                int n = (int) Math.min(src.remaining(), limit - written);
+                for (int j = 0; j < n; j++) {
+                    out.write(src.get());
+                }
+                written += n;
+            }
+            return written;
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs) {
+            return write(srcs, 0, srcs.length);
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            return (int) write(new ByteBuffer[] {src});
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // 닫을 자원 없음
+        }
+    }
+}
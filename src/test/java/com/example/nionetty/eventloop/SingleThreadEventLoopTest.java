@@ -0,0 +1,110 @@
+package com.example.nionetty.eventloop;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+import java.nio.channels.SelectionKey;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link SingleThreadEventLoop}의 작업 실행, 종료 시 남은 작업 처리, 선택된 키 처리를 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class SingleThreadEventLoopTest {
+
+    @Test
+    void runsTasksAcceptedBeforeShutdown() throws Exception {
+        SingleThreadEventLoop loop = new SingleThreadEventLoop();
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        loop.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            loop.execute(ran::incrementAndGet);
+        }
+        loop.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> loop.execute(ran::incrementAndGet));
+        blocker.countDown();
+
+        assertTrue(loop.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(100, ran.get());
+        assertTrue(loop.shutdownNow().isEmpty());
+    }
+
+    @Test
+    void concurrentExecuteAndShutdownRunEveryAcceptedTask() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            SingleThreadEventLoop loop = new SingleThreadEventLoop();
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger ran = new AtomicInteger();
+            Thread producer = new Thread(() -> {
+                for (;;) {
+                    try {
+                        loop.execute(ran::incrementAndGet);
+                    } catch (RejectedExecutionException e) {
+                        return;
+                    }
+                    accepted.incrementAndGet();
+                    Thread.yield();
+                }
+            });
+            producer.start();
+            Thread.yield();
+            loop.shutdown();
+            producer.join();
+            assertTrue(loop.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(accepted.get(), ran.get());
+        }
+    }
+
+    @Test
+    void invokesHandlerAttachedToSelectedKey() throws Exception {
+        SingleThreadEventLoop loop = new SingleThreadEventLoop();
+        Pipe pipe = Pipe.open();
+        pipe.source().configureBlocking(false);
+        CountDownLatch read = new CountDownLatch(1);
+        Consumer<SelectionKey> handler = key -> {
+            ByteBuffer buf = ByteBuffer.allocate(16);
+            try {
+                if (pipe.source().read(buf) > 0) {
+                    read.countDown();
+                }
+            } catch (IOException e) {
+                key.cancel();
+            }
+        };
+        try {
+            // 셀렉터 등록은 루프 스레드에서 해야 select()와 경합하지 않음
+            loop.execute(() -> {
+                try {
+                    pipe.source().register(loop.selector(), SelectionKey.OP_READ, handler);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            pipe.sink().write(ByteBuffer.wrap(new byte[] { 1 }));
+            assertTrue(read.await(5, TimeUnit.SECONDS));
+        } finally {
+            loop.shutdown();
+            assertTrue(loop.awaitTermination(5, TimeUnit.SECONDS));
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.nionetty.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.example.nionetty.bootstrap.ServerBootstrap;
+import com.example.nionetty.channel.Channel;
+import com.example.nionetty.channel.ChannelFuture;
+import com.example.nionetty.channel.ChannelHandlerContext;
+import com.example.nionetty.channel.ChannelInboundHandlerAdapter;
+import com.example.nionetty.channel.ChannelInitializer;
+import com.example.nionetty.channel.nio.NioEventLoopGroup;
+import com.example.nionetty.channel.nio.NioServerSocketChannel;
+import com.example.nionetty.util.ReferenceCountUtil;
+import com.example.nionetty.util.concurrent.HashedWheelTimer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * 실제 {@link com.example.nionetty.channel.nio.NioEventLoop} 위에서 짧은 유휴 시간으로 {@link IdleStateHandler}의
+ * 이벤트 전달, 활동 후 재예약, 유휴 시 종료와 공유 타이머 경로를 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class IdleStateHandlerTest {
+
+    /** 이벤트를 기다리는 최대 시간(ms), 단일 CPU에서도 넉넉하도록 유휴 시간보다 훨씬 길게 둠 */
+    private static final long EVENT_WAIT_MS = 5000;
+
+    private NioEventLoopGroup bossGroup;
+    private NioEventLoopGroup workerGroup;
+    private Channel serverChannel;
+
+    /** 파이프라인 끝에서 받은 유휴 이벤트 */
+    private final BlockingQueue<IdleStateEvent> events = new LinkedBlockingQueue<>();
+
+    /** 이벤트가 채널의 이벤트 루프 밖에서 전달된 적이 있는지 여부 */
+    private final AtomicBoolean eventOutsideLoop = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bossGroup = new NioEventLoopGroup(1);
+        workerGroup = new NioEventLoopGroup(1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (serverChannel != null) {
+            serverChannel.close().sync();
+        }
+        bossGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync();
+        workerGroup.shutdownGracefully(0, 2, TimeUnit.SECONDS).sync();
+    }
+
+    /**
+     * 연결마다 새 {@link IdleStateHandler}와 이벤트 기록 핸들러를 둔 서버를 띄우고 포트를 반환합니다.
+     */
+    private int startServer(Supplier<IdleStateHandler> idleHandler) throws Exception {
+        ChannelFuture bound = new ServerBootstrap().group(bossGroup, workerGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(idleHandler.get());
+                        ch.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                ReferenceCountUtil.release(msg);
+                            }
+
+                            @Override
+                            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                                if (!ctx.channel().eventLoop().inEventLoop()) {
+                                    eventOutsideLoop.set(true);
+                                }
+                                events.add((IdleStateEvent) evt);
+                            }
+                        });
+                    }
+                }).bind(0).sync();
+        assertTrue(bound.isSuccess());
+        serverChannel = bound.channel();
+        return ((NioServerSocketChannel) serverChannel).getJavaChannel().socket().getLocalPort();
+    }
+
+    private IdleStateEvent nextEvent() throws InterruptedException {
+        return events.poll(EVENT_WAIT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void readerIdleFiresFirstThenRepeats() throws Exception {
+        int port = startServer(() -> new IdleStateHandler(100, 0, 0, TimeUnit.MILLISECONDS));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            assertSame(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT, nextEvent());
+            // 계속 유휴 상태이면 같은 종류의 후속 이벤트가 반복됨
+            assertSame(IdleStateEvent.READER_IDLE_STATE_EVENT, nextEvent());
+        }
+    }
+
+    @Test
+    void writerIdleFires() throws Exception {
+        int port = startServer(() -> new IdleStateHandler(0, 100, 0, TimeUnit.MILLISECONDS));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            assertSame(IdleStateEvent.FIRST_WRITER_IDLE_STATE_EVENT, nextEvent());
+            assertSame(IdleStateEvent.WRITER_IDLE_STATE_EVENT, nextEvent());
+        }
+    }
+
+    @Test
+    void allIdleFires() throws Exception {
+        int port = startServer(() -> new IdleStateHandler(0, 0, 100, TimeUnit.MILLISECONDS));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            assertSame(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT, nextEvent());
+        }
+    }
+
+    @Test
+    void readsRescheduleReaderIdle() throws Exception {
+        int port = startServer(() -> new IdleStateHandler(500, 0, 0, TimeUnit.MILLISECONDS));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            OutputStream out = socket.getOutputStream();
+            // 유휴 시간보다 짧은 간격으로 계속 보내는 동안에는 이벤트가 없어야 함
+            for (int i = 0; i < 10; i++) {
+                out.write('x');
+                out.flush();
+                Thread.sleep(100);
+            }
+            assertNull(events.poll());
+
+            long stopped = System.nanoTime();
+            assertSame(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT, nextEvent());
+            // 마지막 읽기부터 다시 유휴 시간을 채운 뒤에야 전달됨 (전송 지연을 감안해 약간 여유를 둠)
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stopped);
+            assertTrue(elapsedMs >= 350, "fired early: " + elapsedMs + "ms");
+
+            // 다시 읽으면 다음 이벤트는 다시 첫 이벤트가 됨
+            out.write('x');
+            out.flush();
+            assertSame(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT, nextEvent());
+        }
+    }
+
+    @Test
+    void closeOnIdleClosesChannel() throws Exception {
+        int port = startServer(() -> new IdleStateHandler(100, 0, 0, TimeUnit.MILLISECONDS, true));
+        try (Socket socket = new Socket("127.0.0.1", port)) {
+            socket.setSoTimeout((int) EVENT_WAIT_MS);
+            // 이벤트를 전달한 뒤 서버가 연결을 닫으므로 클라이언트는 EOF를 읽음
+            assertEquals(-1, socket.getInputStream().read());
+            assertSame(IdleStateEvent.FIRST_READER_IDLE_STATE_EVENT, events.poll());
+            // 닫힌 채널에는 더 이상 이벤트가 전달되지 않음
+            assertNull(events.poll(300, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void sharedTimerDeliversEventsOnEventLoop() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 16);
+        try {
+            int port = startServer(() -> new IdleStateHandler(timer, 100, 0, 0, TimeUnit.MILLISECONDS, false));
+            try (Socket first = new Socket("127.0.0.1", port); Socket second = new Socket("127.0.0.1", port)) {
+                // 두 연결이 하나의 타이머를 공유하며 각각 첫 이벤트를 받음 (후속 이벤트가 섞일 수 있음)
+                int firstEvents = 0;
+                while (firstEvents < 2) {
+                    IdleStateEvent evt = nextEvent();
+                    assertSame(IdleState.READER_IDLE, evt.state());
+                    if (evt.isFirst()) {
+                        firstEvents++;
+                    }
+                }
+                // 타이머 스레드에서 만료되어도 이벤트는 채널의 이벤트 루프에서 전달됨
+                assertFalse(eventOutsideLoop.get());
+            }
+        } finally {
+            timer.stop();
+        }
+    }
+}
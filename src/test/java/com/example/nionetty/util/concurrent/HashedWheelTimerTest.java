@@ -0,0 +1,180 @@
+package com.example.nionetty.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link HashedWheelTimer}의 바퀴 수 계산, 취소, 종료 동작을 검증합니다.
+ */
+@org.junit.jupiter.api.Timeout(value = 30, unit = TimeUnit.SECONDS)
+class HashedWheelTimerTest {
+
+    @Test
+    void expiresAfterMultipleRoundsNotEarly() throws Exception {
+        // 휠 4칸 x 10ms: 한 바퀴 40ms, 150ms 지연은 세 바퀴 이상 돌아야 만료
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 4);
+        try {
+            CountDownLatch fired = new CountDownLatch(1);
+            AtomicLong elapsedNanos = new AtomicLong();
+            long start = System.nanoTime();
+            timer.newTimeout(t -> {
+                elapsedNanos.set(System.nanoTime() - start);
+                fired.countDown();
+            }, 150, TimeUnit.MILLISECONDS);
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(elapsedNanos.get() >= TimeUnit.MILLISECONDS.toNanos(150),
+                    "expired early: " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos.get()) + "ms");
+            assertEquals(0, timer.pendingTimeouts());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void sameBucketDifferentRoundsExpireInDeadlineOrder() throws Exception {
+        // 20ms와 20ms + 한 바퀴(40ms)는 같은 칸에 들어가지만 남은 바퀴 수가 다름
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 4);
+        try {
+            List<String> order = new CopyOnWriteArrayList<>();
+            CountDownLatch fired = new CountDownLatch(2);
+            timer.newTimeout(t -> {
+                order.add("late");
+                fired.countDown();
+            }, 60, TimeUnit.MILLISECONDS);
+            timer.newTimeout(t -> {
+                order.add("early");
+                fired.countDown();
+            }, 20, TimeUnit.MILLISECONDS);
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("early", "late"), order);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void cancelBeforeTransferNeverRuns() throws Exception {
+        // 틱 간격을 길게 두어 첫 틱(버킷으로 옮기기) 전에 취소되게 함
+        HashedWheelTimer timer = new HashedWheelTimer(200, TimeUnit.MILLISECONDS, 8);
+        try {
+            AtomicBoolean ran = new AtomicBoolean();
+            Timeout timeout = timer.newTimeout(t -> ran.set(true), 1, TimeUnit.MILLISECONDS);
+            assertTrue(timeout.cancel());
+            assertFalse(timeout.cancel());
+            assertTrue(timeout.isCancelled());
+            assertFalse(timeout.isExpired());
+
+            // 다음 틱에서 취소가 처리되면 대기 수가 정확히 한 번만 줄어듦
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (timer.pendingTimeouts() != 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, timer.pendingTimeouts());
+            Thread.sleep(300);
+            assertFalse(ran.get());
+            assertEquals(0, timer.pendingTimeouts());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void cancelAfterTransferRemovesFromBucket() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        try {
+            AtomicBoolean ran = new AtomicBoolean();
+            Timeout timeout = timer.newTimeout(t -> ran.set(true), 200, TimeUnit.MILLISECONDS);
+            // 몇 틱이 지나 버킷에 들어간 뒤 취소
+            Thread.sleep(50);
+            assertTrue(timeout.cancel());
+            Thread.sleep(300);
+            assertFalse(ran.get());
+            assertEquals(0, timer.pendingTimeouts());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void stopReturnsUnexpiredUncancelledTimeouts() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        AtomicInteger runs = new AtomicInteger();
+        // 버킷에 들어간 예약
+        Timeout inBucket = timer.newTimeout(t -> runs.incrementAndGet(), 1, TimeUnit.HOURS);
+        Timeout cancelled = timer.newTimeout(t -> runs.incrementAndGet(), 1, TimeUnit.HOURS);
+        Thread.sleep(50);
+        cancelled.cancel();
+        // 아직 대기 큐에 있을 수 있는 예약
+        Timeout queued = timer.newTimeout(t -> runs.incrementAndGet(), 1, TimeUnit.HOURS);
+
+        Set<Timeout> unprocessed = timer.stop();
+        assertEquals(Set.of(inBucket, queued), unprocessed);
+        assertEquals(0, runs.get());
+
+        // 종료 후에는 예약할 수 없고, 다시 stop()하면 빈 집합
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(t -> { }, 1, TimeUnit.MILLISECONDS));
+        assertTrue(timer.stop().isEmpty());
+    }
+
+    @Test
+    void stopBeforeStartReturnsEmptySet() {
+        HashedWheelTimer timer = new HashedWheelTimer();
+        assertTrue(timer.stop().isEmpty());
+        assertThrows(IllegalStateException.class, () -> timer.newTimeout(t -> { }, 1, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void stopFromTimerTaskIsRejected() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        try {
+            CountDownLatch done = new CountDownLatch(1);
+            AtomicBoolean rejected = new AtomicBoolean();
+            timer.newTimeout(t -> {
+                try {
+                    t.timer().stop();
+                } catch (IllegalStateException e) {
+                    rejected.set(true);
+                }
+                done.countDown();
+            }, 1, TimeUnit.MILLISECONDS);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertTrue(rejected.get());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void expiredTasksRunOnTaskExecutor() throws Exception {
+        AtomicInteger submitted = new AtomicInteger();
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8, task -> {
+            submitted.incrementAndGet();
+            task.run();
+        });
+        try {
+            CountDownLatch fired = new CountDownLatch(3);
+            for (int i = 0; i < 3; i++) {
+                timer.newTimeout(t -> fired.countDown(), 20, TimeUnit.MILLISECONDS);
+            }
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertEquals(3, submitted.get());
+        } finally {
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.nionetty.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link MpscChunkedArrayQueue}의 순서 보장, 청크 경계, 용량 제한, 일괄 꺼내기 동작을 검증합니다.
+ */
+class MpscChunkedArrayQueueTest {
+
+    @Test
+    void pollsInFifoOrderAcrossChunkBoundaries() {
+        // 청크 크기 4: 10개를 넣으면 청크 3개에 걸침
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(4);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(10, queue.size());
+        assertEquals(0, queue.peek());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void interleavedOfferAndPollCrossChunkBoundaries() {
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(2);
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 100; round++) {
+            // 청크 크기보다 많이 넣고 일부만 꺼내 소비자가 청크 중간에서 경계를 넘게 함
+            for (int i = 0; i < 3; i++) {
+                queue.offer(next++);
+            }
+            for (int i = 0; i < 2; i++) {
+                assertEquals(expected++, queue.poll());
+            }
+        }
+        while (!queue.isEmpty()) {
+            assertEquals(expected++, queue.poll());
+        }
+        assertEquals(next, expected);
+    }
+
+    @Test
+    void rejectsNullElement() {
+        MpscChunkedArrayQueue<Object> queue = new MpscChunkedArrayQueue<>();
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    void boundedQueueRejectsOfferWhenFull() {
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(4, 6);
+        for (int i = 0; i < 6; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(6));
+        assertEquals(6, queue.size());
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(6));
+        assertFalse(queue.offer(7));
+        for (int i = 1; i <= 6; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void preservesPerProducerOrderWithConcurrentProducers() throws Exception {
+        assertPerProducerOrder(new MpscChunkedArrayQueue<>(16), 4, 50_000);
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void boundedQueuePreservesPerProducerOrderWithConcurrentProducers() throws Exception {
+        assertPerProducerOrder(new MpscChunkedArrayQueue<>(8, 32), 4, 20_000);
+    }
+
+    /**
+     * 여러 생산자가 (생산자 번호, 순번)을 넣는 동안 단일 소비자가 꺼내며, 생산자별로 순번이 빠짐없이 증가하는지 확인합니다.
+     * 제한 큐가 가득 차면 생산자는 다시 시도합니다.
+     */
+    private static void assertPerProducerOrder(MpscChunkedArrayQueue<long[]> queue, int producers,
+            int perProducer) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            final int id = p;
+            Thread t = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int seq = 0; seq < perProducer; seq++) {
+                    long[] element = { id, seq };
+                    while (!queue.offer(element)) {
+                        // CPU가 적은 환경에서도 소비자가 실행될 수 있도록 양보
+                        Thread.yield();
+                    }
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+        start.countDown();
+
+        long[] nextSeq = new long[producers];
+        int total = producers * perProducer;
+        int received = 0;
+        while (received < total) {
+            long[] element = queue.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int id = (int) element[0];
+            assertEquals(nextSeq[id], element[1], "producer " + id);
+            nextSeq[id]++;
+            received++;
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertTrue(queue.isEmpty());
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, nextSeq[p]);
+        }
+    }
+
+    @Test
+    void drainHonorsLimit() {
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(4);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(6, queue.drain(drained::add, 6));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(4, queue.size());
+        assertEquals(4, queue.drain(drained::add, 100));
+        assertEquals(0, queue.drain(drained::add, 100));
+        assertEquals(10, drained.size());
+    }
+
+    @Test
+    void drainConsumesUpToFailingElementWhenCallbackThrows() {
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(2);
+        for (int i = 0; i < 6; i++) {
+            queue.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> queue.drain(e -> {
+            if (e == 3) {
+                throw new IllegalStateException("boom");
+            }
+            drained.add(e);
+        }, 10));
+        assertEquals("boom", thrown.getMessage());
+        assertEquals(List.of(0, 1, 2), drained);
+
+        // 예외를 던진 원소까지는 소비되고, 남은 원소는 순서대로 다시 꺼낼 수 있음
+        assertEquals(2, queue.size());
+        assertEquals(4, queue.poll());
+        assertTrue(queue.offer(6));
+        assertEquals(5, queue.poll());
+        assertEquals(6, queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void toStringDoesNotIterate() {
+        MpscChunkedArrayQueue<Integer> queue = new MpscChunkedArrayQueue<>(4, 8);
+        queue.offer(1);
+        queue.offer(2);
+        assertEquals("MpscChunkedArrayQueue(size: 2, chunkSize: 4, capacity: 8)", queue.toString());
+        assertThrows(UnsupportedOperationException.class, queue::iterator);
+    }
+}
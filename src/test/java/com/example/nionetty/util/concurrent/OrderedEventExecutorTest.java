@@ -0,0 +1,63 @@
+package com.example.nionetty.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link OrderedEventExecutor}의 순서 보장과 공유 실행기 종료 시 작업 취소를 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class OrderedEventExecutorTest {
+
+    @Test
+    void runsTasksInOrderOnSharedExecutor() throws Exception {
+        ExecutorService shared = Executors.newCachedThreadPool();
+        try {
+            OrderedEventExecutor executor = new OrderedEventExecutor(shared);
+            List<Integer> order = new ArrayList<>();
+            FutureTask<Void> last = null;
+            for (int i = 0; i < 5_000; i++) {
+                int seq = i;
+                // 한 번에 하나씩만 실행되므로 동기화 없이 추가
+                last = new FutureTask<>(() -> order.add(seq), null);
+                executor.execute(last);
+            }
+            last.get(5, TimeUnit.SECONDS);
+            assertEquals(5_000, order.size());
+            for (int i = 0; i < order.size(); i++) {
+                assertEquals(i, order.get(i));
+            }
+        } finally {
+            shared.shutdown();
+        }
+    }
+
+    @Test
+    void cancelsQueuedFutureTasksWhenSharedExecutorRejects() {
+        ExecutorService shared = Executors.newSingleThreadExecutor();
+        shared.shutdown();
+        OrderedEventExecutor executor = new OrderedEventExecutor(shared);
+        FutureTask<Void> task = new FutureTask<>(() -> { }, null);
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+        // 버려진 작업은 취소되어 넘긴 쪽이 정리할 수 있음
+        assertTrue(task.isCancelled());
+
+        // 이후 작업도 같은 방식으로 거부되고 취소됨
+        FutureTask<Void> next = new FutureTask<>(() -> { }, null);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(next));
+        assertTrue(next.isCancelled());
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.nionetty.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ScheduledTaskQueue}의 힙 순서와 위치 기반 제거를 검증합니다.
+ */
+class ScheduledTaskQueueTest {
+
+    private static ScheduledFutureTask<Void> task(long deadlineNanos) {
+        return new ScheduledFutureTask<>(null, () -> { }, deadlineNanos, 0);
+    }
+
+    @Test
+    void pollsInDeadlineOrderAndFifoForEqualDeadlines() {
+        ScheduledTaskQueue queue = new ScheduledTaskQueue(0);
+        ScheduledFutureTask<Void> late = task(300);
+        ScheduledFutureTask<Void> first = task(100);
+        ScheduledFutureTask<Void> sameAsFirst = task(100);
+        ScheduledFutureTask<Void> middle = task(200);
+        queue.add(late);
+        queue.add(first);
+        queue.add(sameAsFirst);
+        queue.add(middle);
+
+        assertSame(first, queue.peek());
+        assertSame(first, queue.poll());
+        assertSame(sameAsFirst, queue.poll());
+        assertSame(middle, queue.poll());
+        assertSame(late, queue.poll());
+        assertNull(queue.poll());
+        assertEquals(ScheduledFutureTask.INDEX_NOT_IN_QUEUE, first.queueIndex());
+    }
+
+    @Test
+    void removesTasksAnywhereInHeap() {
+        ScheduledTaskQueue queue = new ScheduledTaskQueue(4);
+        List<ScheduledFutureTask<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ScheduledFutureTask<Void> t = task(i * 10L);
+            tasks.add(t);
+            queue.add(t);
+        }
+        // 루트, 중간, 마지막 원소 제거
+        assertTrue(queue.remove(tasks.get(0)));
+        assertTrue(queue.remove(tasks.get(5)));
+        assertTrue(queue.remove(tasks.get(9)));
+        assertFalse(queue.remove(tasks.get(5)));
+        assertEquals(7, queue.size());
+
+        long previous = Long.MIN_VALUE;
+        ScheduledFutureTask<?> t;
+        while ((t = queue.poll()) != null) {
+            assertTrue(t.deadlineNanos() > previous);
+            assertFalse(t == tasks.get(0) || t == tasks.get(5) || t == tasks.get(9));
+            previous = t.deadlineNanos();
+        }
+    }
+
+    @Test
+    void rejectsTaskAlreadyInQueue() {
+        ScheduledTaskQueue queue = new ScheduledTaskQueue(1);
+        ScheduledFutureTask<Void> t = task(1);
+        queue.add(t);
+        assertThrows(IllegalArgumentException.class, () -> queue.add(t));
+    }
+
+    @Test
+    void removeOfTaskFromAnotherQueueIsIgnored() {
+        ScheduledTaskQueue a = new ScheduledTaskQueue(2);
+        ScheduledTaskQueue b = new ScheduledTaskQueue(2);
+        ScheduledFutureTask<Void> inA = task(1);
+        ScheduledFutureTask<Void> inB = task(2);
+        a.add(inA);
+        b.add(inB);
+        // inB의 위치(0)는 a에서도 유효한 위치이지만 다른 작업이 있음
+        assertFalse(a.remove(inB));
+        assertEquals(1, a.size());
+        assertSame(inA, a.peek());
+    }
+
+    @Test
+    void clearReturnsAllTasksAndResetsIndexes() {
+        ScheduledTaskQueue queue = new ScheduledTaskQueue(2);
+        ScheduledFutureTask<Void> t1 = task(2);
+        ScheduledFutureTask<Void> t2 = task(1);
+        queue.add(t1);
+        queue.add(t2);
+        ScheduledFutureTask<?>[] cleared = queue.clear();
+        assertEquals(2, cleared.length);
+        assertTrue(queue.isEmpty());
+        assertEquals(ScheduledFutureTask.INDEX_NOT_IN_QUEUE, t1.queueIndex());
+        assertFalse(queue.remove(t1));
+        // 비운 뒤 다시 넣을 수 있음
+        queue.add(t1);
+        assertSame(t1, queue.poll());
+    }
+
+    @Test
+    void matchesPriorityQueueUnderRandomAddPollRemove() {
+        Random random = new Random(42);
+        ScheduledTaskQueue queue = new ScheduledTaskQueue(0);
+        PriorityQueue<ScheduledFutureTask<?>> reference = new PriorityQueue<>();
+        List<ScheduledFutureTask<?>> live = new ArrayList<>();
+        for (int op = 0; op < 20_000; op++) {
+            int r = random.nextInt(10);
+            if (r < 5 || live.isEmpty()) {
+                ScheduledFutureTask<Void> t = task(random.nextInt(1000));
+                queue.add(t);
+                reference.add(t);
+                live.add(t);
+            } else if (r < 7) {
+                ScheduledFutureTask<?> expected = reference.poll();
+                assertSame(expected, queue.poll());
+                live.remove(expected);
+            } else {
+                ScheduledFutureTask<?> victim = live.remove(random.nextInt(live.size()));
+                assertTrue(reference.remove(victim));
+                assertTrue(queue.remove(victim));
+            }
+            assertEquals(reference.size(), queue.size());
+            assertSame(reference.peek(), queue.peek());
+        }
+    }
+}
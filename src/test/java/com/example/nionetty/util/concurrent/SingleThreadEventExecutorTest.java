@@ -0,0 +1,150 @@
+package com.example.nionetty.util.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * {@link SingleThreadEventExecutor}의 실행 순서와 종료 동작을 검증합니다.
+ */
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+class SingleThreadEventExecutorTest {
+
+    @Test
+    void runsTasksOfEachProducerInOrderOnOneThread() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor(new DefaultThreadFactory("test", true));
+        int producers = 4;
+        int perProducer = 10_000;
+        int[] last = new int[producers];
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread t = new Thread(() -> {
+                for (int i = 1; i <= perProducer; i++) {
+                    int seq = i;
+                    executor.execute(() -> {
+                        // 실행기 스레드에서만 접근하므로 동기화 불필요
+                        if (last[id] + 1 != seq || !executor.inEventLoop()) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        last[id] = seq;
+                        done.countDown();
+                    });
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, outOfOrder.get());
+        assertFalse(executor.inEventLoop());
+        executor.shutdown();
+    }
+
+    @Test
+    void shutdownRunsAcceptedTasksAndRejectsNewOnes() throws Exception {
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor(new DefaultThreadFactory("test", true));
+        CountDownLatch blocker = new CountDownLatch(1);
+        AtomicInteger ran = new AtomicInteger();
+        executor.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            executor.execute(ran::incrementAndGet);
+        }
+        executor.shutdown();
+        assertTrue(executor.isShutdown());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(ran::incrementAndGet));
+
+        // 종료 전에 받아들인 작업은 모두 실행됨
+        blocker.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (ran.get() < 100 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(100, ran.get());
+    }
+
+    @Test
+    void shutdownBeforeStartRejectsWithoutStartingThread() {
+        AtomicInteger created = new AtomicInteger();
+        SingleThreadEventExecutor executor = new SingleThreadEventExecutor(r -> {
+            created.incrementAndGet();
+            return new Thread(r);
+        });
+        executor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(0, created.get());
+    }
+
+    @Test
+    void concurrentExecuteAndShutdownCompleteEveryAcceptedTask() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            SingleThreadEventExecutor executor = new SingleThreadEventExecutor(new DefaultThreadFactory("test", true));
+            List<FutureTask<Void>> accepted = new CopyOnWriteArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int p = 0; p < 2; p++) {
+                Thread t = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (;;) {
+                        FutureTask<Void> task = new FutureTask<>(() -> { }, null);
+                        try {
+                            executor.execute(task);
+                        } catch (RejectedExecutionException e) {
+                            return;
+                        }
+                        accepted.add(task);
+                        Thread.yield();
+                    }
+                });
+                producers.add(t);
+                t.start();
+            }
+            start.countDown();
+            // 라운드마다 시작 전/후 어느 쪽에서든 종료가 일어나게 함
+            if ((round & 1) == 0) {
+                Thread.yield();
+            }
+            executor.shutdown();
+            for (Thread t : producers) {
+                t.join();
+            }
+            // 받아들인 작업은 실행되거나 취소되어 모두 완료됨
+            for (FutureTask<Void> task : accepted) {
+                try {
+                    task.get(5, TimeUnit.SECONDS);
+                } catch (CancellationException e) {
+                    // 시작 전에 종료되어 취소됨
+                }
+            }
+        }
+    }
+}